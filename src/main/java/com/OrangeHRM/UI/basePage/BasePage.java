@@ -3,7 +3,6 @@ package com.OrangeHRM.UI.basePage;
 import java.time.Duration;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import com.OrangeHRM.UI.config.TestConfig;
 
@@ -27,9 +26,15 @@ public class BasePage {
             throw new IllegalArgumentException("WebDriver passed to BasePage is null. Ensure driver is initialized before creating page objects.");
         }
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, timeout);
-        PageFactory.initElements(driver, this);              // init @FindBy fields
-        this.commonMethods = new CommonMethods(driver, wait); // reusable UI helpers with shared wait
+        PageRegistry registry = PageRegistry.constructing(driver, timeout);
+        if (registry != null) {
+            this.wait = registry.sharedWait();                  // created by a PageRegistry - share its wait and helpers
+            this.commonMethods = registry.sharedCommonMethods();
+        } else {
+            this.wait = new WebDriverWait(driver, timeout);
+            this.commonMethods = new CommonMethods(driver, wait); // reusable UI helpers with shared wait
+        }
+        CachedPageFactory.initElements(driver, this);        // init @FindBy fields (locators scanned once per class)
     }
 
 }
\ No newline at end of file
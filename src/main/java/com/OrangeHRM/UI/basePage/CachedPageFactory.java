@@ -0,0 +1,137 @@
+package com.OrangeHRM.UI.basePage;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+/**
+ * CachedPageFactory - PageFactory.initElements with the field / locator scan done once per page class
+ *
+ * PageFactory.initElements walks the class hierarchy, checks every declared
+ * field and parses its @FindBy / @FindBys / @FindAll annotations into a By on
+ * every page construction. The result only depends on the class, so it is
+ * computed on first use and reused for every later instance.
+ *
+ * HOW IT WORKS:
+ * - First initElements() of a class: every WebElement field and every
+ *   List<WebElement> field with a locator annotation (the fields PageFactory
+ *   decorates) is made accessible and its By / @CacheLookup flag is built with
+ *   Selenium's own Annotations - same locators as PageFactory
+ * - Every initElements(): one DefaultElementLocator and one lazy proxy per
+ *   cached field (same proxies as DefaultFieldDecorator) - no reflection on
+ *   annotations, no hierarchy walk
+ *
+ * USAGE:
+ * CachedPageFactory.initElements(driver, this); // instead of PageFactory.initElements(driver, this)
+ */
+public final class CachedPageFactory {
+
+    private static final Map<Class<?>, List<ElementField>> FIELDS = new ConcurrentHashMap<>();
+    private static final Proxies PROXIES = new Proxies();
+
+    private CachedPageFactory() {
+    }
+
+    /**
+     * Locator metadata of one decorated field
+     */
+    private static final class ElementField extends AbstractAnnotations {
+        final Field field;
+        final boolean list;
+        final By by;
+        final boolean lookupCached;
+
+        ElementField(Field field, boolean list, By by, boolean lookupCached) {
+            this.field = field;
+            this.list = list;
+            this.by = by;
+            this.lookupCached = lookupCached;
+        }
+
+        @Override
+        public By buildBy() {
+            return by;
+        }
+
+        @Override
+        public boolean isLookupCached() {
+            return lookupCached;
+        }
+    }
+
+    // Exposes DefaultFieldDecorator's proxy builders
+    private static final class Proxies extends DefaultFieldDecorator {
+        Proxies() {
+            super(null);
+        }
+
+        Object proxy(ClassLoader loader, ElementLocator locator, boolean list) {
+            return list ? proxyForListLocator(loader, locator) : proxyForLocator(loader, locator);
+        }
+    }
+
+    /**
+     * Initialize the @FindBy fields of a page with lazy element proxies
+     *
+     * @param searchContext - Driver (or element) the locators search in
+     * @param page - Page object to initialize
+     */
+    public static void initElements(SearchContext searchContext, Object page) {
+        ClassLoader loader = page.getClass().getClassLoader();
+        for (ElementField element : FIELDS.computeIfAbsent(page.getClass(), CachedPageFactory::scan)) {
+            Object proxy = PROXIES.proxy(loader, new DefaultElementLocator(searchContext, element), element.list);
+            try {
+                element.field.set(page, proxy);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    // Same field selection as PageFactory + DefaultFieldDecorator, subclass fields first
+    private static List<ElementField> scan(Class<?> type) {
+        List<ElementField> fields = new ArrayList<>();
+        for (Class<?> declaring = type; declaring != null && declaring != Object.class; declaring = declaring.getSuperclass()) {
+            for (Field field : declaring.getDeclaredFields()) {
+                boolean element = WebElement.class.isAssignableFrom(field.getType());
+                if (!element && !isDecoratableList(field)) {
+                    continue;
+                }
+                Annotations annotations = new Annotations(field);
+                field.setAccessible(true);
+                fields.add(new ElementField(field, !element, annotations.buildBy(), annotations.isLookupCached()));
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    private static boolean isDecoratableList(Field field) {
+        if (!List.class.isAssignableFrom(field.getType())) {
+            return false;
+        }
+        Type generic = field.getGenericType();
+        if (!(generic instanceof ParameterizedType)
+                || !WebElement.class.equals(((ParameterizedType) generic).getActualTypeArguments()[0])) {
+            return false;
+        }
+        return field.getAnnotation(FindBy.class) != null || field.getAnnotation(FindBys.class) != null
+                || field.getAnnotation(FindAll.class) != null;
+    }
+}
@@ -3,6 +3,7 @@ package com.OrangeHRM.UI.basePage;
 import java.time.Duration;
 
 import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.interactions.Actions;
@@ -11,17 +12,32 @@ import org.openqa.selenium.logging.LogEntry;
 import org.openqa.selenium.logging.LogType;
 import org.openqa.selenium.support.ui.Select;
 
+import com.OrangeHRM.UI.config.TestConfig;
+import com.OrangeHRM.UI.utilities.AdaptiveTimeouts;
+import com.OrangeHRM.UI.utilities.AutocompleteSelector;
+import com.OrangeHRM.UI.utilities.BrowserEventCollector;
+import com.OrangeHRM.UI.utilities.BulkElementReader;
+import com.OrangeHRM.UI.utilities.CommandTransport;
+import com.OrangeHRM.UI.utilities.RetryPolicy;
+
+// Log4j2 imports
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 
 public class CommonMethods {
+	    private static final Logger logger = LogManager.getLogger(CommonMethods.class);
+
 	  private WebDriver driver;
 	    private WebDriverWait wait;
 
@@ -30,18 +46,71 @@ public class CommonMethods {
 	        this.wait = wait; // Use the shared wait from BasePage
 	    }
 
+	    // Run an explicit wait with the adaptive timeout of its site (kind + element locator)
+	    private <T> T until(String kind, WebElement element, ExpectedCondition<T> condition) {
+	        if (!TestConfig.ADAPTIVE_TIMEOUTS_ENABLED) {
+	            return wait.until(condition);
+	        }
+	        String site = element == null ? kind : kind + ":" + siteOf(element);
+	        return AdaptiveTimeouts.time(site, Duration.ofSeconds(TestConfig.EXPLICIT_WAIT),
+	                timeout -> new WebDriverWait(driver, timeout).until(condition));
+	    }
+
+	    // Stable name of an element's locator, without the session id of the driver
+	    private static String siteOf(WebElement element) {
+	        String description = String.valueOf(element);
+	        int locator = description.indexOf("DefaultElementLocator ");
+	        if (locator >= 0) {
+	            return description.substring(locator + "DefaultElementLocator ".length()); // PageFactory proxy
+	        }
+	        int arrow = description.indexOf("-> ");
+	        if (arrow >= 0) {
+	            return description.substring(arrow + 3, description.length() - (description.endsWith("]") ? 1 : 0));
+	        }
+	        return description;
+	    }
+
 	    // Wait for element to be visible
 	    public void waitForElementToBeVisible(WebElement element) {
-	        wait.until(ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)));
+	        until("visible", element, ExpectedConditions.refreshed(ExpectedConditions.visibilityOf(element)));
 	        highlightElement(element);
 	    }
 
 	    // Wait for element to be clickable
 	    public void waitForElementToBeClickable(WebElement element) {
-	        wait.until(ExpectedConditions.refreshed(ExpectedConditions.elementToBeClickable(element)));
+	        until("clickable", element, ExpectedConditions.refreshed(ExpectedConditions.elementToBeClickable(element)));
 	        highlightElement(element);
 	    }
 
+	    // Race several conditions - returns the first that holds (map order breaks ties within one poll)
+	    public <K> Outcome<K> waitForFirst(String site, Map<K, ExpectedCondition<?>> conditions) {
+	        Duration implicitWait = driver.manage().timeouts().getImplicitWaitTimeout();
+	        // Each poll must check every condition once - a missing element may not block for the implicit wait
+	        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+	        long start = System.nanoTime();
+	        try {
+	            return AdaptiveTimeouts.time("first:" + site, Duration.ofSeconds(TestConfig.EXPLICIT_WAIT),
+	                    timeout -> new WebDriverWait(driver, timeout)
+	                            .withMessage("none of " + conditions.keySet() + " (" + site + ")")
+	                            .until(d -> {
+	                                for (Map.Entry<K, ExpectedCondition<?>> condition : conditions.entrySet()) {
+	                                    Object value;
+	                                    try {
+	                                        value = condition.getValue().apply(d);
+	                                    } catch (NotFoundException | StaleElementReferenceException e) {
+	                                        continue; // Not there yet
+	                                    }
+	                                    if (value != null && !Boolean.FALSE.equals(value)) {
+	                                        return new Outcome<>(condition.getKey(), value, (System.nanoTime() - start) / 1_000_000);
+	                                    }
+	                                }
+	                                return null;
+	                            }));
+	        } finally {
+	            driver.manage().timeouts().implicitlyWait(implicitWait);
+	        }
+	    }
+
 	    // Click on element
 	    public void clickElement(WebElement element)  {
 	        waitForElementToBeClickable(element);
@@ -80,51 +149,55 @@ public class CommonMethods {
 	        try {
 	            Thread.sleep(500); // Highlight for 500 ms
 	        } catch (InterruptedException e) {
-	            e.printStackTrace();
+	            Thread.currentThread().interrupt();
 	        }
 	        executeJavaScript("arguments[0].setAttribute('style', arguments[1]);", element, originalStyle);
 	    }
 
 	    // Execute JavaScript
 	    public void executeJavaScript(String script, Object... args) {
-	        ((JavascriptExecutor) driver).executeScript(script, args);
+	        CommandTransport.of(driver).executeScript(script, args);
 	    }
 
 	    // Switch to frame by index
 	    public void switchToFrame(int index) {
 	        driver.switchTo().frame(index);
+	        CommandTransport.of(driver).enteredFrame();
 	    }
 
 	    // Switch to frame by name or ID
 	    public void switchToFrame(String nameOrId) {
 	        driver.switchTo().frame(nameOrId);
+	        CommandTransport.of(driver).enteredFrame();
 	    }
 
 	    // Switch to frame by WebElement
 	    public void switchToFrame(WebElement frameElement) {
 	        driver.switchTo().frame(frameElement);
+	        CommandTransport.of(driver).enteredFrame();
 	    }
 
 	    // Switch back to default content
 	    public void switchToDefaultContent() {
 	        driver.switchTo().defaultContent();
+	        CommandTransport.of(driver).leftFrames();
 	    }
 
 	    // Accept alert
 	    public void acceptAlert() {
-	        wait.until(ExpectedConditions.alertIsPresent());
+	        until("alert", null, ExpectedConditions.alertIsPresent());
 	        driver.switchTo().alert().accept();
 	    }
 
 	    // Dismiss alert
 	    public void dismissAlert() {
-	        wait.until(ExpectedConditions.alertIsPresent());
+	        until("alert", null, ExpectedConditions.alertIsPresent());
 	        driver.switchTo().alert().dismiss();
 	    }
 
 	    // Get alert text
 	    public String getAlertText() {
-	        wait.until(ExpectedConditions.alertIsPresent());
+	        until("alert", null, ExpectedConditions.alertIsPresent());
 	        return driver.switchTo().alert().getText();
 	    }
 
@@ -214,6 +287,7 @@ public class CommonMethods {
 	    public void switchToWindowByTitle(String title) {
 	        for (String handle : driver.getWindowHandles()) {
 	            driver.switchTo().window(handle);
+	            CommandTransport.of(driver).switchedToWindow(handle);
 	            if (driver.getTitle().equals(title)) {
 	                break;
 	            }
@@ -256,7 +330,7 @@ public class CommonMethods {
 	        try {
 	            Files.copy(screenshot.toPath(), new File(filePath).toPath());
 	        } catch (IOException e) {
-	            e.printStackTrace();
+	            logger.error("Failed to save element screenshot to {}: {}", filePath, e.getMessage());
 	        }
 	    }
 
@@ -290,59 +364,53 @@ public class CommonMethods {
 	        driver.manage().window().setPosition(new Point(-2000, 0));
 	    }
 
-	    // Print browser console logs
+	    // Print browser console logs - streamed BiDi events when collected, else the (Chromium only) browser log
 	    public void printBrowserConsoleLogs() {
+	        BrowserEventCollector collector = BrowserEventCollector.forCurrentThread();
+	        if (collector != null && collector.isActive()) {
+	            for (BrowserEventCollector.BrowserEvent event : collector.getEvents()) {
+	                logger.info("Browser event {} {}", new Date(event.getTimestamp()), event);
+	            }
+	            return;
+	        }
 	        LogEntries logs = driver.manage().logs().get(LogType.BROWSER);
 	        for (LogEntry entry : logs) {
-	            System.out.println(entry.getLevel() + " " + new Date(entry.getTimestamp()) + " " + entry.getMessage());
+	            logger.info("Browser console {} {} {}", entry.getLevel(), new Date(entry.getTimestamp()), entry.getMessage());
 	        }
 	    }
 
-	    // Retry clicking on an element
+	    // Retry clicking on an element - transient failures only, with jittered backoff
 	    public void retryClickElement(WebElement element, int attempts) {
-	        int retries = 0;
-	        while (retries < attempts) {
-	            try {
-	                clickElement(element);
-	                break;
-	            } catch (WebDriverException e) {
-	                retries++;
-	                if (retries == attempts) {
-	                    throw e;
-	                }
-	                try {
-	                    Thread.sleep(500); // Wait before retrying
-	                } catch (InterruptedException ex) {
-	                    ex.printStackTrace();
-	                }
-	            }
-	        }
+	        RetryPolicy.execute("click " + element, attempts, () -> {
+	            clickElement(element);
+	            return null;
+	        });
 	    }
 
 	    // Drag and drop from source to target
 	    public void dragAndDrop(WebElement sourceElement, WebElement targetElement) {
 	        highlightElement(sourceElement);
 	        highlightElement(targetElement);
-	        new Actions(driver).dragAndDrop(sourceElement, targetElement).perform();
+	        CommandTransport.of(driver).perform(new Actions(driver).dragAndDrop(sourceElement, targetElement));
 	    }
 
 	    // Double click on element
 	    public void doubleClickElement(WebElement element) {
 	        highlightElement(element);
-	        new Actions(driver).doubleClick(element).perform();
+	        CommandTransport.of(driver).perform(new Actions(driver).doubleClick(element));
 	    }
 
 
 	    // Right click on element
 	    public void rightClickElement(WebElement element) {
 	        highlightElement(element);
-	        new Actions(driver).contextClick(element).perform();
+	        CommandTransport.of(driver).perform(new Actions(driver).contextClick(element));
 	    }
 
 	    // Hover over element
 	    public void hoverOverElement(WebElement element) {
 	        highlightElement(element);
-	        new Actions(driver).moveToElement(element).perform();
+	        CommandTransport.of(driver).perform(new Actions(driver).moveToElement(element));
 	    }
 
 	    // Switch to new window
@@ -351,6 +419,7 @@ public class CommonMethods {
 	        for (String windowHandle : driver.getWindowHandles()) {
 	            if (!windowHandle.equals(originalWindow)) {
 	                driver.switchTo().window(windowHandle);
+	                CommandTransport.of(driver).switchedToWindow(windowHandle);
 	                break;
 	            }
 	        }
@@ -360,6 +429,7 @@ public class CommonMethods {
 	    public void closeCurrentWindowAndSwitchBack(String originalWindowHandle) {
 	        driver.close();
 	        driver.switchTo().window(originalWindowHandle);
+	        CommandTransport.of(driver).switchedToWindow(originalWindowHandle);
 	    }
 
 	    // Get element's location
@@ -376,26 +446,26 @@ public class CommonMethods {
 
 	    // Wait for element to contain text
 	    public void waitForElementToContainText(WebElement element, String text) {
-	        wait.until(ExpectedConditions.textToBePresentInElement(element, text));
+	        until("text", element, ExpectedConditions.textToBePresentInElement(element, text));
 	    }
 
 	    // Wait for element attribute value
 	    public void waitForElementAttributeValue(WebElement element, String attribute, String value) {
-	        wait.until(ExpectedConditions.attributeToBe(element, attribute, value));
+	        until("attribute:" + attribute, element, ExpectedConditions.attributeToBe(element, attribute, value));
 	    }
 
-	    // Get all options from dropdown
+	    // Get all options from dropdown - one script for all options
 	    public List<String> getAllOptionsFromDropdown(WebElement dropdown) {
 	        highlightElement(dropdown);
-	        Select select = new Select(dropdown);
-	        return select.getOptions().stream()
-	                .map(WebElement::getText)
+	        return BulkElementReader.readAll(driver, dropdown, By.tagName("option"), BulkElementReader.Projection.text())
+	                .stream()
+	                .map(BulkElementReader.ElementRecord::getText)
 	                .collect(Collectors.toList());
 	    }
 
 	    // Switch to alert and send keys
 	    public void switchToAlertAndSendKeys(String text) {
-	        wait.until(ExpectedConditions.alertIsPresent());
+	        until("alert", null, ExpectedConditions.alertIsPresent());
 	        driver.switchTo().alert().sendKeys(text);
 	    }
 
@@ -418,6 +488,7 @@ public class CommonMethods {
 	    public void switchToNestedFrame(WebElement parentFrame, WebElement childFrame) {
 	        driver.switchTo().frame(parentFrame);
 	        driver.switchTo().frame(childFrame);
+	        CommandTransport.of(driver).enteredFrame();
 	    }
 
 	    public void clickElementUsingJavaScript(WebElement element) throws InterruptedException {
@@ -449,55 +520,110 @@ public class CommonMethods {
 	    }
 
 	    public void waitForElementToBeEnabled(WebElement element) {
-	        wait.until(ExpectedConditions.refreshed(ExpectedConditions.elementToBeClickable(element)));
+	        until("clickable", element, ExpectedConditions.refreshed(ExpectedConditions.elementToBeClickable(element)));
 	    }
 
 	    public void waitForElementToBeDisabled(WebElement element) {
-	        wait.until(ExpectedConditions.refreshed(ExpectedConditions.not(ExpectedConditions.elementToBeClickable(element))));
+	        until("disabled", element, ExpectedConditions.refreshed(ExpectedConditions.not(ExpectedConditions.elementToBeClickable(element))));
 	    }
 
-	    // Select from dynamic dropdown
+	    // Select from dynamic dropdown - options located by PageFactory, matched and clicked inside the browser
 	    public void selectFromDynamicDropdown(WebElement dropdownElement, List<WebElement> dropdownOptions, String optionToSelect) {
 	        try {
 	            // Click on the dropdown element to reveal options
 	            clickElement(dropdownElement);
 
-	            new WebDriverWait(driver, Duration.ofSeconds(10)).until(driver -> dropdownOptions.size() > 0);
+	            AdaptiveTimeouts.time("options:" + siteOf(dropdownElement), Duration.ofSeconds(10),
+	                    timeout -> new WebDriverWait(driver, timeout).until(driver -> dropdownOptions.size() > 0));
 
-	            System.out.println("Dropdown options size: " + dropdownOptions.size());
-
-	            // Wait for options to be visible
-	            waitForElementToBeVisible(dropdownOptions.get(0));
-	            boolean optionFound = false;
-	            // Iterate through the list of options and select the matching one
-	            for (WebElement option : dropdownOptions) {
-	                System.out.println("Option text: [" + option.getText().trim() + "]");
-	                if (option.getText().trim().equalsIgnoreCase(optionToSelect.trim())) {
-	                    System.out.println("Dropdown option  is ready to click: "+option.getText());
-	                    clickElement(option);
-	                    System.out.println("Dropdown option  is clicked: "+option.getText());
-	                    optionFound = true;
-	                    break;
-	                }
+	            selectAutocompleteOption(dropdownElement, optionToSelect,
+	                    timeout -> AutocompleteSelector.select(driver, dropdownOptions, optionToSelect, timeout));
+	        } catch (NoSuchElementException e) {
+	            logger.warn("Dropdown or Option not found: {}", e.getMessage());
+	        } catch (StaleElementReferenceException e) {
+	            logger.warn("Element is no longer attached to the DOM: {}", e.getMessage());
+	        } catch (Exception e) {
+	            logger.warn("Exception occurred while selecting from dynamic dropdown: {}", e.getMessage());
+	        }
+	    }
 
-	            }
-	            // If the option was not found in the dropdown, enter it manually
-	            if (!optionFound) {
-	                System.out.println("Option not found in the list. Entering manually: " + optionToSelect);
-	             //   dropdownElement.clear();  // Clear the existing text
-	                dropdownElement.sendKeys(optionToSelect);  // Type the option manually
-	                dropdownElement.sendKeys(Keys.RETURN);  // Press Enter to confirm the input
-	            }
+	    // Select from dynamic dropdown - options located in the browser on every poll (no WebElement per option)
+	    public void selectFromDynamicDropdown(WebElement dropdownElement, By optionsLocator, String optionToSelect) {
+	        try {
+	            clickElement(dropdownElement);
+	            selectAutocompleteOption(dropdownElement, optionToSelect,
+	                    timeout -> AutocompleteSelector.select(driver, optionsLocator, optionToSelect, timeout));
 	        } catch (NoSuchElementException e) {
-	            System.out.println("Dropdown or Option not found: " + e.getMessage());
+	            logger.warn("Dropdown or Option not found: {}", e.getMessage());
 	        } catch (StaleElementReferenceException e) {
-	            System.out.println("Element is no longer attached to the DOM: " + e.getMessage());
+	            logger.warn("Element is no longer attached to the DOM: {}", e.getMessage());
 	        } catch (Exception e) {
-	            System.out.println("Exception occurred while selecting from dynamic dropdown: " + e.getMessage());
+	            logger.warn("Exception occurred while selecting from dynamic dropdown: {}", e.getMessage());
 	        }
 	    }
-	    
-	    
 
+	    // One async script finds and activates the option; typing + RETURN when it is not in the settled list,
+	    // the options did not settle, the script timed out or the options went stale twice (re-located once)
+	    private void selectAutocompleteOption(WebElement dropdownElement, String optionToSelect,
+	                                          AdaptiveTimeouts.TimedWait<AutocompleteSelector.Result> selection) {
+	        AutocompleteSelector.Result result = null;
+	        for (int attempt = 1; attempt <= 2 && result == null; attempt++) {
+	            try {
+	                result = AdaptiveTimeouts.time("autocomplete:" + siteOf(dropdownElement), Duration.ofSeconds(10), timeout -> {
+	                    AutocompleteSelector.Result r = selection.await(timeout);
+	                    if (r.getStatus() == AutocompleteSelector.Status.TIMEOUT) {
+	                        throw new TimeoutException("Autocomplete options did not settle within " + timeout.toMillis() + " ms");
+	                    }
+	                    return r;
+	                });
+	            } catch (StaleElementReferenceException e) {
+	                // PageFactory option lists are located again on the next access
+	                logger.debug("Autocomplete options went stale (attempt {}): {}", attempt, e.getMessage());
+	            } catch (TimeoutException | ScriptTimeoutException e) {
+	                logger.debug("{}", e.getMessage());
+	                break;
+	            }
+	        }
+	        if (result != null && result.isSelected()) {
+	            logger.debug("Dropdown option is clicked: {} (of {} options)", result.getSelectedText(), result.getOptionCount());
+	            return;
+	        }
+	        // If the option was not found in the dropdown, enter it manually
+	        logger.debug("Option not found in the list. Entering manually: {}", optionToSelect);
+	        dropdownElement.sendKeys(optionToSelect);  // Type the option manually
+	        dropdownElement.sendKeys(Keys.RETURN);  // Press Enter to confirm the input
+	    }
+
+	    /**
+	     * Outcome of waitForFirst - which condition held first, its value and when
+	     */
+	    public static final class Outcome<K> {
+	        private final K key;
+	        private final Object value;
+	        private final long elapsedMillis;
+
+	        Outcome(K key, Object value, long elapsedMillis) {
+	            this.key = key;
+	            this.value = value;
+	            this.elapsedMillis = elapsedMillis;
+	        }
+
+	        public K getKey() {
+	            return key;
+	        }
 
+	        // Value the condition returned (e.g. the visible WebElement)
+	        public Object getValue() {
+	            return value;
+	        }
+
+	        public long getElapsedMillis() {
+	            return elapsedMillis;
+	        }
+
+	        @Override
+	        public String toString() {
+	            return key + " after " + elapsedMillis + " ms";
+	        }
+	    }
 }
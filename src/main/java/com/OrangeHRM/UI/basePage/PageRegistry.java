@@ -0,0 +1,136 @@
+package com.OrangeHRM.UI.basePage;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * PageRegistry - Page objects of one browser session, created on first access
+ *
+ * Building every page object up front costs a PageFactory scan, a WebDriverWait
+ * and a CommonMethods per page and test, although most tests use one or two
+ * pages. The registry creates a page the first time it is asked for and hands
+ * out the same instance for the rest of the session.
+ *
+ * HOW IT WORKS:
+ * - get(LoginPage.class) looks the page up by class; a missing page is created
+ *   through its (WebDriver) constructor, which is looked up once per class
+ * - All pages of a registry share one WebDriverWait and one CommonMethods
+ *   (BasePage takes them from the registry that is constructing it)
+ * - @FindBy fields are initialized by CachedPageFactory, so the field / locator
+ *   scan of a page class runs once per JVM
+ * - A registry belongs to one session and one thread (BaseTest keeps one per
+ *   leased BrowserSession) - it is not thread safe
+ *
+ * USAGE:
+ * PageRegistry pages = new PageRegistry(driver);
+ * pages.get(LoginPage.class).login("Admin", "admin123");
+ * pages.get(DashboardPage.class).isDashboardTitleVisible();
+ */
+public final class PageRegistry {
+
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<PageRegistry> CONSTRUCTING = new ThreadLocal<>();
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private final Map<Class<?>, BasePage> pages = new HashMap<>();
+    private WebDriverWait wait;
+    private CommonMethods commonMethods;
+
+    public PageRegistry(WebDriver driver) {
+        this(driver, Duration.ofSeconds(TestConfig.EXPLICIT_WAIT));
+    }
+
+    public PageRegistry(WebDriver driver, Duration timeout) {
+        if (driver == null) {
+            throw new IllegalArgumentException("WebDriver passed to PageRegistry is null. Ensure driver is initialized before creating page objects.");
+        }
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Get the page object of the session - created on first access
+     *
+     * @param type - Page class with a (WebDriver) constructor
+     * @return T - The session's instance of the page
+     */
+    public <T extends BasePage> T get(Class<T> type) {
+        BasePage page = pages.get(type);
+        if (page == null) {
+            page = create(type);
+            pages.put(type, page);
+        }
+        return type.cast(page);
+    }
+
+    /**
+     * @return int - Number of page objects created so far
+     */
+    public int size() {
+        return pages.size();
+    }
+
+    /**
+     * Registry creating a page on the current thread, if it serves this driver and timeout
+     */
+    static PageRegistry constructing(WebDriver driver, Duration timeout) {
+        PageRegistry registry = CONSTRUCTING.get();
+        return registry != null && registry.driver == driver && registry.timeout.equals(timeout) ? registry : null;
+    }
+
+    WebDriverWait sharedWait() {
+        if (wait == null) {
+            wait = new WebDriverWait(driver, timeout);
+        }
+        return wait;
+    }
+
+    CommonMethods sharedCommonMethods() {
+        if (commonMethods == null) {
+            commonMethods = new CommonMethods(driver, sharedWait());
+        }
+        return commonMethods;
+    }
+
+    private <T extends BasePage> T create(Class<T> type) {
+        Constructor<?> constructor = CONSTRUCTORS.computeIfAbsent(type, PageRegistry::constructorOf);
+        PageRegistry outer = CONSTRUCTING.get();
+        CONSTRUCTING.set(this);
+        try {
+            return type.cast(constructor.newInstance(driver));
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to create page " + type.getName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create page " + type.getName(), e);
+        } finally {
+            if (outer == null) {
+                CONSTRUCTING.remove();
+            } else {
+                CONSTRUCTING.set(outer);
+            }
+        }
+    }
+
+    private static Constructor<?> constructorOf(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor(WebDriver.class);
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Page " + type.getName() + " needs a constructor taking the WebDriver", e);
+        }
+    }
+}
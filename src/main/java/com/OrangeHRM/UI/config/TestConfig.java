@@ -60,10 +60,13 @@ public class TestConfig {
     public static final int EXPLICIT_WAIT = Integer.parseInt(properties.getProperty("explicitWait", "30"));
     public static final int IMPLICIT_WAIT = Integer.parseInt(properties.getProperty("implicitWait", "10"));
     public static final int PAGE_LOAD_TIMEOUT = Integer.parseInt(properties.getProperty("pageLoadTimeout", "30"));
+    public static final int SCRIPT_TIMEOUT = Integer.parseInt(properties.getProperty("scriptTimeout", "30"));
     
     // Browser Settings
     public static final String BROWSER = properties.getProperty("browser", "chrome");
     public static final boolean HEADLESS = Boolean.parseBoolean(properties.getProperty("headless", "false"));
+    // process = new browser per test, context = one browser per worker thread, BiDi user context per test
+    public static final String BROWSER_ISOLATION = System.getProperty("browserIsolation", properties.getProperty("browserIsolation", "process"));
     public static final boolean MAXIMIZE_WINDOW = Boolean.parseBoolean(properties.getProperty("windowMaximize", "true"));
     
     // Test Data
@@ -76,6 +79,7 @@ public class TestConfig {
     
     // Report Settings
     public static final String REPORT_PATH = properties.getProperty("reportPath", "target/test-reports/");
+    public static final String FAILURE_LOG_PATH = properties.getProperty("failureLogPath", "test-output/logs/failures/");
     
     // Extent Report Settings
     public static final String EXTENT_REPORT_PATH = properties.getProperty("extentReportPath", "target/extent-reports/");
@@ -84,4 +88,78 @@ public class TestConfig {
     public static final String EXTENT_REPORT_DOCUMENT_TITLE = properties.getProperty("extentReportDocumentTitle", "OrangeHRM Automation Test Results");
     public static final String EXTENT_REPORT_THEME = properties.getProperty("extentReportTheme", "standard");
     public static final String EXTENT_REPORT_TIME_STAMP_FORMAT = properties.getProperty("extentReportTimeStampFormat", "MMM dd, yyyy HH:mm:ss");
+    
+    // Test Scheduling Settings (duration history + longest-first ordering)
+    public static final boolean TEST_HISTORY_ENABLED = Boolean.parseBoolean(properties.getProperty("testHistoryEnabled", "true"));
+    public static final String TEST_HISTORY_PATH = properties.getProperty("testHistoryPath", "test-output/test-history/");
+    public static final double TEST_HISTORY_FAILURE_BOOST = Double.parseDouble(properties.getProperty("testHistoryFailureBoost", "2.0"));
+    public static final int TEST_HISTORY_FAILURE_WINDOW = Integer.parseInt(properties.getProperty("testHistoryFailureWindow", "3"));
+    
+    // Retry Settings (step level + test level)
+    public static final long RETRY_BASE_DELAY_MILLIS = Long.parseLong(properties.getProperty("retryBaseDelayMillis", "250"));
+    public static final long RETRY_MAX_DELAY_MILLIS = Long.parseLong(properties.getProperty("retryMaxDelayMillis", "4000"));
+    public static final int STEP_RETRY_BUDGET = Integer.parseInt(properties.getProperty("stepRetryBudget", "200"));
+    public static final int TEST_RETRY_MAX_ATTEMPTS = Integer.parseInt(properties.getProperty("testRetryMaxAttempts", "1"));
+    public static final int TEST_RETRY_BUDGET = Integer.parseInt(properties.getProperty("testRetryBudget", "5"));
+    
+    // Adaptive Timeout Settings (explicit waits + page load tuned from observed latency, capped by the values above)
+    public static final boolean ADAPTIVE_TIMEOUTS_ENABLED = Boolean.parseBoolean(System.getProperty("adaptiveTimeoutsEnabled", properties.getProperty("adaptiveTimeoutsEnabled", "true")));
+    public static final double ADAPTIVE_TIMEOUT_PERCENTILE = Double.parseDouble(properties.getProperty("adaptiveTimeoutPercentile", "99"));
+    public static final double ADAPTIVE_TIMEOUT_MULTIPLIER = Double.parseDouble(properties.getProperty("adaptiveTimeoutMultiplier", "3.0"));
+    public static final long ADAPTIVE_TIMEOUT_MARGIN_MILLIS = Long.parseLong(properties.getProperty("adaptiveTimeoutMarginMillis", "1000"));
+    public static final long ADAPTIVE_TIMEOUT_FLOOR_MILLIS = Long.parseLong(properties.getProperty("adaptiveTimeoutFloorMillis", "2000"));
+    public static final int ADAPTIVE_TIMEOUT_MIN_SAMPLES = Integer.parseInt(properties.getProperty("adaptiveTimeoutMinSamples", "20"));
+    
+    // Form Fill Settings (events = value setter + input/change events, keystrokes = real key events for every field)
+    public static final String FORM_FILL_MODE = System.getProperty("formFillMode", properties.getProperty("formFillMode", "events"));
+    
+    // Command Transport Settings (classic = HTTP per command, bidi = script / navigation / input / screenshot over the BiDi WebSocket)
+    public static final String COMMAND_TRANSPORT = System.getProperty("commandTransport", properties.getProperty("commandTransport", "classic"));
+    
+    // Driver HTTP Client Settings (pooled = keep-alive connection pool shared by all sessions, default = Selenium's JDK client)
+    public static final String HTTP_CLIENT = System.getProperty("httpClient", properties.getProperty("httpClient", "default"));
+    public static final int HTTP_CONNECT_TIMEOUT_SECONDS = Integer.parseInt(properties.getProperty("httpConnectTimeoutSeconds", "10"));
+    public static final int HTTP_READ_TIMEOUT_SECONDS = Integer.parseInt(properties.getProperty("httpReadTimeoutSeconds", "180"));
+    public static final int HTTP_MAX_IDLE_CONNECTIONS_PER_ROUTE = Integer.parseInt(properties.getProperty("httpMaxIdleConnectionsPerRoute", "8"));
+    public static final long HTTP_KEEP_ALIVE_MILLIS = Long.parseLong(properties.getProperty("httpKeepAliveMillis", "30000"));
+    
+    // I/O Executor Settings (screenshots, failure logs, report flushes written off the test threads)
+    public static final boolean IO_EXECUTOR_ENABLED = Boolean.parseBoolean(properties.getProperty("ioExecutorEnabled", "true"));
+    public static final int IO_EXECUTOR_MAX_CONCURRENCY = Integer.parseInt(properties.getProperty("ioExecutorMaxConcurrency", "8"));
+    public static final int IO_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = Integer.parseInt(properties.getProperty("ioExecutorShutdownTimeoutSeconds", "120"));
+    
+    // Session Admission Settings (new browsers start only while memory, CPU load and browser RSS are below the limits)
+    public static final boolean ADMISSION_CONTROL_ENABLED = Boolean.parseBoolean(System.getProperty("admissionControlEnabled", properties.getProperty("admissionControlEnabled", "false")));
+    public static final int ADMISSION_MAX_SESSIONS = Integer.parseInt(System.getProperty("admissionMaxSessions", properties.getProperty("admissionMaxSessions", "0")));
+    public static final long ADMISSION_MIN_FREE_MEMORY_MB = Long.parseLong(properties.getProperty("admissionMinFreeMemoryMb", "1024"));
+    public static final double ADMISSION_MAX_CPU_LOAD = Double.parseDouble(properties.getProperty("admissionMaxCpuLoad", "0.85"));
+    public static final long ADMISSION_MAX_BROWSER_RSS_MB = Long.parseLong(properties.getProperty("admissionMaxBrowserRssMb", "0"));
+    public static final long ADMISSION_POLL_MILLIS = Long.parseLong(properties.getProperty("admissionPollMillis", "500"));
+    public static final int ADMISSION_MAX_WAIT_SECONDS = Integer.parseInt(properties.getProperty("admissionMaxWaitSeconds", "60"));
+    
+    // Process Watchdog Settings (hard test / command timeouts, driver + browser process trees killed, orphans of earlier runs reaped)
+    public static final boolean WATCHDOG_ENABLED = Boolean.parseBoolean(System.getProperty("watchdogEnabled", properties.getProperty("watchdogEnabled", "true")));
+    public static final int WATCHDOG_TEST_TIMEOUT_SECONDS = Integer.parseInt(properties.getProperty("watchdogTestTimeoutSeconds", "900"));
+    public static final int WATCHDOG_COMMAND_TIMEOUT_SECONDS = Integer.parseInt(properties.getProperty("watchdogCommandTimeoutSeconds", "120"));
+    public static final String WATCHDOG_PATH = properties.getProperty("watchdogPath", "test-output/watchdog/");
+    
+    // Browser Memory Settings (RSS / JS heap per test, leak suspects flagged, long-lived browsers recycled above the limits)
+    public static final boolean BROWSER_MEMORY_ENABLED = Boolean.parseBoolean(properties.getProperty("browserMemoryEnabled", "true"));
+    public static final long BROWSER_MEMORY_RECYCLE_RSS_MB = Long.parseLong(properties.getProperty("browserMemoryRecycleRssMb", "2048"));
+    public static final long BROWSER_MEMORY_RECYCLE_GROWTH_MB = Long.parseLong(properties.getProperty("browserMemoryRecycleGrowthMb", "512"));
+    public static final long BROWSER_MEMORY_LEAK_RSS_MB = Long.parseLong(properties.getProperty("browserMemoryLeakRssMb", "100"));
+    public static final double BROWSER_MEMORY_LEAK_HEAP_MB = Double.parseDouble(properties.getProperty("browserMemoryLeakHeapMb", "20"));
+    public static final int BROWSER_MEMORY_REPORT_TOP = Integer.parseInt(properties.getProperty("browserMemoryReportTop", "10"));
+    
+    // Browser Event Settings (console errors + failed requests streamed over WebDriver BiDi)
+    public static final boolean BROWSER_EVENTS_ENABLED = Boolean.parseBoolean(properties.getProperty("browserEventsEnabled", "true"));
+    public static final int BROWSER_EVENT_BUFFER_SIZE = Integer.parseInt(properties.getProperty("browserEventBufferSize", "200"));
+    public static final boolean FAIL_ON_JAVASCRIPT_ERRORS = Boolean.parseBoolean(properties.getProperty("failOnJavaScriptErrors", "false"));
+    
+    // Test Data Settings (empty seed = new seed per run; -DtestDataSeed overrides the file to replay a run)
+    public static final String TEST_DATA_SEED = System.getProperty("testDataSeed", properties.getProperty("testDataSeed", ""));
+    public static final String TEST_DATA_PACK_PATH = properties.getProperty("testDataPackPath", "target/test-data/");
+    public static final int COMBINATORIAL_STRENGTH = Integer.parseInt(System.getProperty("combinatorialStrength", properties.getProperty("combinatorialStrength", "0")));
+    public static final String COMBINATORIAL_REPORT_PATH = properties.getProperty("combinatorialReportPath", "test-output/combinatorial/");
+    public static final String TEST_ID_SHARD = System.getProperty("testIdShard", properties.getProperty("testIdShard", "0"));
 }
@@ -1,15 +1,41 @@
 package com.OrangeHRM.UI.pageObjects;
 
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
 import com.OrangeHRM.UI.basePage.BasePage;
+import com.OrangeHRM.UI.config.TestConfig;
+import com.OrangeHRM.UI.utilities.AdaptiveTimeouts;
+import com.OrangeHRM.UI.utilities.BulkElementReader;
+import com.OrangeHRM.UI.utilities.TabFanOut;
+
+// Log4j2 imports
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 /**
  * DashboardPage - Page Object Model for OrangeHRM Dashboard functionality
  */
 public class DashboardPage extends BasePage {
 
+    // Logger instance
+    private static final Logger logger = LogManager.getLogger(DashboardPage.class);
+
     // ==================== HEADER ELEMENTS ====================
     
     @FindBy(xpath = "//h6[text()='Dashboard']")
@@ -21,56 +47,87 @@ public class DashboardPage extends BasePage {
     @FindBy(xpath = "//input[@placeholder='Search']")
     private WebElement searchBox;
     
+    // ==================== MENU / WIDGET LOCATORS ====================
+    // Shared by the @FindBy fields below and the bulk reads - edit a locator only here
+    
+    private static final String ADMIN_MENU = "//a[contains(@href, 'admin')]//span[text()='Admin']";
+    private static final String PIM_MENU = "//a[contains(@href, 'pim')]//span[text()='PIM']";
+    private static final String LEAVE_MENU = "//a[contains(@href, 'leave')]//span[text()='Leave']";
+    private static final String TIME_MENU = "//a[contains(@href, 'time')]//span[text()='Time']";
+    private static final String RECRUITMENT_MENU = "//a[contains(@href, 'recruitment')]//span[text()='Recruitment']";
+    private static final String PERFORMANCE_MENU = "//a[contains(@href, 'performance')]//span[text()='Performance']";
+    private static final String DASHBOARD_MENU = "//a[contains(@href, 'dashboard')]//span[text()='Dashboard']";
+    private static final String DIRECTORY_MENU = "//a[contains(@href, 'directory')]//span[text()='Directory']";
+    private static final String MAINTENANCE_MENU = "//a[contains(@href, 'maintenance')]//span[text()='Maintenance']";
+    private static final String BUZZ_MENU = "//a[contains(@href, 'buzz')]//span[text()='Buzz']";
+
+    private static final String TIME_AT_WORK_WIDGET = "//p[text()='Time at Work']";
+    private static final String MY_ACTIONS_WIDGET = "//p[text()='My Actions']";
+    private static final String QUICK_LAUNCH_WIDGET = "//p[text()='Quick Launch']";
+    private static final String EMPLOYEES_ON_LEAVE_WIDGET = "//p[text()='Employees on Leave Today']";
+    private static final String EMPLOYEE_DISTRIBUTION_SUB_UNIT_WIDGET = "//p[text()='Employee Distribution by Sub Unit']";
+    private static final String EMPLOYEE_DISTRIBUTION_LOCATION_WIDGET = "//p[text()='Employee Distribution by Location']";
+
+    private static final String[] MAIN_MENU_LOCATORS = {
+        ADMIN_MENU, PIM_MENU, LEAVE_MENU, TIME_MENU, RECRUITMENT_MENU,
+        PERFORMANCE_MENU, DASHBOARD_MENU, DIRECTORY_MENU, MAINTENANCE_MENU, BUZZ_MENU
+    };
+
+    private static final String[] WIDGET_LOCATORS = {
+        TIME_AT_WORK_WIDGET, MY_ACTIONS_WIDGET, QUICK_LAUNCH_WIDGET,
+        EMPLOYEES_ON_LEAVE_WIDGET, EMPLOYEE_DISTRIBUTION_SUB_UNIT_WIDGET, EMPLOYEE_DISTRIBUTION_LOCATION_WIDGET
+    };
+    
     // ==================== MAIN MENU ITEMS ====================
     
-    @FindBy(xpath = "//a[contains(@href, 'admin')]//span[text()='Admin']")
+    @FindBy(xpath = ADMIN_MENU)
     private WebElement adminMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'pim')]//span[text()='PIM']")
+    @FindBy(xpath = PIM_MENU)
     private WebElement pimMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'leave')]//span[text()='Leave']")
+    @FindBy(xpath = LEAVE_MENU)
     private WebElement leaveMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'time')]//span[text()='Time']")
+    @FindBy(xpath = TIME_MENU)
     private WebElement timeMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'recruitment')]//span[text()='Recruitment']")
+    @FindBy(xpath = RECRUITMENT_MENU)
     private WebElement recruitmentMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'performance')]//span[text()='Performance']")
+    @FindBy(xpath = PERFORMANCE_MENU)
     private WebElement performanceMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'dashboard')]//span[text()='Dashboard']")
+    @FindBy(xpath = DASHBOARD_MENU)
     private WebElement dashboardMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'directory')]//span[text()='Directory']")
+    @FindBy(xpath = DIRECTORY_MENU)
     private WebElement directoryMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'maintenance')]//span[text()='Maintenance']")
+    @FindBy(xpath = MAINTENANCE_MENU)
     private WebElement maintenanceMenu;
     
-    @FindBy(xpath = "//a[contains(@href, 'buzz')]//span[text()='Buzz']")
+    @FindBy(xpath = BUZZ_MENU)
     private WebElement buzzMenu;
     
     // ==================== DASHBOARD WIDGETS ====================
     
-    @FindBy(xpath = "//p[text()='Time at Work']")
+    @FindBy(xpath = TIME_AT_WORK_WIDGET)
     private WebElement timeAtWorkWidget;
     
-    @FindBy(xpath = "//p[text()='My Actions']")
+    @FindBy(xpath = MY_ACTIONS_WIDGET)
     private WebElement myActionsWidget;
     
-    @FindBy(xpath = "//p[text()='Quick Launch']")
+    @FindBy(xpath = QUICK_LAUNCH_WIDGET)
     private WebElement quickLaunchWidget;
     
-    @FindBy(xpath = "//p[text()='Employees on Leave Today']")
+    @FindBy(xpath = EMPLOYEES_ON_LEAVE_WIDGET)
     private WebElement employeesOnLeaveWidget;
     
-    @FindBy(xpath = "//p[text()='Employee Distribution by Sub Unit']")
+    @FindBy(xpath = EMPLOYEE_DISTRIBUTION_SUB_UNIT_WIDGET)
     private WebElement employeeDistributionSubUnitWidget;
     
-    @FindBy(xpath = "//p[text()='Employee Distribution by Location']")
+    @FindBy(xpath = EMPLOYEE_DISTRIBUTION_LOCATION_WIDGET)
     private WebElement employeeDistributionLocationWidget;
     
     // ==================== QUICK LAUNCH ITEMS ====================
@@ -94,6 +151,14 @@ public class DashboardPage extends BasePage {
     private WebElement myTimesheetButton;
     
 
+    // Modules whose landing pages are read-only - safe to load side by side in tabs
+    private static final String[] READ_ONLY_MODULES = {
+        "Admin", "PIM", "Leave", "Time", "Recruitment", "Performance", "Directory", "Buzz", "Maintenance"
+    };
+
+    // Module header (Maintenance first shows the "Administrator Access" h6)
+    private static final By MODULE_HEADER = By.xpath("//h6");
+
     /**
      * Constructor - Initializes DashboardPage with WebDriver
      */
@@ -111,7 +176,7 @@ public class DashboardPage extends BasePage {
             commonMethods.waitForElementToBeVisible(dashboardTitle);
             return dashboardTitle.isDisplayed();
         } catch (Exception e) {
-            System.out.println("Dashboard title not found: " + e.getMessage());
+            logger.debug("Dashboard title not found: {}", e.getMessage());
             return false;
         }
     }
@@ -124,7 +189,7 @@ public class DashboardPage extends BasePage {
             commonMethods.waitForElementToBeVisible(dashboardTitle);
             return dashboardTitle.getText();
         } catch (Exception e) {
-            System.out.println("Error getting dashboard title: " + e.getMessage());
+            logger.warn("Error getting dashboard title: {}", e.getMessage());
             return "";
         }
     }
@@ -168,28 +233,24 @@ public class DashboardPage extends BasePage {
     // ==================== MENU VERIFICATION METHODS ====================
 
     /**
-     * Verify all main menu items are visible
+     * Verify all main menu items are visible (one bulk read instead of one call per menu)
      */
     public boolean areAllMainMenusVisible() {
-        try {
-            boolean adminVisible = adminMenu.isDisplayed();
-            boolean pimVisible = pimMenu.isDisplayed();
-            boolean leaveVisible = leaveMenu.isDisplayed();
-            boolean timeVisible = timeMenu.isDisplayed();
-            boolean recruitmentVisible = recruitmentMenu.isDisplayed();
-            boolean performanceVisible = performanceMenu.isDisplayed();
-            boolean dashboardVisible = dashboardMenu.isDisplayed();
-            boolean directoryVisible = directoryMenu.isDisplayed();
-            boolean maintenanceVisible = maintenanceMenu.isDisplayed();
-            boolean buzzVisible = buzzMenu.isDisplayed();
-            
-            return adminVisible && pimVisible && leaveVisible && timeVisible && 
-                   recruitmentVisible && performanceVisible && dashboardVisible && 
-                   directoryVisible && maintenanceVisible && buzzVisible;
-        } catch (Exception e) {
-            System.out.println("Error checking main menus: " + e.getMessage());
-            return false;
+        return allVisible(MAIN_MENU_LOCATORS, "main menus");
+    }
+
+    /**
+     * Get the names of the visible main menu items
+     */
+    public List<String> getVisibleMainMenuNames() {
+        List<String> names = new ArrayList<>();
+        for (BulkElementReader.ElementRecord menu : BulkElementReader.readAll(driver,
+                By.xpath(String.join(" | ", MAIN_MENU_LOCATORS)), BulkElementReader.Projection.text())) {
+            if (!menu.getText().isEmpty()) {
+                names.add(menu.getText());
+            }
         }
+        return names;
     }
 
     /**
@@ -232,29 +293,111 @@ public class DashboardPage extends BasePage {
         }
     }
 
+    /**
+     * Open the read-only modules in parallel tabs of this session and verify each one loaded
+     */
+    public Map<String, Boolean> verifyModulesInTabs() {
+        return verifyModulesInTabs(READ_ONLY_MODULES);
+    }
+
+    /**
+     * Open the given modules in parallel tabs of this session and verify each one loaded
+     * (header visible, not bounced to the login page). The loads overlap, so the total
+     * is close to the slowest module instead of the sum of all of them.
+     *
+     * @param modules - Main menu names, e.g. "Admin", "PIM"
+     * @return Map<String, Boolean> - Result per module, in the given order
+     */
+    public Map<String, Boolean> verifyModulesInTabs(String... modules) {
+        // Menu hrefs in one bulk read - the tabs are opened by URL, not by clicking
+        List<String> anchors = new ArrayList<>();
+        for (String module : modules) {
+            anchors.add("//a[.//span[text()='" + module + "']]");
+        }
+        URI base = URI.create(driver.getCurrentUrl());
+        Map<String, String> hrefs = new LinkedHashMap<>();
+        for (BulkElementReader.ElementRecord anchor : BulkElementReader.readAll(driver,
+                By.xpath(String.join(" | ", anchors)), BulkElementReader.Projection.text().withAttributes("href"))) {
+            String href = anchor.getAttribute("href");
+            if (href != null && !anchor.getText().isEmpty()) {
+                hrefs.put(anchor.getText(), base.resolve(href).toString());
+            }
+        }
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (String module : modules) {
+            if (hrefs.containsKey(module)) {
+                urls.put(module, hrefs.get(module));
+            } else {
+                logger.warn("Menu '{}' not found - not opened", module);
+            }
+        }
+
+        long start = System.nanoTime();
+        Map<String, Boolean> loaded = TabFanOut.fanOut(driver, urls, this::isModuleLoaded);
+        logger.info("{} modules verified in tabs in {} ms", loaded.size(), (System.nanoTime() - start) / 1_000_000);
+        Map<String, Boolean> results = new LinkedHashMap<>();
+        for (String module : modules) {
+            results.put(module, Boolean.TRUE.equals(loaded.get(module)));
+        }
+        return results;
+    }
+
+    // Runs in the module's tab - only waits for what the overlapping load has not finished yet
+    private boolean isModuleLoaded(WebDriver tab, String module) {
+        try {
+            return AdaptiveTimeouts.time("tab:" + module, Duration.ofSeconds(TestConfig.EXPLICIT_WAIT), timeout -> {
+                new WebDriverWait(tab, timeout).until(ExpectedConditions.visibilityOfElementLocated(MODULE_HEADER));
+                return !tab.getCurrentUrl().contains("/auth/login");
+            });
+        } catch (TimeoutException e) {
+            logger.debug("Module {} not loaded: {}", module, e.getMessage());
+            return false;
+        }
+    }
+
     // ==================== WIDGET VERIFICATION METHODS ====================
 
     /**
-     * Verify all dashboard widgets are visible
+     * Verify all dashboard widgets are visible (one bulk read instead of one call per widget)
      */
     public boolean areAllWidgetsVisible() {
+        return allVisible(WIDGET_LOCATORS, "widgets");
+    }
+
+    // Every locator must match a visible element - waits (widgets render after login), each poll is one union XPath read
+    private boolean allVisible(String[] locators, String description) {
+        By union = By.xpath(String.join(" | ", locators));
         try {
-            boolean timeAtWorkVisible = timeAtWorkWidget.isDisplayed();
-            boolean myActionsVisible = myActionsWidget.isDisplayed();
-            boolean quickLaunchVisible = quickLaunchWidget.isDisplayed();
-            boolean employeesOnLeaveVisible = employeesOnLeaveWidget.isDisplayed();
-            boolean employeeDistributionSubUnitVisible = employeeDistributionSubUnitWidget.isDisplayed();
-            boolean employeeDistributionLocationVisible = employeeDistributionLocationWidget.isDisplayed();
-            
-            return timeAtWorkVisible && myActionsVisible && quickLaunchVisible && 
-                   employeesOnLeaveVisible && employeeDistributionSubUnitVisible && 
-                   employeeDistributionLocationVisible;
+            Set<String> visible = AdaptiveTimeouts.time("dashboard:" + description, Duration.ofSeconds(TestConfig.EXPLICIT_WAIT),
+                    timeout -> new WebDriverWait(driver, timeout)
+                            .ignoring(StaleElementReferenceException.class)
+                            .ignoring(JavascriptException.class)
+                            .until(d -> {
+                                Set<String> texts = visibleTexts(union);
+                                return texts.size() >= locators.length ? texts : null;
+                            }));
+            logger.debug("Visible {}: {}", description, visible);
+            return true;
+        } catch (TimeoutException e) {
+            logger.debug("Not all {} visible: {}", description, e.getMessage());
+            return false;
         } catch (Exception e) {
-            System.out.println("Error checking widgets: " + e.getMessage());
+            logger.debug("Error checking {}: {}", description, e.getMessage());
             return false;
         }
     }
 
+    private Set<String> visibleTexts(By locator) {
+        Set<String> visible = new HashSet<>();
+        for (BulkElementReader.ElementRecord record : BulkElementReader.readAll(driver, locator,
+                BulkElementReader.Projection.text().withVisibility())) {
+            if (record.isVisible()) {
+                visible.add(record.getText());
+            }
+        }
+        return visible;
+    }
+
     /**
      * Verify Quick Launch widget is visible
      */
@@ -328,7 +471,7 @@ public class DashboardPage extends BasePage {
      * Verify complete dashboard functionality
      */
     public boolean verifyDashboardFunctionality() {
-        System.out.println("=== Verifying Dashboard Functionality ===");
+        logger.info("=== Verifying Dashboard Functionality ===");
         
         boolean titleVisible = isDashboardTitleVisible();
         boolean profileVisible = isUserProfileVisible();
@@ -336,11 +479,11 @@ public class DashboardPage extends BasePage {
         boolean menusVisible = areAllMainMenusVisible();
         boolean widgetsVisible = areAllWidgetsVisible();
         
-        System.out.println("Dashboard Title: " + (titleVisible ? "✓" : "✗"));
-        System.out.println("User Profile: " + (profileVisible ? "✓" : "✗"));
-        System.out.println("Search Box: " + (searchVisible ? "✓" : "✗"));
-        System.out.println("Main Menus: " + (menusVisible ? "✓" : "✗"));
-        System.out.println("Widgets: " + (widgetsVisible ? "✓" : "✗"));
+        logger.info("Dashboard Title: {}", titleVisible ? "✓" : "✗");
+        logger.info("User Profile: {}", profileVisible ? "✓" : "✗");
+        logger.info("Search Box: {}", searchVisible ? "✓" : "✗");
+        logger.info("Main Menus: {}", menusVisible ? "✓" : "✗");
+        logger.info("Widgets: {}", widgetsVisible ? "✓" : "✗");
         
         return titleVisible && profileVisible && searchVisible && menusVisible && widgetsVisible;
     }
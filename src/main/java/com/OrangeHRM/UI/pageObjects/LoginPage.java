@@ -1,11 +1,20 @@
 package com.OrangeHRM.UI.pageObjects;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import com.OrangeHRM.UI.basePage.BasePage;
+import com.OrangeHRM.UI.basePage.CommonMethods;
 import com.OrangeHRM.UI.config.TestConfig;
+import com.OrangeHRM.UI.utilities.FormFill;
 
 // Log4j2 imports
 import org.apache.logging.log4j.LogManager;
@@ -60,6 +69,28 @@ public class LoginPage extends BasePage {
     @FindBy(xpath = "//h6[text()='Dashboard']")
     private WebElement dashboardTitle;
 
+    @FindBy(xpath = "//span[contains(@class, 'oxd-input-field-error-message')]")
+    private WebElement fieldErrorMessage;
+
+    /**
+     * Outcome of a login attempt - decided by whichever signal appears first
+     */
+    public enum LoginOutcome {
+        /** Dashboard header shown */
+        SUCCESS,
+        /** "Invalid credentials" alert shown */
+        INVALID_CREDENTIALS,
+        /** Field validation message shown (e.g. "Required") - nothing was submitted */
+        VALIDATION_ERROR,
+        /** None of the signals within the timeout */
+        UNKNOWN
+    }
+
+    // Same locators as the fields above - FormFill evaluates them in the page (no WebElement lookups)
+    private static final By USERNAME_FIELD = By.name("username");
+    private static final By PASSWORD_FIELD = By.name("password");
+    private static final By LOGIN_BUTTON = By.xpath("//button[@type='submit']");
+
     /**
      * Constructor - Initializes LoginPage with WebDriver
      * OOP CONCEPT: Constructor - Initializes object state
@@ -112,9 +143,9 @@ public class LoginPage extends BasePage {
      * OOP CONCEPT: Abstraction - Hides complex implementation details
      * 
      * HOW IT WORKS:
-     * 1. Enter username and password
-     * 2. Click login button
-     * 3. Wait for page to load
+     * 1. Fill username + password and click login in one FormFill script
+     *    (waits for the form, sets values with input events, types on fallback)
+     * 2. Wait for the first outcome signal (dashboard, error alert, field error)
      * 
      * Note: Navigation is handled by BaseTest @BeforeMethod
      * 
@@ -126,20 +157,19 @@ public class LoginPage extends BasePage {
         logger.info("Username: {}", username);
         logger.debug("Password: *****"); // Don't log actual password
         
-        // Enter credentials
-        enterUsername(username);
-        enterPassword(password);
-        
-        // Click login button
-        clickLoginButton();
+        // Enter credentials and click login button
+        FormFill.on(driver, "login")
+                .field(USERNAME_FIELD, username)
+                .field(PASSWORD_FIELD, password)
+                .submit(LOGIN_BUTTON)
+                .fill();
         
-        // Wait for dashboard to load (indicates successful login)
-        try {
-            commonMethods.waitForElementToBeVisible(dashboardTitle);
+        // Decide the outcome as soon as the dashboard, the error alert or a field error appears
+        LoginOutcome outcome = awaitLoginOutcome();
+        if (outcome == LoginOutcome.SUCCESS) {
             logger.info("✓ Login successful - Dashboard loaded");
-        } catch (Exception e) {
-            // If dashboard doesn't appear, login might have failed
-            logger.error("Dashboard not found after login attempt: {}", e.getMessage());
+        } else {
+            logger.info("Login not successful: {}", outcome);
         }
         
         logger.info("=== Login Process Complete ===");
@@ -157,24 +187,48 @@ public class LoginPage extends BasePage {
         login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
     }
 
+    /**
+     * Wait for the outcome of a login attempt
+     * OOP CONCEPT: Abstraction - One decision point for all login checks
+     * 
+     * HOW IT WORKS:
+     * - Races the dashboard header, the error alert and field error messages
+     *   (CommonMethods.waitForFirst) and returns as soon as one of them is visible
+     * - An invalid login no longer waits the full timeout for a dashboard that
+     *   never appears, a valid one never waits for an error alert
+     * - Blocks up to the explicit wait when no signal shows - call it after
+     *   submitting; isErrorMessageDisplayed() / getErrorMessage() / verifyLoginFailure()
+     *   only check what is on the page now
+     * 
+     * @return LoginOutcome - First signal seen, UNKNOWN if none appeared in time
+     */
+    public LoginOutcome awaitLoginOutcome() {
+        Map<LoginOutcome, ExpectedCondition<?>> signals = new LinkedHashMap<>();
+        signals.put(LoginOutcome.SUCCESS, ExpectedConditions.visibilityOf(dashboardTitle));
+        signals.put(LoginOutcome.INVALID_CREDENTIALS, ExpectedConditions.visibilityOf(errorMessage));
+        signals.put(LoginOutcome.VALIDATION_ERROR, ExpectedConditions.visibilityOf(fieldErrorMessage));
+        try {
+            CommonMethods.Outcome<LoginOutcome> outcome = commonMethods.waitForFirst("loginOutcome", signals);
+            logger.debug("Login outcome: {}", outcome);
+            return outcome.getKey();
+        } catch (TimeoutException e) {
+            logger.debug("No login outcome signal: {}", e.getMessage());
+            return LoginOutcome.UNKNOWN;
+        }
+    }
+
     /**
      * Check if login was successful by verifying dashboard title
      * OOP CONCEPT: Encapsulation - Public method for external validation
      * 
      * HOW IT WORKS:
-     * - Waits for dashboard title to be visible
-     * - Returns true if dashboard is displayed
+     * - Waits for the first login outcome signal (awaitLoginOutcome)
+     * - Returns true if it is the dashboard title, false as soon as an error shows
      * 
      * @return true if login successful, false otherwise
      */
     public boolean isLoginSuccessful() {
-        try {
-            commonMethods.waitForElementToBeVisible(dashboardTitle);
-            return dashboardTitle.isDisplayed();
-        } catch (Exception e) {
-            System.out.println("Login failed: " + e.getMessage());
-            return false;
-        }
+        return awaitLoginOutcome() == LoginOutcome.SUCCESS;
     }
 
     /**
@@ -203,7 +257,7 @@ public class LoginPage extends BasePage {
                 return errorMessage.getText();
             }
         } catch (Exception e) {
-            System.out.println("Error getting error message: " + e.getMessage());
+            logger.warn("Error getting error message: {}", e.getMessage());
         }
         return "";
     }
@@ -259,13 +313,7 @@ public class LoginPage extends BasePage {
      * @return true if dashboard title is visible
      */
     public boolean verifyLoginSuccess() {
-        try {
-            commonMethods.waitForElementToBeVisible(dashboardTitle);
-            return dashboardTitle.isDisplayed();
-        } catch (Exception e) {
-            System.out.println("Dashboard not found: " + e.getMessage());
-            return false;
-        }
+        return awaitLoginOutcome() == LoginOutcome.SUCCESS;
     }
 
     /**
@@ -275,11 +323,7 @@ public class LoginPage extends BasePage {
      * @return true if error message is displayed
      */
     public boolean verifyLoginFailure() {
-        try {
-            return errorMessage.isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        return isErrorMessageDisplayed();
     }
 
 }
@@ -5,6 +5,10 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import com.OrangeHRM.UI.basePage.BasePage;
 
+// Log4j2 imports
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 /**
  * LogoutPage - Page Object Model for OrangeHRM Logout functionality only
  *
@@ -33,6 +37,9 @@ import com.OrangeHRM.UI.basePage.BasePage;
  */
 public class LogoutPage extends BasePage {
 
+    // Logger instance
+    private static final Logger logger = LogManager.getLogger(LogoutPage.class);
+
     // ==================== USER PROFILE DROPDOWN ELEMENTS ====================
     
     @FindBy(xpath = "//span[@class='oxd-userdropdown-tab']")
@@ -63,9 +70,9 @@ public class LogoutPage extends BasePage {
      * - Highlights element for visual feedback
      */
     public void clickUserProfileDropdown() {
-        System.out.println("Clicking user profile dropdown...");
+        logger.debug("Clicking user profile dropdown...");
         commonMethods.clickElement(userProfileDropdown);
-        System.out.println("✓ User profile dropdown clicked");
+        logger.debug("✓ User profile dropdown clicked");
     }
 
     /**
@@ -78,7 +85,7 @@ public class LogoutPage extends BasePage {
         try {
             return userProfileDropdown.isDisplayed();
         } catch (Exception e) {
-            System.out.println("User profile dropdown not visible: " + e.getMessage());
+            logger.debug("User profile dropdown not visible: {}", e.getMessage());
             return false;
         }
     }
@@ -90,9 +97,9 @@ public class LogoutPage extends BasePage {
      * OOP CONCEPT: Encapsulation - Public method for external interaction
      */
     public void clickLogout() {
-        System.out.println("Clicking Logout link...");
+        logger.debug("Clicking Logout link...");
         commonMethods.clickElement(logoutLink);
-        System.out.println("✓ Logout link clicked");
+        logger.debug("✓ Logout link clicked");
     }
 
     /**
@@ -105,7 +112,7 @@ public class LogoutPage extends BasePage {
      * 3. Wait for logout to complete
      */
     public void logout() {
-        System.out.println("=== Starting Logout Process ===");
+        logger.info("=== Starting Logout Process ===");
         
         // Step 1: Click user profile dropdown
         clickUserProfileDropdown();
@@ -113,7 +120,7 @@ public class LogoutPage extends BasePage {
         // Step 2: Click logout link
         clickLogout();
         
-        System.out.println("=== Logout Process Complete ===");
+        logger.info("=== Logout Process Complete ===");
     }
 
     /**
@@ -129,14 +136,14 @@ public class LogoutPage extends BasePage {
             boolean isLoginPage = currentURL.contains("login");
             
             if (isLoginPage) {
-                System.out.println("✓ Logout successful - redirected to login page");
+                logger.info("✓ Logout successful - redirected to login page");
             } else {
-                System.out.println("✗ Logout failed - still on: " + currentURL);
+                logger.warn("✗ Logout failed - still on: {}", currentURL);
             }
             
             return isLoginPage;
         } catch (Exception e) {
-            System.out.println("Error checking logout: " + e.getMessage());
+            logger.warn("Error checking logout: {}", e.getMessage());
             return false;
         }
     }
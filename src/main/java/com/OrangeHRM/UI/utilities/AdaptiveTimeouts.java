@@ -0,0 +1,262 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * AdaptiveTimeouts - Per wait site timeouts derived from how long the site actually takes
+ *
+ * A fixed 30 s explicit wait is far too long for a login button that always shows
+ * up within 300 ms (a real failure burns 30 s) and can still be too short on a
+ * slow environment. This service remembers the latency of every wait site and
+ * uses timeout = percentile x multiplier + margin, clamped to [floor, configured maximum].
+ *
+ * HOW IT WORKS:
+ * - A site is a stable name for one wait, e.g. "visible:By.xpath: //button" or "pageLoad"
+ * - time() runs a wait with the site's timeout and records how long it took
+ * - Each site keeps the last SAMPLES_PER_SITE successful latencies (rolling window)
+ * - Until a site has adaptiveTimeoutMinSamples samples it gets the configured maximum
+ * - When a wait times out below the maximum, the site's timeout is doubled for the
+ *   rest of the run (up to the maximum), so a slow environment adapts immediately;
+ *   RetryPolicy treats the TimeoutException as transient, so the test retry runs
+ *   with the widened timeout
+ * - Samples are loaded from and saved to testHistoryPath/wait-latencies.tsv, so
+ *   the timeouts are already tuned on the next run
+ *
+ * USAGE:
+ * WebElement e = AdaptiveTimeouts.time("visible:" + locator, maxTimeout, timeout -> new WebDriverWait(driver, timeout).until(...));
+ * AdaptiveTimeouts.save(); // once per suite (BaseTest @AfterSuite)
+ */
+public final class AdaptiveTimeouts {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveTimeouts.class);
+
+    private static final int SAMPLES_PER_SITE = 200;
+    private static final String FILE_NAME = "wait-latencies.tsv";
+
+    private static final Map<String, Site> SITES = new ConcurrentHashMap<>();
+    private static volatile boolean loaded;
+
+    private AdaptiveTimeouts() {
+    }
+
+    /**
+     * Wait body that gets the timeout to use
+     */
+    @FunctionalInterface
+    public interface TimedWait<T> {
+        T await(Duration timeout);
+    }
+
+    /**
+     * Run a wait with the adaptive timeout of its site and record its latency
+     *
+     * @param site - Stable wait site name
+     * @param maximum - Configured maximum timeout of the site
+     * @param wait - Wait to run with the given timeout
+     * @return T - Result of the wait
+     * @throws TimeoutException if the wait timed out (recorded and widening applied)
+     */
+    public static <T> T time(String site, Duration maximum, TimedWait<T> wait) {
+        Duration timeout = timeoutFor(site, maximum);
+        long start = System.nanoTime();
+        try {
+            T result = wait.await(timeout);
+            record(site, (System.nanoTime() - start) / 1_000_000);
+            return result;
+        } catch (TimeoutException e) {
+            timedOut(site, timeout, maximum);
+            throw e;
+        }
+    }
+
+    /**
+     * Run a wait with the adaptive timeout of its site and record its latency
+     *
+     * @param site - Stable wait site name
+     * @param maximum - Configured maximum timeout of the site
+     * @param timeout - Applies the timeout (e.g. driver.manage().timeouts().pageLoadTimeout) - a
+     *                  driver-wide setting must be restored by the caller after the action
+     * @param action - Action whose duration is recorded (e.g. driver.get)
+     */
+    public static void time(String site, Duration maximum, Consumer<Duration> timeout,
+                            Runnable action) {
+        time(site, maximum, (Duration d) -> {
+            timeout.accept(d);
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Get the current timeout of a site
+     *
+     * @param site - Stable wait site name
+     * @param maximum - Configured maximum timeout of the site
+     * @return Duration - Adaptive timeout, or the maximum while disabled / not enough samples
+     */
+    public static Duration timeoutFor(String site, Duration maximum) {
+        if (!TestConfig.ADAPTIVE_TIMEOUTS_ENABLED) {
+            return maximum;
+        }
+        ensureLoaded();
+        Site state = SITES.get(site);
+        long maxMillis = maximum.toMillis();
+        if (state == null) {
+            return maximum;
+        }
+        long adaptive = state.timeoutMillis();
+        if (adaptive < 0) {
+            return maximum;
+        }
+        long floor = Math.min(TestConfig.ADAPTIVE_TIMEOUT_FLOOR_MILLIS, maxMillis);
+        return Duration.ofMillis(Math.max(floor, Math.min(maxMillis, adaptive)));
+    }
+
+    /**
+     * Record a successful wait
+     *
+     * @param site - Stable wait site name
+     * @param millis - How long the wait took
+     */
+    public static void record(String site, long millis) {
+        if (!TestConfig.ADAPTIVE_TIMEOUTS_ENABLED) {
+            return;
+        }
+        ensureLoaded();
+        SITES.computeIfAbsent(site, s -> new Site()).add(millis);
+    }
+
+    private static void timedOut(String site, Duration timeout, Duration maximum) {
+        if (!TestConfig.ADAPTIVE_TIMEOUTS_ENABLED || timeout.compareTo(maximum) >= 0) {
+            return;
+        }
+        Site state = SITES.computeIfAbsent(site, s -> new Site());
+        state.widen();
+        logger.warn("Wait '{}' timed out after adaptive {} ms (max {} ms) - widening to {} for this run", site,
+                timeout.toMillis(), maximum.toMillis(), timeoutFor(site, maximum).toMillis() + " ms");
+    }
+
+    /**
+     * Save the latency history of all sites for the next run
+     */
+    public static void save() {
+        if (!TestConfig.ADAPTIVE_TIMEOUTS_ENABLED || SITES.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(TestConfig.TEST_HISTORY_PATH, FILE_NAME);
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Site> entry : new TreeMap<>(SITES).entrySet()) {
+            long[] samples = entry.getValue().samples();
+            if (samples.length == 0) {
+                continue;
+            }
+            StringBuilder line = new StringBuilder(entry.getKey().replace('\t', ' ').replace('\n', ' ')).append('\t');
+            for (int i = 0; i < samples.length; i++) {
+                line.append(i == 0 ? "" : ",").append(samples[i]);
+            }
+            lines.add(line.toString());
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved wait latencies of {} sites to {}", lines.size(), file);
+        } catch (IOException e) {
+            logger.warn("Failed to save wait latencies: {}", e.getMessage());
+        }
+    }
+
+    private static void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (AdaptiveTimeouts.class) {
+            if (loaded) {
+                return;
+            }
+            Path file = Paths.get(TestConfig.TEST_HISTORY_PATH, FILE_NAME);
+            if (Files.isRegularFile(file)) {
+                try {
+                    for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                        int tab = line.lastIndexOf('\t');
+                        if (tab <= 0) {
+                            continue;
+                        }
+                        Site site = SITES.computeIfAbsent(line.substring(0, tab), s -> new Site());
+                        for (String sample : line.substring(tab + 1).split(",")) {
+                            site.add(Long.parseLong(sample.trim()));
+                        }
+                    }
+                    logger.debug("Loaded wait latencies of {} sites from {}", SITES.size(), file);
+                } catch (IOException | NumberFormatException e) {
+                    logger.warn("Ignoring unreadable wait latency history {}: {}", file, e.getMessage());
+                    SITES.clear();
+                }
+            }
+            loaded = true;
+        }
+    }
+
+    /**
+     * Rolling latency window of one wait site
+     */
+    private static final class Site {
+        private final long[] ring = new long[SAMPLES_PER_SITE];
+        private int size;
+        private int next;
+        private int widening = 1;
+
+        synchronized void add(long millis) {
+            ring[next] = millis;
+            next = (next + 1) % ring.length;
+            size = Math.min(size + 1, ring.length);
+        }
+
+        synchronized void widen() {
+            widening = Math.min(widening * 2, 1 << 10);
+        }
+
+        // -1 while there are not enough samples
+        synchronized long timeoutMillis() {
+            if (size < TestConfig.ADAPTIVE_TIMEOUT_MIN_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples(), size);
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(TestConfig.ADAPTIVE_TIMEOUT_PERCENTILE / 100.0 * size) - 1;
+            long percentile = sorted[Math.max(0, Math.min(size - 1, rank))];
+            return (long) (percentile * TestConfig.ADAPTIVE_TIMEOUT_MULTIPLIER * widening)
+                    + TestConfig.ADAPTIVE_TIMEOUT_MARGIN_MILLIS * widening;
+        }
+
+        // Oldest first
+        synchronized long[] samples() {
+            long[] copy = new long[size];
+            int start = size < ring.length ? 0 : next;
+            for (int i = 0; i < size; i++) {
+                copy[i] = ring[(start + i) % ring.length];
+            }
+            return copy;
+        }
+    }
+}
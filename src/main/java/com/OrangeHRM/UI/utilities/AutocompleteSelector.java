@@ -0,0 +1,186 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * AutocompleteSelector - Selects an autocomplete / dynamic dropdown option with one async script
+ *
+ * Reading every option with getText() and clicking the match costs one WebDriver
+ * round trip per option - OrangeHRM autocompletes can list hundreds of entries.
+ * This engine does the whole search inside the browser instead.
+ *
+ * HOW IT WORKS:
+ * - One executeAsyncScript call polls the option list every POLL_MILLIS in the page
+ * - The list is "settled" once it is non-empty and its texts did not change for
+ *   SETTLE_MILLIS (autocompletes re-render while the search request is in flight)
+ * - The first visible option whose trimmed text equals the wanted text (ignoring
+ *   case) is scrolled into view and activated with the full pointer/mouse/click
+ *   event sequence, so framework listeners on mousedown fire as well
+ * - The script reports SELECTED, NOT_FOUND (settled list without a match) or
+ *   TIMEOUT; callers keep their own fallback (e.g. typing + RETURN) for the last two,
+ *   and for StaleElementReferenceException (located options detached before the
+ *   script ran) and ScriptTimeoutException, which are thrown
+ *
+ * OPTION LOCATORS:
+ * - By.cssSelector / By.id / By.name / By.className / By.tagName / By.xpath /
+ *   By.linkText are evaluated in the page on every poll
+ * - Already located option elements (e.g. a PageFactory List) are re-read as the
+ *   children of their container, so re-rendered options are still seen
+ *
+ * USAGE:
+ * AutocompleteSelector.Result result = AutocompleteSelector.select(driver, By.cssSelector("div[role='option']"), "Orange", timeout);
+ */
+public final class AutocompleteSelector {
+
+    private static final Logger logger = LogManager.getLogger(AutocompleteSelector.class);
+
+    private static final long POLL_MILLIS = 50;
+    private static final long SETTLE_MILLIS = 300;
+
+    // arguments: how, what, wanted text, timeout ms, settle ms, poll ms, callback
+    private static final String SELECT_SCRIPT =
+            "var how = arguments[0], what = arguments[1], wanted = String(arguments[2]).trim().toLowerCase();"
+            + "var timeout = arguments[3], settle = arguments[4], poll = arguments[5];"
+            + "var done = arguments[arguments.length - 1];"
+            + InPageQuery.FUNCTION
+            + "function query() {"
+            + "  if (how !== 'elements') { return queryAll(null, how, what); }"
+            + "  var container = null;"
+            + "  for (var j = 0; j < what.length && !container; j++) {"
+            + "    if (what[j].isConnected && what[j].parentElement) { container = what[j].parentElement; }"
+            + "  }"
+            + "  return container ? Array.prototype.slice.call(container.children) : [];"
+            + "}"
+            + "function visible(e) { return !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length); }"
+            + "function text(e) { return (e.innerText || e.textContent || '').trim(); }"
+            + "function fire(e, type, ctor) {"
+            + "  var C = window[ctor] || MouseEvent;"
+            + "  e.dispatchEvent(new C(type, {bubbles: true, cancelable: true, view: window, button: 0}));"
+            + "}"
+            + "var start = Date.now(), changed = start, signature = null;"
+            + "(function tick() {"
+            + "  var options = query().filter(visible), texts = options.map(text), now = Date.now();"
+            + "  var current = texts.join('\\n');"
+            + "  if (current !== signature) { signature = current; changed = now; }"
+            + "  if (options.length > 0 && now - changed >= settle) {"
+            + "    for (var k = 0; k < options.length; k++) {"
+            + "      if (texts[k].toLowerCase() === wanted) {"
+            + "        var option = options[k];"
+            + "        option.scrollIntoView({block: 'nearest'});"
+            + "        fire(option, 'pointerdown', 'PointerEvent'); fire(option, 'mousedown', 'MouseEvent');"
+            + "        fire(option, 'pointerup', 'PointerEvent'); fire(option, 'mouseup', 'MouseEvent');"
+            + "        option.click();"
+            + "        done({status: 'SELECTED', count: options.length, text: texts[k]});"
+            + "        return;"
+            + "      }"
+            + "    }"
+            + "    done({status: 'NOT_FOUND', count: options.length, text: null});"
+            + "    return;"
+            + "  }"
+            + "  if (now - start >= timeout) { done({status: 'TIMEOUT', count: options.length, text: null}); return; }"
+            + "  setTimeout(tick, poll);"
+            + "})();";
+
+    private AutocompleteSelector() {
+    }
+
+    /**
+     * Outcome of a selection
+     */
+    public enum Status {
+        SELECTED, NOT_FOUND, TIMEOUT
+    }
+
+    /**
+     * Result of a selection - status, number of options seen and the selected text
+     */
+    public static final class Result {
+        private final Status status;
+        private final int optionCount;
+        private final String selectedText;
+
+        Result(Status status, int optionCount, String selectedText) {
+            this.status = status;
+            this.optionCount = optionCount;
+            this.selectedText = selectedText;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public boolean isSelected() {
+            return status == Status.SELECTED;
+        }
+
+        public int getOptionCount() {
+            return optionCount;
+        }
+
+        public String getSelectedText() {
+            return selectedText;
+        }
+
+        @Override
+        public String toString() {
+            return status + " (" + optionCount + " options" + (selectedText != null ? ", '" + selectedText + "'" : "") + ")";
+        }
+    }
+
+    /**
+     * Select the option with the given text from options matched by a locator
+     *
+     * @param driver - WebDriver of the page
+     * @param options - Locator of the option elements
+     * @param text - Option text to select (trimmed, case-insensitive)
+     * @param timeout - How long to wait for a settled option list
+     * @return Result - SELECTED, NOT_FOUND or TIMEOUT
+     */
+    public static Result select(WebDriver driver, By options, String text, Duration timeout) {
+        String[] query = InPageQuery.toQuery(options);
+        if (query == null) {
+            // Locator strategy the page cannot evaluate - locate once and track the container
+            return select(driver, driver.findElements(options), text, timeout);
+        }
+        return run(driver, query[0], query[1], text, timeout);
+    }
+
+    /**
+     * Select the option with the given text from already located options
+     * (re-read in the page as the children of their container)
+     *
+     * @param driver - WebDriver of the page
+     * @param options - Located option elements (at least one)
+     * @param text - Option text to select (trimmed, case-insensitive)
+     * @param timeout - How long to wait for a settled option list
+     * @return Result - SELECTED, NOT_FOUND or TIMEOUT
+     */
+    public static Result select(WebDriver driver, List<WebElement> options, String text, Duration timeout) {
+        return run(driver, "elements", options, text, timeout);
+    }
+
+    private static Result run(WebDriver driver, String how, Object what, String text, Duration timeout) {
+        Object raw = CommandTransport.of(driver).executeAsyncScript(SELECT_SCRIPT, how, what, text,
+                timeout.toMillis(), SETTLE_MILLIS, POLL_MILLIS);
+        if (!(raw instanceof Map)) {
+            throw new TimeoutException("Autocomplete script returned no result: " + raw);
+        }
+        Map<?, ?> map = (Map<?, ?>) raw;
+        Object count = map.get("count");
+        Object selected = map.get("text");
+        Result result = new Result(Status.valueOf(String.valueOf(map.get("status"))),
+                count instanceof Number ? ((Number) count).intValue() : 0,
+                selected != null ? String.valueOf(selected) : null);
+        logger.debug("Autocomplete '{}': {}", text, result);
+        return result;
+    }
+}
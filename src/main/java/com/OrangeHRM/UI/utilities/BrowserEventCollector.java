@@ -0,0 +1,223 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.log.LogLevel;
+import org.openqa.selenium.bidi.module.LogInspector;
+import org.openqa.selenium.bidi.module.Network;
+
+/**
+ * BrowserEventCollector - Streams console errors and failed requests from the browser via WebDriver BiDi
+ *
+ * The old approach (driver.manage().logs().get(LogType.BROWSER)) pulls the whole
+ * browser log in one blocking call, only works on Chromium and has no size limit.
+ * This collector subscribes to BiDi events once per session; the browser pushes
+ * events over the already-open WebSocket, so collecting costs no extra round trips.
+ *
+ * HOW IT WORKS:
+ * - attach() subscribes to log.entryAdded (console errors / warnings, JS exceptions)
+ *   and network.responseCompleted / network.fetchError (HTTP >= 400, failed requests)
+ * - Events are kept in a bounded buffer - oldest events are dropped when full
+ * - When the driver has no BiDi connection (webSocketUrl capability not set, Safari)
+ *   the collector is inactive and simply collects nothing
+ * - The collector of the current thread is available via forCurrentThread()
+ *
+ * USAGE:
+ * BrowserEventCollector collector = BrowserEventCollector.attach(driver, 200);
+ * ...
+ * if (collector.hasJavaScriptErrors()) { ... }
+ * collector.close();
+ */
+public final class BrowserEventCollector implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(BrowserEventCollector.class);
+    private static final ThreadLocal<BrowserEventCollector> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Type of a collected browser event
+     */
+    public enum EventType {
+        CONSOLE_ERROR,
+        CONSOLE_WARNING,
+        JAVASCRIPT_EXCEPTION,
+        HTTP_ERROR,
+        REQUEST_FAILED
+    }
+
+    /**
+     * Immutable browser event
+     */
+    public static final class BrowserEvent {
+        private final EventType type;
+        private final long timestamp;
+        private final String message;
+
+        BrowserEvent(EventType type, long timestamp, String message) {
+            this.type = type;
+            this.timestamp = timestamp;
+            this.message = message;
+        }
+
+        public EventType getType() {
+            return type;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + message;
+        }
+    }
+
+    private final ArrayDeque<BrowserEvent> events;
+    private final int capacity;
+    private final LogInspector logInspector;
+    private final Network network;
+    private long dropped;
+    private boolean javaScriptErrors;
+
+    private BrowserEventCollector(int capacity, LogInspector logInspector, Network network) {
+        this.capacity = Math.max(1, capacity);
+        this.events = new ArrayDeque<>(this.capacity);
+        this.logInspector = logInspector;
+        this.network = network;
+    }
+
+    /**
+     * Subscribe to browser events of the given driver and register the collector for the current thread
+     *
+     * @param driver - WebDriver session (BiDi needs the webSocketUrl capability)
+     * @param capacity - Maximum number of events kept
+     * @return BrowserEventCollector - Active collector, or an inactive one if BiDi is unavailable
+     */
+    public static BrowserEventCollector attach(WebDriver driver, int capacity) {
+        BrowserEventCollector collector;
+        if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+            LogInspector logInspector = null;
+            Network network = null;
+            try {
+                logInspector = new LogInspector(driver);
+                network = new Network(driver);
+                collector = new BrowserEventCollector(capacity, logInspector, network);
+                collector.subscribe();
+                logger.debug("Browser event collector attached (BiDi)");
+            } catch (RuntimeException e) {
+                logger.warn("BiDi event subscription failed, browser events will not be collected: {}", e.getMessage());
+                closeQuietly(logInspector);
+                closeQuietly(network);
+                collector = new BrowserEventCollector(capacity, null, null);
+            }
+        } else {
+            logger.debug("Driver has no BiDi connection - browser event collector inactive");
+            collector = new BrowserEventCollector(capacity, null, null);
+        }
+        CURRENT.set(collector);
+        return collector;
+    }
+
+    /**
+     * Get the collector attached on the current thread
+     *
+     * @return BrowserEventCollector - Collector, or null if none is attached
+     */
+    public static BrowserEventCollector forCurrentThread() {
+        return CURRENT.get();
+    }
+
+    private void subscribe() {
+        logInspector.onConsoleEntry(entry -> {
+            if (entry.getLevel() == LogLevel.ERROR) {
+                add(EventType.CONSOLE_ERROR, entry.getTimestamp(), entry.getText());
+            } else if (entry.getLevel() == LogLevel.WARNING) {
+                add(EventType.CONSOLE_WARNING, entry.getTimestamp(), entry.getText());
+            }
+        });
+        logInspector.onJavaScriptException(entry ->
+                add(EventType.JAVASCRIPT_EXCEPTION, entry.getTimestamp(), entry.getText()));
+        network.onResponseCompleted(response -> {
+            int status = response.getResponseData().getStatus();
+            if (status >= 400) {
+                add(EventType.HTTP_ERROR, response.getTimestamp(), status + " "
+                        + response.getRequest().getMethod() + " " + response.getResponseData().getUrl());
+            }
+        });
+        network.onFetchError(error -> add(EventType.REQUEST_FAILED, error.getTimestamp(),
+                error.getErrorText() + " " + error.getRequest().getMethod() + " " + error.getRequest().getUrl()));
+    }
+
+    // Called on the BiDi WebSocket thread
+    private synchronized void add(EventType type, long timestamp, String message) {
+        if (type == EventType.CONSOLE_ERROR || type == EventType.JAVASCRIPT_EXCEPTION) {
+            javaScriptErrors = true;
+        }
+        if (events.size() == capacity) {
+            events.removeFirst();
+            dropped++;
+        }
+        events.addLast(new BrowserEvent(type, timestamp, message));
+    }
+
+    /**
+     * @return true if BiDi events are being collected
+     */
+    public boolean isActive() {
+        return logInspector != null;
+    }
+
+    /**
+     * @return true if a console error or uncaught JavaScript exception was seen
+     */
+    public synchronized boolean hasJavaScriptErrors() {
+        return javaScriptErrors;
+    }
+
+    /**
+     * @return List<BrowserEvent> - Copy of the buffered events, oldest first
+     */
+    public synchronized List<BrowserEvent> getEvents() {
+        return new ArrayList<>(events);
+    }
+
+    /**
+     * @return long - Number of events dropped because the buffer was full
+     */
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    /**
+     * Unsubscribe and unregister from the current thread
+     */
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+        closeQuietly(logInspector);
+        closeQuietly(network);
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            logger.debug("Ignoring error while closing BiDi subscription: {}", e.getMessage());
+        }
+    }
+}
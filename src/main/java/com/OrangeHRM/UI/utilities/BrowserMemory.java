@@ -0,0 +1,306 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * BrowserMemory - Samples browser memory at test boundaries, recycles bloated sessions, flags leaking tests
+ *
+ * A browser that is reused across tests (browserIsolation=context) keeps
+ * growing: renderer caches, detached DOM, listeners a page never removed.
+ * This sampler measures every test's contribution, so the tests that leak can
+ * be found, and tells BaseTest when a long-lived browser should be replaced.
+ *
+ * HOW IT WORKS:
+ * - A sample is the RSS of the session's process tree (driver, browser and all
+ *   renderers - tracked by ProcessWatchdog, or looked up the same way once per
+ *   browser when the watchdog is off) plus the JS heap of the current
+ *   page: Chromium via DevTools Runtime.getHeapUsage, otherwise
+ *   performance.memory.usedJSHeapSize; values not available are -1
+ * - testStarted() / testFinished() sample right before and right after the test
+ *   method (BrowserMemoryListener); the first sample of a browser is its baseline
+ * - A test whose RSS grew by browserMemoryLeakRssMb or whose JS heap grew by
+ *   browserMemoryLeakHeapMb is flagged as leak suspect (report warning)
+ * - shouldRecycle() is true once the browser's RSS reaches browserMemoryRecycleRssMb
+ *   or grew browserMemoryRecycleGrowthMb above its baseline (0 = no limit);
+ *   BaseTest then quits the long-lived browser instead of reusing it
+ * - A browser without a local process tree (remote, Safari) is logged once at
+ *   attach(): RSS sampling, RSS leak flags and RSS-based recycling are off for it
+ * - writeReport() writes every test to reportPath/browser-memory.tsv and logs the
+ *   browserMemoryReportTop tests that grew the most (BaseTest @AfterSuite)
+ *
+ * USAGE:
+ * BrowserMemory memory = BrowserMemory.attach(driver);
+ * memory.testStarted();
+ * ... test ...
+ * BrowserMemory.Usage usage = memory.testFinished("LoginTest.testValidLogin");
+ */
+public final class BrowserMemory {
+
+    private static final Logger logger = LogManager.getLogger(BrowserMemory.class);
+
+    private static final String FILE_NAME = "browser-memory.tsv";
+    private static final String HEADER = "test\trssStartMb\trssEndMb\trssGrowthMb\theapStartMb\theapEndMb\theapGrowthMb\tsessionGrowthMb\tleakSuspect";
+    private static final double MB = 1024 * 1024;
+
+    private static final ThreadLocal<BrowserMemory> CURRENT = new ThreadLocal<>();
+    private static final Map<WebDriver, Long> BASELINE_RSS = Collections.synchronizedMap(new WeakHashMap<WebDriver, Long>());
+    // Process tree roots of browsers the watchdog does not track (watchdogEnabled=false)
+    private static final Map<WebDriver, ProcessHandle> ROOTS = Collections.synchronizedMap(new WeakHashMap<WebDriver, ProcessHandle>());
+    private static final List<Usage> USAGES = Collections.synchronizedList(new ArrayList<Usage>());
+
+    private final WebDriver driver;
+    private Sample start;
+    private volatile boolean recycle;
+
+    private BrowserMemory(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Memory of one test: before / after samples and growth
+     */
+    public static final class Usage {
+        private final String test;
+        private final Sample start;
+        private final Sample end;
+        private final long sessionGrowthMb;
+
+        Usage(String test, Sample start, Sample end, long sessionGrowthMb) {
+            this.test = test;
+            this.start = start;
+            this.end = end;
+            this.sessionGrowthMb = sessionGrowthMb;
+        }
+
+        public String getTest() {
+            return test;
+        }
+
+        /** @return long - RSS growth of the process tree during the test in MB, 0 if unknown */
+        public long getRssGrowthMb() {
+            return start.rssMb < 0 || end.rssMb < 0 ? 0 : end.rssMb - start.rssMb;
+        }
+
+        /** @return double - JS heap growth of the page during the test in MB, 0 if unknown */
+        public double getHeapGrowthMb() {
+            return start.heapMb < 0 || end.heapMb < 0 ? 0 : end.heapMb - start.heapMb;
+        }
+
+        /** @return long - RSS growth of the browser since it was started in MB */
+        public long getSessionGrowthMb() {
+            return sessionGrowthMb;
+        }
+
+        public boolean isLeakSuspect() {
+            return (TestConfig.BROWSER_MEMORY_LEAK_RSS_MB > 0 && getRssGrowthMb() >= TestConfig.BROWSER_MEMORY_LEAK_RSS_MB)
+                    || (TestConfig.BROWSER_MEMORY_LEAK_HEAP_MB > 0 && getHeapGrowthMb() >= TestConfig.BROWSER_MEMORY_LEAK_HEAP_MB);
+        }
+
+        String toTsv() {
+            return String.format(Locale.ROOT, "%s\t%d\t%d\t%d\t%.1f\t%.1f\t%.1f\t%d\t%s", test, start.rssMb, end.rssMb,
+                    getRssGrowthMb(), start.heapMb, end.heapMb, getHeapGrowthMb(), sessionGrowthMb, isLeakSuspect());
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "RSS %d -> %d MB (%+d), JS heap %.1f -> %.1f MB (%+.1f), %+d MB since browser start",
+                    start.rssMb, end.rssMb, getRssGrowthMb(), start.heapMb, end.heapMb, getHeapGrowthMb(), sessionGrowthMb);
+        }
+    }
+
+    /**
+     * Memory at one point in time - negative values are not available
+     */
+    static final class Sample {
+        final long rssMb;
+        final double heapMb;
+
+        Sample(long rssMb, double heapMb) {
+            this.rssMb = rssMb;
+            this.heapMb = heapMb;
+        }
+    }
+
+    /**
+     * Start sampling a session on the current thread - the first attach of a browser records its baseline
+     *
+     * @param driver - Session of the test about to run
+     * @return BrowserMemory - Sampler of the current thread
+     */
+    public static BrowserMemory attach(WebDriver driver) {
+        BrowserMemory memory = new BrowserMemory(driver);
+        synchronized (BASELINE_RSS) {
+            if (!BASELINE_RSS.containsKey(driver)) {
+                if (ProcessWatchdog.processes(driver).isEmpty()) {
+                    ProcessHandle root = ProcessWatchdog.rootOf(driver);
+                    if (root != null) {
+                        ROOTS.put(driver, root);
+                    } else {
+                        logger.info("No local process tree for {} - RSS sampling, RSS leak flags and RSS-based recycling are off for it",
+                                driver.getClass().getSimpleName());
+                    }
+                }
+                BASELINE_RSS.put(driver, memory.rssMb());
+            }
+        }
+        CURRENT.set(memory);
+        return memory;
+    }
+
+    /**
+     * Get the sampler attached on the current thread
+     *
+     * @return BrowserMemory - Sampler, or null if none is attached
+     */
+    public static BrowserMemory forCurrentThread() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Take the before sample of the test
+     */
+    public void testStarted() {
+        start = sample();
+    }
+
+    /**
+     * Take the after sample of the test, record its usage and decide about recycling
+     *
+     * @param test - Test name (report)
+     * @return Usage - Memory used by the test
+     */
+    public Usage testFinished(String test) {
+        Sample end = sample();
+        Long baseline = BASELINE_RSS.get(driver);
+        long sessionGrowth = baseline == null || baseline < 0 || end.rssMb < 0 ? 0 : end.rssMb - baseline;
+        Usage usage = new Usage(test, start != null ? start : end, end, sessionGrowth);
+        USAGES.add(usage);
+        logger.debug("Browser memory of {}: {}", test, usage);
+        if (usage.isLeakSuspect()) {
+            logger.warn("Possible memory leak in {}: {}", test, usage);
+        }
+        if ((TestConfig.BROWSER_MEMORY_RECYCLE_RSS_MB > 0 && end.rssMb >= TestConfig.BROWSER_MEMORY_RECYCLE_RSS_MB)
+                || (TestConfig.BROWSER_MEMORY_RECYCLE_GROWTH_MB > 0 && sessionGrowth >= TestConfig.BROWSER_MEMORY_RECYCLE_GROWTH_MB)) {
+            recycle = true;
+            logger.info("Browser reached {} MB ({} MB above its start) - it will be recycled", end.rssMb, sessionGrowth);
+        }
+        start = null;
+        return usage;
+    }
+
+    /**
+     * @return boolean - true if the browser should be quit instead of reused for the next test
+     */
+    public boolean shouldRecycle() {
+        return recycle;
+    }
+
+    /**
+     * Detach the sampler from the current thread
+     */
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Tests that grew the browser the most, by RSS growth then JS heap growth
+     *
+     * @param limit - Maximum number of tests
+     * @return List<Usage> - Largest growth first
+     */
+    public static List<Usage> leakiest(int limit) {
+        List<Usage> usages;
+        synchronized (USAGES) {
+            usages = new ArrayList<>(USAGES);
+        }
+        usages.sort(Comparator.comparingLong(Usage::getRssGrowthMb).thenComparingDouble(Usage::getHeapGrowthMb).reversed());
+        return usages.subList(0, Math.min(limit, usages.size()));
+    }
+
+    /**
+     * Log the tests that grew the browser the most and write every test to reportPath/browser-memory.tsv
+     */
+    public static void writeReport() {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        synchronized (USAGES) {
+            if (USAGES.isEmpty()) {
+                return;
+            }
+            for (Usage usage : USAGES) {
+                lines.add(usage.toTsv());
+            }
+        }
+        for (Usage usage : leakiest(TestConfig.BROWSER_MEMORY_REPORT_TOP)) {
+            if (usage.getRssGrowthMb() > 0 || usage.getHeapGrowthMb() > 0) {
+                logger.info("Browser memory growth {}{}: {}", usage.getTest(), usage.isLeakSuspect() ? " (leak suspect)" : "", usage);
+            }
+        }
+        Path file = Paths.get(TestConfig.REPORT_PATH, FILE_NAME);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to write {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Sample sample() {
+        return new Sample(rssMb(), heapMb());
+    }
+
+    private long rssMb() {
+        List<ProcessHandle> processes = ProcessWatchdog.processes(driver);
+        if (processes.isEmpty()) {
+            ProcessHandle root = ROOTS.get(driver);
+            if (root != null) {
+                processes = ProcessWatchdog.processTree(root);
+            }
+        }
+        return processes.isEmpty() ? -1 : ProcessMemory.rssMb(processes.stream());
+    }
+
+    private double heapMb() {
+        if (driver instanceof HasCdp) {
+            try {
+                Object used = ((HasCdp) driver).executeCdpCommand("Runtime.getHeapUsage", Collections.<String, Object>emptyMap()).get("usedSize");
+                if (used instanceof Number) {
+                    return ((Number) used).doubleValue() / MB;
+                }
+            } catch (WebDriverException e) {
+                logger.debug("Runtime.getHeapUsage failed: {}", e.getMessage());
+            }
+        }
+        try {
+            Object used = CommandTransport.of(driver).executeScript(
+                    "return window.performance && performance.memory ? performance.memory.usedJSHeapSize : null;");
+            if (used instanceof Number) {
+                return ((Number) used).doubleValue() / MB;
+            }
+        } catch (WebDriverException e) {
+            logger.debug("performance.memory not readable: {}", e.getMessage());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,264 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * BulkElementReader - Reads text / attributes / geometry / visibility of all matches in one script
+ *
+ * Mapping WebElement::getText over a list costs one findElements plus one HTTP
+ * round trip per element and property - 300 calls for 100 rows with 3 reads each.
+ * This reader runs the locator and the projection inside the page and returns
+ * every match as an ElementRecord from a single executeScript call.
+ *
+ * HOW IT WORKS:
+ * - The locator is evaluated in the page (InPageQuery): CSS / XPath, optionally
+ *   below a root element; other locators are located once and passed in
+ * - A Projection says what to read per match: text (trimmed visible text, like
+ *   getText), DOM attributes, bounding rect (document coordinates, like getRect)
+ *   and visibility (rendered box and not visibility:hidden)
+ * - Only the projected values cross the wire
+ *
+ * USAGE:
+ * List<ElementRecord> rows = BulkElementReader.readAll(driver, By.cssSelector(".oxd-table-row"),
+ *         BulkElementReader.Projection.text().withAttributes("title").withVisibility());
+ * List<String> texts = BulkElementReader.readTexts(driver, By.xpath("//ul[@class='oxd-main-menu']//span"));
+ */
+public final class BulkElementReader {
+
+    private static final Logger logger = LogManager.getLogger(BulkElementReader.class);
+
+    // arguments: root (or null), how, what, {text, attributes, rect, visible}
+    private static final String READ_SCRIPT =
+            InPageQuery.FUNCTION
+            + "var spec = arguments[3];"
+            + "function shown(e) {"
+            + "  if (e.tagName === 'OPTION') { var select = e.closest('select'); return !select || shown(select); }"
+            + "  if (!(e.offsetWidth || e.offsetHeight || e.getClientRects().length)) { return false; }"
+            + "  return window.getComputedStyle(e).visibility !== 'hidden';"
+            + "}"
+            + "return queryAll(arguments[0], arguments[1], arguments[2]).map(function (e) {"
+            + "  var record = {}, visible = (spec.text || spec.visible) ? shown(e) : null;"
+            + "  if (spec.text) {"
+            + "    record.text = !visible ? '' : (e.tagName === 'OPTION' ? e.textContent : (e.innerText || e.textContent || '')).trim();"
+            + "  }"
+            + "  if (spec.visible) { record.visible = visible; }"
+            + "  if (spec.attributes.length) {"
+            + "    record.attributes = {};"
+            + "    spec.attributes.forEach(function (name) { record.attributes[name] = e.getAttribute(name); });"
+            + "  }"
+            + "  if (spec.rect) {"
+            + "    var r = e.getBoundingClientRect();"
+            + "    record.rect = [Math.round(r.left + window.scrollX), Math.round(r.top + window.scrollY),"
+            + "                   Math.round(r.width), Math.round(r.height)];"
+            + "  }"
+            + "  return record;"
+            + "});";
+
+    private BulkElementReader() {
+    }
+
+    /**
+     * What to read per element - immutable, combine with the with* methods
+     */
+    public static final class Projection {
+        private final boolean text;
+        private final List<String> attributes;
+        private final boolean rect;
+        private final boolean visible;
+
+        private Projection(boolean text, List<String> attributes, boolean rect, boolean visible) {
+            this.text = text;
+            this.attributes = attributes;
+            this.rect = rect;
+            this.visible = visible;
+        }
+
+        /** Visible text only */
+        public static Projection text() {
+            return new Projection(true, Collections.<String>emptyList(), false, false);
+        }
+
+        /** Nothing yet - start for projections without text */
+        public static Projection none() {
+            return new Projection(false, Collections.<String>emptyList(), false, false);
+        }
+
+        public Projection withText() {
+            return new Projection(true, attributes, rect, visible);
+        }
+
+        public Projection withAttributes(String... names) {
+            List<String> all = new ArrayList<>(attributes);
+            all.addAll(Arrays.asList(names));
+            return new Projection(text, Collections.unmodifiableList(all), rect, visible);
+        }
+
+        public Projection withRect() {
+            return new Projection(text, attributes, true, visible);
+        }
+
+        public Projection withVisibility() {
+            return new Projection(text, attributes, rect, true);
+        }
+
+        Map<String, Object> toSpec() {
+            Map<String, Object> spec = new LinkedHashMap<>();
+            spec.put("text", text);
+            spec.put("attributes", attributes);
+            spec.put("rect", rect);
+            spec.put("visible", visible);
+            return spec;
+        }
+    }
+
+    /**
+     * Values read from one element - fields outside the projection are null
+     */
+    public static final class ElementRecord {
+        private final int index;
+        private final String text;
+        private final Map<String, String> attributes;
+        private final Rectangle rect;
+        private final Boolean visible;
+
+        ElementRecord(int index, String text, Map<String, String> attributes, Rectangle rect, Boolean visible) {
+            this.index = index;
+            this.text = text;
+            this.attributes = attributes;
+            this.rect = rect;
+            this.visible = visible;
+        }
+
+        /** Position of the element in document order among the matches */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /** DOM attribute value, null if absent or not projected */
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public Rectangle getRect() {
+            return rect;
+        }
+
+        public boolean isVisible() {
+            return Boolean.TRUE.equals(visible);
+        }
+
+        @Override
+        public String toString() {
+            return "#" + index + (text != null ? " '" + text + "'" : "") + (attributes.isEmpty() ? "" : " " + attributes)
+                    + (rect != null ? " " + rect.getX() + "," + rect.getY() + " " + rect.getWidth() + "x" + rect.getHeight() : "")
+                    + (visible != null ? (visible ? " visible" : " hidden") : "");
+        }
+    }
+
+    /**
+     * Read all elements matching a locator in the document
+     *
+     * @param driver - WebDriver of the page
+     * @param locator - Locator of the elements
+     * @param projection - What to read per element
+     * @return List<ElementRecord> - One record per match in document order (empty if none)
+     */
+    public static List<ElementRecord> readAll(WebDriver driver, By locator, Projection projection) {
+        return readAll(driver, null, locator, projection);
+    }
+
+    /**
+     * Read all elements matching a locator below a root element
+     *
+     * @param driver - WebDriver of the page
+     * @param root - Element to search below, null for the whole document
+     * @param locator - Locator of the elements, relative to root (use ".//" for XPath)
+     * @param projection - What to read per element
+     * @return List<ElementRecord> - One record per match in document order (empty if none)
+     */
+    public static List<ElementRecord> readAll(WebDriver driver, WebElement root, By locator, Projection projection) {
+        String[] query = InPageQuery.toQuery(locator);
+        Object what;
+        if (query == null) {
+            // Locator strategy the page cannot evaluate - one findElements, projections still in one script
+            what = root != null ? root.findElements(locator) : driver.findElements(locator);
+            query = new String[] {"elements", null};
+        } else {
+            what = query[1];
+        }
+        Object raw = CommandTransport.of(driver).executeScript(READ_SCRIPT, root, query[0], what, projection.toSpec());
+        List<ElementRecord> records = toRecords(raw);
+        logger.trace("Bulk read {} -> {} elements", locator, records.size());
+        return records;
+    }
+
+    /**
+     * Read the visible text of all elements matching a locator
+     *
+     * @param driver - WebDriver of the page
+     * @param locator - Locator of the elements
+     * @return List<String> - Trimmed texts in document order
+     */
+    public static List<String> readTexts(WebDriver driver, By locator) {
+        List<ElementRecord> records = readAll(driver, locator, Projection.text());
+        List<String> texts = new ArrayList<>(records.size());
+        for (ElementRecord record : records) {
+            texts.add(record.getText());
+        }
+        return texts;
+    }
+
+    private static List<ElementRecord> toRecords(Object raw) {
+        if (!(raw instanceof List)) {
+            return Collections.emptyList();
+        }
+        List<?> values = (List<?>) raw;
+        List<ElementRecord> records = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Map<?, ?> value = (Map<?, ?>) values.get(i);
+            Map<String, String> attributes = new LinkedHashMap<>();
+            Object rawAttributes = value.get("attributes");
+            if (rawAttributes instanceof Map) {
+                for (Map.Entry<?, ?> attribute : ((Map<?, ?>) rawAttributes).entrySet()) {
+                    attributes.put(String.valueOf(attribute.getKey()),
+                            attribute.getValue() != null ? String.valueOf(attribute.getValue()) : null);
+                }
+            }
+            Rectangle rect = null;
+            Object rawRect = value.get("rect");
+            if (rawRect instanceof List) {
+                List<?> r = (List<?>) rawRect;
+                rect = new Rectangle(toInt(r.get(0)), toInt(r.get(1)), toInt(r.get(3)), toInt(r.get(2)));
+            }
+            Object text = value.get("text");
+            Object visible = value.get("visible");
+            records.add(new ElementRecord(i, text != null ? String.valueOf(text) : null,
+                    Collections.unmodifiableMap(attributes), rect, visible instanceof Boolean ? (Boolean) visible : null));
+        }
+        return records;
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+}
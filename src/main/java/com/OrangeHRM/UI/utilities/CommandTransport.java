@@ -0,0 +1,615 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.ReadinessState;
+import org.openqa.selenium.bidi.module.Input;
+import org.openqa.selenium.bidi.module.Script;
+import org.openqa.selenium.bidi.script.EvaluateResult;
+import org.openqa.selenium.bidi.script.EvaluateResultExceptionValue;
+import org.openqa.selenium.bidi.script.EvaluateResultSuccess;
+import org.openqa.selenium.bidi.script.LocalValue;
+import org.openqa.selenium.bidi.script.RemoteReference;
+import org.openqa.selenium.bidi.script.RemoteValue;
+import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * CommandTransport - Routes script, navigation, input and screenshot commands over WebDriver BiDi
+ *
+ * Every classic WebDriver command is a new HTTP request to the driver, which
+ * forwards it to the browser. With commandTransport=bidi the supported commands
+ * go over the BiDi WebSocket that is already open for the session (the same one
+ * BrowserEventCollector listens on) instead.
+ *
+ * HOW IT WORKS:
+ * - of(driver) returns the transport of a session (one per driver, created lazily);
+ *   commandTransport is parsed once - an unknown value is logged and classic is used
+ * - executeScript / executeAsyncScript -> script.callFunction (async scripts get a
+ *   Promise whose resolve function is the usual last argument)
+ * - navigate -> browsingContext.navigate (wait = complete) within the driver's
+ *   pageLoadTimeout (TimeoutException like driver.get), screenshot ->
+ *   browsingContext.captureScreenshot, perform(Actions) -> input.performActions
+ * - Commands target the current window (its handle is the top-level browsing
+ *   context id); the handle is read once and cached - window switches are reported
+ *   with switchedToWindow() (CommonMethods, TabFanOut, IsolatedContext). A command
+ *   on a closed cached window ("no such frame") never ran: the handle is read again
+ *   and the command sent once more
+ * - executeAsyncScript rejects after scriptTimeout like classic (ScriptTimeoutException)
+ * - Arguments and results are converted like classic: String, Number, Boolean,
+ *   null, List, Map and WebElements (passed / returned by their shared id)
+ * - Classic HTTP is used when the mode is classic, the driver has no BiDi
+ *   connection, an argument cannot be converted, the driver is inside a frame
+ *   (enteredFrame()) or the browser does not support the BiDi command ("unknown
+ *   command" / "unsupported operation" - that command then stays on classic).
+ *   Any other BiDi failure is thrown: the command may already have run (typed,
+ *   clicked, navigated), so it is never replayed over HTTP
+ * - The latency of every command is recorded per transport and command; the
+ *   summary is logged and written to reportPath/command-latency.tsv at suite end
+ *
+ * USAGE:
+ * CommandTransport transport = CommandTransport.of(driver);
+ * Object title = transport.executeScript("return document.title;");
+ * transport.navigate(TestConfig.BASE_URL);
+ * CommandTransport.writeLatencySummary(); // once per suite (BaseTest @AfterSuite)
+ */
+public final class CommandTransport {
+
+    private static final Logger logger = LogManager.getLogger(CommandTransport.class);
+
+    private static final int SAMPLES_PER_COMMAND = 1000;
+    private static final String FILE_NAME = "command-latency.tsv";
+    private static final long ASYNC_SCRIPT_TIMEOUT_MILLIS = TestConfig.SCRIPT_TIMEOUT * 1000L; // Same limit as classic
+    private static final long LOAD_POLL_MILLIS = 100;
+
+    private static final Map<WebDriver, CommandTransport> TRANSPORTS = new WeakHashMap<>();
+    private static final Map<String, LatencyStats> LATENCIES = new ConcurrentHashMap<>();
+    // BiDi navigate blocks for the BiDi command timeout - it runs here so the caller can stop at pageLoadTimeout
+    private static final ExecutorService NAVIGATIONS = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "bidi-navigate");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Transport used for the supported commands
+     */
+    public enum Mode {
+        /** One HTTP request per command */
+        CLASSIC,
+        /** WebDriver BiDi over the session's WebSocket */
+        BIDI
+    }
+
+    private static final Mode CONFIGURED_MODE = configuredMode();
+
+    private final WebDriver driver;
+    private volatile Mode mode;
+    private volatile boolean inFrame;
+    private volatile String context; // Current top-level browsing context (window handle), null = read on next use
+    private final Set<String> unsupported = ConcurrentHashMap.newKeySet();
+    private Script script;
+    private Input input;
+
+    private CommandTransport(WebDriver driver, Mode mode) {
+        this.driver = driver;
+        this.mode = mode;
+    }
+
+    /**
+     * Get the transport of a driver session
+     *
+     * @param driver - WebDriver session
+     * @return CommandTransport - BIDI if configured and the session has a BiDi connection, else CLASSIC
+     */
+    public static CommandTransport of(WebDriver driver) {
+        synchronized (TRANSPORTS) {
+            CommandTransport transport = TRANSPORTS.get(driver);
+            if (transport == null) {
+                transport = new CommandTransport(driver, modeFor(driver));
+                TRANSPORTS.put(driver, transport);
+            }
+            return transport;
+        }
+    }
+
+    /**
+     * Forget the transport of a session (before quit)
+     */
+    public static void release(WebDriver driver) {
+        CommandTransport transport;
+        synchronized (TRANSPORTS) {
+            transport = TRANSPORTS.remove(driver);
+        }
+        if (transport != null && transport.script != null) {
+            transport.script.close();
+        }
+    }
+
+    private static Mode configuredMode() {
+        try {
+            return Mode.valueOf(TestConfig.COMMAND_TRANSPORT.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown commandTransport '{}' - using {}", TestConfig.COMMAND_TRANSPORT, Mode.CLASSIC);
+            return Mode.CLASSIC;
+        }
+    }
+
+    private static Mode modeFor(WebDriver driver) {
+        Mode configured = CONFIGURED_MODE;
+        if (configured == Mode.BIDI && !(driver instanceof RemoteWebDriver && driver instanceof HasBiDi
+                && ((HasBiDi) driver).maybeGetBiDi().isPresent())) {
+            logger.warn("commandTransport=bidi but the session has no BiDi connection - using classic HTTP");
+            return Mode.CLASSIC;
+        }
+        return configured;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * The driver switched into a frame - BiDi commands target the top-level
+     * context, so commands go classic until leftFrames() is called
+     */
+    public void enteredFrame() {
+        inFrame = true;
+    }
+
+    /**
+     * The driver is on a top-level document again (defaultContent())
+     */
+    public void leftFrames() {
+        inFrame = false;
+    }
+
+    /**
+     * The driver switched to another window - BiDi commands target it from now on
+     *
+     * @param handle - Window handle switched to (its top-level browsing context id)
+     */
+    public void switchedToWindow(String handle) {
+        context = handle;
+        inFrame = false;
+    }
+
+    /**
+     * Run a synchronous script (same contract as JavascriptExecutor.executeScript)
+     */
+    public Object executeScript(String source, Object... args) {
+        List<LocalValue> arguments = useBiDi("script") ? toLocalValues(args) : null;
+        if (arguments == null) {
+            return timed(Mode.CLASSIC, "script", () -> ((JavascriptExecutor) driver).executeScript(source, args));
+        }
+        return callFunction("script", "function () {\n" + source + "\n}", arguments, false,
+                () -> ((JavascriptExecutor) driver).executeScript(source, args));
+    }
+
+    /**
+     * Run an asynchronous script (same contract as JavascriptExecutor.executeAsyncScript -
+     * the callback is the last argument)
+     */
+    public Object executeAsyncScript(String source, Object... args) {
+        List<LocalValue> arguments = useBiDi("asyncScript") ? toLocalValues(args) : null;
+        if (arguments == null) {
+            return timed(Mode.CLASSIC, "asyncScript", () -> ((JavascriptExecutor) driver).executeAsyncScript(source, args));
+        }
+        String function = "function () {\n"
+                + "  var args = Array.prototype.slice.call(arguments);\n"
+                + "  return new Promise(function (resolve, reject) {\n"
+                + "    setTimeout(function () { reject(new Error('script timeout')); }, " + ASYNC_SCRIPT_TIMEOUT_MILLIS + ");\n"
+                + "    args.push(resolve);\n"
+                + "    (function () {\n" + source + "\n}).apply(null, args);\n"
+                + "  });\n"
+                + "}";
+        return callFunction("asyncScript", function, arguments, true,
+                () -> ((JavascriptExecutor) driver).executeAsyncScript(source, args));
+    }
+
+    /**
+     * Load a URL and wait for the load event (same as driver.get - TimeoutException after the pageLoadTimeout)
+     */
+    public void navigate(String url) {
+        if (!useBiDi("navigate")) {
+            timed(Mode.CLASSIC, "navigate", () -> {
+                driver.get(url);
+                return null;
+            });
+            return;
+        }
+        Duration timeout = driver.manage().timeouts().getPageLoadTimeout();
+        bidi("navigate", () -> {
+            navigateWithin(url, timeout);
+            return null;
+        }, () -> {
+            driver.get(url);
+            return null;
+        });
+    }
+
+    /**
+     * Screenshot of the viewport as PNG bytes
+     */
+    public byte[] screenshot() {
+        if (!useBiDi("screenshot")) {
+            return timed(Mode.CLASSIC, "screenshot", () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+        }
+        return bidi("screenshot",
+                () -> Base64.getDecoder().decode(new BrowsingContext(driver, context()).captureScreenshot()),
+                () -> ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+    }
+
+    /**
+     * Perform an action sequence (same as actions.perform())
+     */
+    public void perform(Actions actions) {
+        if (!useBiDi("input")) {
+            timed(Mode.CLASSIC, "input", () -> {
+                actions.perform();
+                return null;
+            });
+            return;
+        }
+        bidi("input", () -> {
+            input().perform(context(), actions.getSequences());
+            return null;
+        }, () -> {
+            actions.perform();
+            return null;
+        });
+    }
+
+    private boolean useBiDi(String command) {
+        return mode == Mode.BIDI && !inFrame && !unsupported.contains(command);
+    }
+
+    // browsingContext.navigate waits at most the BiDi command timeout (30 s) - stop at pageLoadTimeout,
+    // and keep waiting for the load event when the page load timeout is longer
+    private void navigateWithin(String url, Duration timeout) {
+        String context = context();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletableFuture<Void> navigation = CompletableFuture.runAsync(
+                () -> new BrowsingContext(driver, context).navigate(url, ReadinessState.COMPLETE), NAVIGATIONS);
+        try {
+            navigation.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return;
+        } catch (java.util.concurrent.TimeoutException e) {
+            throw new TimeoutException("Page load of " + url + " did not complete within " + timeout.toMillis() + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while loading " + url, e);
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof TimeoutException)) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new WebDriverException(e.getCause());
+            }
+        }
+        // BiDi gave up before the page load timeout - the navigation is under way, wait for its load event
+        while (System.nanoTime() - deadline < 0) {
+            try {
+                if ("complete".equals(executeScript("return document.readyState;"))) {
+                    return;
+                }
+            } catch (JavascriptException e) {
+                // Document replaced while the script ran
+            }
+            try {
+                Thread.sleep(LOAD_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while loading " + url, e);
+            }
+        }
+        throw new TimeoutException("Page load of " + url + " did not complete within " + timeout.toMillis() + " ms");
+    }
+
+    private Object callFunction(String command, String function, List<LocalValue> arguments, boolean awaitPromise,
+            Supplier<Object> classic) {
+        EvaluateResult result;
+        try {
+            result = onContext(command, () -> script().callFunctionInBrowsingContext(context(), function,
+                    awaitPromise, Optional.of(arguments), Optional.empty(), Optional.empty()));
+        } catch (WebDriverException e) {
+            // Script errors come back as results - this is a protocol failure
+            if (!isUnsupported(e)) {
+                throw e;
+            }
+            useClassic(command, e);
+            return timed(Mode.CLASSIC, command, classic);
+        }
+        if (result instanceof EvaluateResultExceptionValue) {
+            String text = ((EvaluateResultExceptionValue) result).getExceptionDetails().getText();
+            if (awaitPromise && text != null && text.contains("script timeout")) {
+                throw new ScriptTimeoutException("Async script did not call back within " + ASYNC_SCRIPT_TIMEOUT_MILLIS + " ms");
+            }
+            throw new JavascriptException(text);
+        }
+        return fromRemoteValue(((EvaluateResultSuccess) result).getResult());
+    }
+
+    // Runs a BiDi command; only a command the browser does not support falls back to classic -
+    // after any other failure it may have run in part, so it is not replayed
+    private <T> T bidi(String command, Supplier<T> call, Supplier<T> classic) {
+        try {
+            return onContext(command, call);
+        } catch (WebDriverException e) {
+            if (!isUnsupported(e)) {
+                throw e;
+            }
+            useClassic(command, e);
+            return timed(Mode.CLASSIC, command, classic);
+        }
+    }
+
+    // Sends a BiDi command to the cached browsing context - when that window is gone the browser rejects
+    // the command before running it, so it is sent once more to the current window
+    private <T> T onContext(String command, Supplier<T> call) {
+        String cached = context;
+        try {
+            return timed(Mode.BIDI, command, call);
+        } catch (WebDriverException e) {
+            if (cached == null || !hasError(e, "no such frame")) {
+                throw e;
+            }
+            context = null;
+            logger.debug("Browsing context {} is gone - sending {} to the current window", cached, command);
+            return timed(Mode.BIDI, command, call);
+        }
+    }
+
+    private void useClassic(String command, WebDriverException bidiFailure) {
+        if (unsupported.add(command)) {
+            logger.warn("BiDi {} is not supported by this browser, sending it over classic HTTP: {}",
+                    command, bidiFailure.getMessage());
+        }
+    }
+
+    // BiDi errors carry the protocol error code in the message ("error":"unknown command")
+    private static boolean isUnsupported(WebDriverException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof UnsupportedCommandException) {
+                return true;
+            }
+        }
+        return hasError(e, "unknown command") || hasError(e, "unsupported operation");
+    }
+
+    private static boolean hasError(WebDriverException e, String error) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains(error)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized Script script() {
+        if (script == null) {
+            script = new Script(driver);
+        }
+        return script;
+    }
+
+    private synchronized Input input() {
+        if (input == null) {
+            input = new Input(driver);
+        }
+        return input;
+    }
+
+    // The top-level browsing context id is the handle of the current window - read once, then kept
+    // until switchedToWindow() (or a "no such frame" failure) changes it
+    private String context() {
+        String current = context;
+        if (current == null) {
+            current = driver.getWindowHandle();
+            context = current;
+        }
+        return current;
+    }
+
+    // null if any argument has no BiDi representation
+    private static List<LocalValue> toLocalValues(Object[] args) {
+        List<LocalValue> values = new ArrayList<>(args == null ? 0 : args.length);
+        if (args != null) {
+            for (Object arg : args) {
+                LocalValue value = toLocalValue(arg);
+                if (value == null) {
+                    return null;
+                }
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static LocalValue toLocalValue(Object arg) {
+        if (arg == null) {
+            return LocalValue.nullValue();
+        }
+        if (arg instanceof String) {
+            return LocalValue.stringValue((String) arg);
+        }
+        if (arg instanceof Boolean) {
+            return LocalValue.booleanValue((Boolean) arg);
+        }
+        if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte) {
+            return LocalValue.numberValue(((Number) arg).longValue());
+        }
+        if (arg instanceof Number) {
+            return LocalValue.numberValue(((Number) arg).doubleValue());
+        }
+        if (arg instanceof WrapsElement) {
+            arg = ((WrapsElement) arg).getWrappedElement(); // PageFactory proxy - locates the element
+        }
+        if (arg instanceof RemoteWebElement) {
+            return LocalValue.remoteReference(RemoteReference.Type.SHARED_ID, ((RemoteWebElement) arg).getId());
+        }
+        if (arg instanceof Collection || arg instanceof Object[]) {
+            Collection<?> items = arg instanceof Collection ? (Collection<?>) arg : Arrays.asList((Object[]) arg);
+            List<LocalValue> values = new ArrayList<>(items.size());
+            for (Object item : items) {
+                LocalValue value = toLocalValue(item);
+                if (value == null) {
+                    return null;
+                }
+                values.add(value);
+            }
+            return LocalValue.arrayValue(values);
+        }
+        if (arg instanceof Map) {
+            Map<Object, LocalValue> entries = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) arg).entrySet()) {
+                LocalValue value = toLocalValue(entry.getValue());
+                if (value == null) {
+                    return null;
+                }
+                entries.put(String.valueOf(entry.getKey()), value);
+            }
+            return LocalValue.objectValue(entries);
+        }
+        return null;
+    }
+
+    private Object fromRemoteValue(RemoteValue remote) {
+        String type = remote.getType();
+        Object value = remote.getValue().orElse(null);
+        switch (type) {
+            case "string":
+            case "boolean":
+                return value;
+            case "number":
+                if (!(value instanceof Number)) {
+                    return "-0".equals(value) ? -0.0d : null; // NaN / Infinity are null in classic as well
+                }
+                double number = ((Number) value).doubleValue();
+                return number == Math.rint(number) && !Double.isInfinite(number) ? (Object) (long) number : (Object) number;
+            case "node":
+                if (!remote.getSharedId().isPresent()) {
+                    return null;
+                }
+                RemoteWebElement element = new RemoteWebElement();
+                element.setParent((RemoteWebDriver) driver);
+                element.setId(remote.getSharedId().get());
+                return element;
+            case "array":
+            case "nodelist":
+            case "htmlcollection":
+            case "set": {
+                List<Object> items = new ArrayList<>();
+                if (value instanceof Collection) {
+                    for (Object item : (Collection<?>) value) {
+                        items.add(item instanceof RemoteValue ? fromRemoteValue((RemoteValue) item) : item);
+                    }
+                }
+                return items;
+            }
+            case "object":
+            case "map": {
+                Map<String, Object> entries = new LinkedHashMap<>();
+                if (value instanceof Map) {
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                        Object key = entry.getKey() instanceof RemoteValue
+                                ? fromRemoteValue((RemoteValue) entry.getKey()) : entry.getKey();
+                        Object item = entry.getValue();
+                        entries.put(String.valueOf(key), item instanceof RemoteValue ? fromRemoteValue((RemoteValue) item) : item);
+                    }
+                }
+                return entries;
+            }
+            default:
+                return null; // undefined, null, functions, windows, promises...
+        }
+    }
+
+    private static <T> T timed(Mode mode, String command, Supplier<T> call) {
+        long start = System.nanoTime();
+        if (mode == Mode.BIDI) {
+            ProcessWatchdog.commandStarted(); // Classic commands are timed by the watchdog's HTTP filter
+        }
+        try {
+            return call.get();
+        } finally {
+            if (mode == Mode.BIDI) {
+                ProcessWatchdog.commandFinished();
+            }
+            long micros = (System.nanoTime() - start) / 1_000;
+            LATENCIES.computeIfAbsent(mode.name().toLowerCase() + "\t" + command, key -> new LatencyStats(SAMPLES_PER_COMMAND)).add(micros);
+        }
+    }
+
+    /**
+     * Latency summary per transport and command: count, mean, p50, p95, max (ms)
+     *
+     * @return List<String> - One tab separated line per transport/command, header first
+     */
+    public static List<String> latencySummary() {
+        List<String> lines = new ArrayList<>();
+        lines.add("transport\tcommand\t" + LatencyStats.HEADER);
+        for (Map.Entry<String, LatencyStats> entry : new TreeMap<>(LATENCIES).entrySet()) {
+            lines.add(entry.getKey() + "\t" + entry.getValue().summary());
+        }
+        return lines;
+    }
+
+    /**
+     * Log the latency summary and write it to reportPath/command-latency.tsv
+     */
+    public static void writeLatencySummary() {
+        if (LATENCIES.isEmpty()) {
+            return;
+        }
+        List<String> lines = latencySummary();
+        for (String line : lines) {
+            logger.info("Command latency: {}", line);
+        }
+        Path file = Paths.get(TestConfig.REPORT_PATH, FILE_NAME);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to write command latencies: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Actions;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * FormFill - Fills a whole form (and optionally submits it) in one batched script
+ *
+ * Filling a form field by field costs a visibility wait, a highlight and a
+ * sendKeys round trip per field - a dozen round trips for a login. This pipeline
+ * hands all fields to one async script instead.
+ *
+ * HOW IT WORKS:
+ * - One executeAsyncScript call waits in the page until every field is visible,
+ *   enabled and editable (and the submit button exists)
+ * - Each field gets its value through the native value setter followed by
+ *   bubbling "input" and "change" events, so Vue / React bindings see the change
+ * - After one macrotask the values are re-read; only if all of them stuck is the
+ *   submit button clicked, still inside the same script
+ * - Fields whose value did not stick, fields added with typed(), or all fields in
+ *   KEYSTROKES mode are typed instead: one Actions sequence (click, select all,
+ *   delete, type - real key events) followed by the submit click
+ * - The wait uses the adaptive timeout site "form:<name>" (max explicitWait)
+ * - Field values are never logged
+ *
+ * USAGE:
+ * FormFill.on(driver, "login")
+ *         .field(By.name("username"), username)
+ *         .field(By.name("password"), password)
+ *         .submit(By.xpath("//button[@type='submit']"))
+ *         .fill();
+ */
+public final class FormFill {
+
+    private static final Logger logger = LogManager.getLogger(FormFill.class);
+
+    private static final long POLL_MILLIS = 50;
+
+    // arguments: fields [{how, what, value, typed}], submit {how, what} or null, timeout ms, poll ms, callback
+    private static final String FILL_SCRIPT =
+            "var fields = arguments[0], submit = arguments[1], timeout = arguments[2], poll = arguments[3];"
+            + "var done = arguments[arguments.length - 1];"
+            + InPageQuery.FUNCTION
+            + "function find(spec) { return spec ? queryAll(null, spec.how, spec.what)[0] || null : null; }"
+            + "function ready(e) {"
+            + "  return !!e && !e.disabled && !e.readOnly && !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length);"
+            + "}"
+            + "function setValue(e, value) {"
+            + "  var proto = e instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+            + "      : e instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;"
+            + "  e.focus();"
+            + "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(e, value);"
+            + "  e.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  e.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "  e.blur();"
+            + "}"
+            + "var start = Date.now();"
+            + "(function tick() {"
+            + "  var elements = fields.map(find), button = find(submit), missing = [];"
+            + "  elements.forEach(function (e, i) { if (!ready(e)) { missing.push(i); } });"
+            + "  if (missing.length || (submit && !button)) {"
+            + "    if (Date.now() - start >= timeout) { done({status: 'TIMEOUT', missing: missing, keystrokes: [], submitted: false}); }"
+            + "    else { setTimeout(tick, poll); }"
+            + "    return;"
+            + "  }"
+            + "  elements.forEach(function (e, i) { if (!fields[i].typed) { setValue(e, fields[i].value); } });"
+            + "  setTimeout(function () {"
+            + "    var keystrokes = [];"
+            + "    elements.forEach(function (e, i) { if (fields[i].typed || e.value !== fields[i].value) { keystrokes.push(i); } });"
+            + "    var submitted = false;"
+            + "    if (!keystrokes.length && button && !button.disabled) { button.click(); submitted = true; }"
+            + "    done({status: 'FILLED', missing: [], keystrokes: keystrokes, submitted: submitted});"
+            + "  }, 0);"
+            + "})();";
+
+    /**
+     * How values are entered
+     */
+    public enum Mode {
+        /** Native value setter + input/change events, typing only where the value does not stick */
+        EVENTS,
+        /** Real key events for every field (one Actions sequence) */
+        KEYSTROKES
+    }
+
+    private static final Mode CONFIGURED_MODE = configuredMode();
+
+    private final WebDriver driver;
+    private final String name;
+    private final List<Field> fields = new ArrayList<>();
+    private Field submit;
+    private Mode mode = CONFIGURED_MODE;
+
+    private FormFill(WebDriver driver, String name) {
+        this.driver = driver;
+        this.name = name;
+    }
+
+    // formFillMode, parsed once - an unknown value falls back to EVENTS instead of failing every form
+    private static Mode configuredMode() {
+        try {
+            return Mode.valueOf(TestConfig.FORM_FILL_MODE.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown formFillMode '{}' - using {}", TestConfig.FORM_FILL_MODE, Mode.EVENTS);
+            return Mode.EVENTS;
+        }
+    }
+
+    /**
+     * Start a form fill
+     *
+     * @param driver - WebDriver of the page
+     * @param name - Form name (logs and adaptive timeout site)
+     * @return FormFill - Builder
+     */
+    public static FormFill on(WebDriver driver, String name) {
+        return new FormFill(driver, name);
+    }
+
+    /**
+     * Add a field located in the page (no extra round trip)
+     */
+    public FormFill field(By locator, String value) {
+        fields.add(new Field(locator, null, value, false));
+        return this;
+    }
+
+    /**
+     * Add an already located field (PageFactory proxies are located while the script is sent)
+     */
+    public FormFill field(WebElement element, String value) {
+        fields.add(new Field(null, element, value, false));
+        return this;
+    }
+
+    /**
+     * Add fields in map order
+     */
+    public FormFill fields(Map<By, String> values) {
+        for (Map.Entry<By, String> entry : values.entrySet()) {
+            field(entry.getKey(), entry.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Add a field that always needs real key events (e.g. keydown driven autocompletes)
+     */
+    public FormFill typed(By locator, String value) {
+        fields.add(new Field(locator, null, value, true));
+        return this;
+    }
+
+    /**
+     * Click this button once all fields are filled
+     */
+    public FormFill submit(By locator) {
+        this.submit = new Field(locator, null, null, false);
+        return this;
+    }
+
+    /**
+     * Click this button once all fields are filled
+     */
+    public FormFill submit(WebElement element) {
+        this.submit = new Field(null, element, null, false);
+        return this;
+    }
+
+    /**
+     * Override the configured mode (formFillMode) for this form
+     */
+    public FormFill mode(Mode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    /**
+     * Wait for all fields, fill them and click submit (if set)
+     *
+     * @throws TimeoutException if the fields are not ready within the (adaptive) timeout
+     */
+    public void fill() {
+        List<Map<String, Object>> specs = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            Map<String, Object> spec = field.toSpec(driver);
+            spec.put("value", field.value == null ? "" : field.value);
+            spec.put("typed", field.typed || mode == Mode.KEYSTROKES);
+            specs.add(spec);
+        }
+        Object submitSpec = submit != null ? submit.toSpec(driver) : null;
+
+        Map<?, ?> result = AdaptiveTimeouts.time("form:" + name, Duration.ofSeconds(TestConfig.EXPLICIT_WAIT), timeout -> {
+            Object raw = CommandTransport.of(driver).executeAsyncScript(FILL_SCRIPT, specs, submitSpec,
+                    timeout.toMillis(), POLL_MILLIS);
+            Map<?, ?> map = raw instanceof Map ? (Map<?, ?>) raw : Collections.emptyMap();
+            if (!"FILLED".equals(map.get("status"))) {
+                throw new TimeoutException("Form '" + name + "' not ready within " + timeout.toMillis()
+                        + " ms - fields not visible/enabled: " + map.get("missing"));
+            }
+            return map;
+        });
+
+        List<Integer> keystrokes = new ArrayList<>();
+        for (Object index : (List<?>) result.get("keystrokes")) {
+            keystrokes.add(((Number) index).intValue());
+        }
+        boolean submitted = Boolean.TRUE.equals(result.get("submitted"));
+        if (!keystrokes.isEmpty()) {
+            type(keystrokes);
+            submitted = submit != null; // The typed sequence ends with the submit click
+        } else if (submit != null && !submitted) {
+            submit.resolve(driver).click(); // Button was disabled when the script ran
+            submitted = true;
+        }
+        logger.debug("Form '{}': {} fields ({} typed){}", name, fields.size(), keystrokes.size(),
+                submitted ? ", submitted" : "");
+    }
+
+    // Keystroke-accurate fallback - one Actions sequence for all remaining fields and the submit click
+    private void type(List<Integer> indexes) {
+        if (mode == Mode.EVENTS) {
+            logger.debug("Form '{}': values of fields {} did not stick - typing them", name, indexes);
+        }
+        Actions actions = new Actions(driver);
+        for (int index : indexes) {
+            Field field = fields.get(index);
+            actions.click(field.resolve(driver))
+                    .keyDown(Keys.CONTROL).sendKeys("a").keyUp(Keys.CONTROL)
+                    .sendKeys(Keys.BACK_SPACE);
+            if (field.value != null && !field.value.isEmpty()) {
+                actions.sendKeys(field.value);
+            }
+        }
+        if (submit != null) {
+            actions.click(submit.resolve(driver));
+        }
+        CommandTransport.of(driver).perform(actions);
+    }
+
+    private static final class Field {
+        final By locator;
+        final WebElement element;
+        final String value;
+        final boolean typed;
+
+        Field(By locator, WebElement element, String value, boolean typed) {
+            this.locator = locator;
+            this.element = element;
+            this.value = value;
+            this.typed = typed;
+        }
+
+        Map<String, Object> toSpec(WebDriver driver) {
+            Map<String, Object> spec = new LinkedHashMap<>();
+            String[] query = locator != null ? InPageQuery.toQuery(locator) : null;
+            if (query != null) {
+                spec.put("how", query[0]);
+                spec.put("what", query[1]);
+            } else {
+                spec.put("how", "elements");
+                spec.put("what", Collections.singletonList(resolve(driver))); // Located once up front
+            }
+            return spec;
+        }
+
+        WebElement resolve(WebDriver driver) {
+            return element != null ? element : driver.findElement(locator);
+        }
+    }
+}
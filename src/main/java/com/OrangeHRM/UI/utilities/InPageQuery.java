@@ -0,0 +1,69 @@
+package com.OrangeHRM.UI.utilities;
+
+import org.openqa.selenium.By;
+
+/**
+ * InPageQuery - Evaluates Selenium locators inside the page for the single-script utilities
+ *
+ * HOW IT WORKS:
+ * - toQuery() turns a By into {how, what}: "css" + selector or "xpath" + expression
+ *   (id / name / className are sent as CSS by Selenium already, link texts become XPath)
+ * - FUNCTION is the matching JavaScript: queryAll(root, how, what) returns an array of
+ *   elements below root (document when root is null); how "elements" returns what as is
+ * - Locators without an in-page form (custom By subclasses) return null - callers
+ *   locate those once with findElements and pass the elements
+ */
+final class InPageQuery {
+
+    static final String FUNCTION =
+            "function queryAll(root, how, what) {"
+            + "  var scope = root || document;"
+            + "  if (how === 'css') { return Array.prototype.slice.call(scope.querySelectorAll(what)); }"
+            + "  if (how === 'xpath') {"
+            + "    var snapshot = document.evaluate(what, scope, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), out = [];"
+            + "    for (var i = 0; i < snapshot.snapshotLength; i++) { out.push(snapshot.snapshotItem(i)); }"
+            + "    return out;"
+            + "  }"
+            + "  return Array.prototype.slice.call(what || []);"
+            + "}";
+
+    private InPageQuery() {
+    }
+
+    /**
+     * In-page form of a locator
+     *
+     * @param locator - Selenium locator
+     * @return String[] - {how, what}, or null if the locator cannot be evaluated in the page
+     */
+    static String[] toQuery(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        switch (parameters.using()) {
+            case "css selector":
+            case "tag name":
+                return new String[] {"css", value};
+            case "xpath":
+                return new String[] {"xpath", value};
+            case "link text":
+                return new String[] {"xpath", ".//a[normalize-space(.)=" + xpathLiteral(value) + "]"};
+            case "partial link text":
+                return new String[] {"xpath", ".//a[contains(., " + xpathLiteral(value) + ")]"};
+            default:
+                return null;
+        }
+    }
+
+    private static String xpathLiteral(String value) {
+        if (value.indexOf('\'') < 0) {
+            return "'" + value + "'";
+        }
+        if (value.indexOf('"') < 0) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "',\"'\",'") + "')";
+    }
+}
@@ -0,0 +1,169 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * IoExecutor - Runs blocking side tasks (screenshot / log files, report flushes) off the test threads
+ *
+ * Writing a screenshot, a failure log or the Extent report on a TestNG worker
+ * thread keeps that thread from starting the next browser test. These tasks
+ * only need to be done by the end of the suite, so they are handed to this
+ * executor instead.
+ *
+ * HOW IT WORKS:
+ * - On JDK 21+ every task gets its own virtual thread; on older JDKs a pool of
+ *   ioExecutorMaxConcurrency daemon platform threads runs them
+ * - At most ioExecutorMaxConcurrency tasks are in flight (running or queued);
+ *   submit() blocks the caller while the limit is reached (back-pressure - a
+ *   slow disk slows the tests down instead of piling up screenshots in memory)
+ * - A failing task is logged as a warning and counted, it never fails a test
+ * - awaitCompletion() waits until every submitted task has finished
+ *   (BaseTest @AfterSuite); a JVM shutdown hook does the same as a safety net
+ * - ioExecutorEnabled=false runs every task directly on the caller's thread
+ *
+ * USAGE:
+ * IoExecutor.submit("screenshot " + path, () -> Files.write(path, png));
+ * IoExecutor.awaitCompletion(Duration.ofSeconds(60));
+ */
+public final class IoExecutor {
+
+    private static final Logger logger = LogManager.getLogger(IoExecutor.class);
+
+    private static final int MAX_IN_FLIGHT = Math.max(1, TestConfig.IO_EXECUTOR_MAX_CONCURRENCY);
+    private static final Semaphore PERMITS = new Semaphore(MAX_IN_FLIGHT);
+    private static final AtomicLong SUBMITTED = new AtomicLong();
+    private static final AtomicLong FAILED = new AtomicLong();
+    private static final AtomicLong BLOCKED_MILLIS = new AtomicLong();
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> awaitCompletion(Duration.ofSeconds(30)), "io-executor-shutdown"));
+    }
+
+    private IoExecutor() {
+    }
+
+    /**
+     * Blocking side task
+     */
+    @FunctionalInterface
+    public interface IoTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * Run a blocking task off the caller's thread - blocks while ioExecutorMaxConcurrency tasks are in flight
+     *
+     * @param name - Task name (logs)
+     * @param task - Task to run
+     * @return CompletableFuture<Void> - Completes when the task has run (normally, also after a failure)
+     */
+    public static CompletableFuture<Void> submit(String name, IoTask task) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        SUBMITTED.incrementAndGet();
+        if (EXECUTOR == null) {
+            run(name, task);
+            done.complete(null);
+            return done;
+        }
+        long start = System.nanoTime();
+        PERMITS.acquireUninterruptibly();
+        long blocked = (System.nanoTime() - start) / 1_000_000;
+        if (blocked > 0) {
+            BLOCKED_MILLIS.addAndGet(blocked);
+            logger.debug("I/O task '{}' waited {} ms for a free slot", name, blocked);
+        }
+        try {
+            EXECUTOR.execute(() -> {
+                try {
+                    run(name, task);
+                } finally {
+                    PERMITS.release();
+                    done.complete(null);
+                }
+            });
+        } catch (RuntimeException e) {
+            PERMITS.release(); // Rejected (shutting down) - run it here rather than lose it
+            run(name, task);
+            done.complete(null);
+        }
+        return done;
+    }
+
+    /**
+     * Wait until every submitted task has finished
+     *
+     * @param timeout - Maximum time to wait
+     * @return boolean - true if all tasks finished in time
+     */
+    public static boolean awaitCompletion(Duration timeout) {
+        if (EXECUTOR == null) {
+            return true;
+        }
+        try {
+            // All permits free = nothing running or queued
+            if (PERMITS.tryAcquire(MAX_IN_FLIGHT, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                PERMITS.release(MAX_IN_FLIGHT);
+                if (SUBMITTED.get() > 0) {
+                    logger.debug("I/O tasks complete: {} submitted, {} failed, callers blocked {} ms in total",
+                            SUBMITTED.get(), FAILED.get(), BLOCKED_MILLIS.get());
+                }
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.warn("I/O tasks still running after {} ms: {}", timeout.toMillis(), MAX_IN_FLIGHT - PERMITS.availablePermits());
+        return false;
+    }
+
+    private static void run(String name, IoTask task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            FAILED.incrementAndGet();
+            logger.warn("I/O task '{}' failed: {}", name, e.toString());
+        }
+    }
+
+    private static ExecutorService createExecutor() {
+        if (!TestConfig.IO_EXECUTOR_ENABLED) {
+            return null;
+        }
+        try {
+            // JDK 21+: Executors.newVirtualThreadPerTaskExecutor() (looked up reflectively, the build targets Java 8)
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            ExecutorService executor = (ExecutorService) factory.invoke(null);
+            logger.debug("I/O executor: virtual threads, max {} tasks in flight", MAX_IN_FLIGHT);
+            return executor;
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threads = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "io-executor-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_IN_FLIGHT, MAX_IN_FLIGHT, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), threadFactory);
+            executor.allowCoreThreadTimeOut(true);
+            logger.debug("I/O executor: {} platform threads (no virtual threads on Java {})", MAX_IN_FLIGHT,
+                    System.getProperty("java.version"));
+            return executor;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.OrangeHRM.UI.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.module.Browser;
+
+/**
+ * IsolatedContext - Per test cookie / storage isolation inside a long-lived browser
+ *
+ * Starting a browser process per test costs seconds and hundreds of MB. With
+ * browserIsolation=context a browser is kept per worker thread and every test
+ * runs in its own WebDriver BiDi user context instead - the equivalent of a
+ * fresh incognito profile: cookies, local/session storage, IndexedDB and cache
+ * are not shared with earlier tests.
+ *
+ * HOW IT WORKS:
+ * - open() creates a user context (browser.createUserContext), opens a tab in it
+ *   and switches the driver to that tab
+ * - close() removes the user context (closing its tab and discarding all of its
+ *   state) and switches back to the browser's original tab, which stays open so
+ *   the session survives
+ * - Without BiDi (webSocketUrl not granted, Safari) or if the browser rejects
+ *   user contexts, the test runs in the original tab and close() clears it
+ *   instead: local/session storage of the current page, all cookies, then
+ *   about:blank - IndexedDB and cache are not cleared in this mode
+ *
+ * USAGE:
+ * IsolatedContext context = IsolatedContext.open(driver);
+ * ... test ...
+ * context.close();
+ */
+public final class IsolatedContext implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(IsolatedContext.class);
+
+    private final WebDriver driver;
+    private final String homeHandle;
+    private final String userContext;
+    private final String windowHandle;
+
+    private IsolatedContext(WebDriver driver, String homeHandle, String userContext, String windowHandle) {
+        this.driver = driver;
+        this.homeHandle = homeHandle;
+        this.userContext = userContext;
+        this.windowHandle = windowHandle;
+    }
+
+    /**
+     * Open a fresh isolated context in the browser and switch the driver to it
+     *
+     * @param driver - Long-lived browser session
+     * @return IsolatedContext - Context to close after the test
+     */
+    public static IsolatedContext open(WebDriver driver) {
+        String homeHandle = driver.getWindowHandle();
+        if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+            String userContext = null;
+            try {
+                Browser browser = new Browser(driver);
+                userContext = browser.createUserContext();
+                BrowsingContext tab = new BrowsingContext(driver,
+                        new CreateContextParameters(WindowType.TAB).userContext(userContext));
+                driver.switchTo().window(tab.getId());
+                CommandTransport.of(driver).switchedToWindow(tab.getId());
+                logger.debug("Test runs in user context {} (tab {})", userContext, tab.getId());
+                return new IsolatedContext(driver, homeHandle, userContext, tab.getId());
+            } catch (WebDriverException e) {
+                logger.warn("User context not available, isolating by clearing cookies and storage: {}", e.getMessage());
+                if (userContext != null) {
+                    removeQuietly(driver, userContext);
+                }
+                driver.switchTo().window(homeHandle);
+                CommandTransport.of(driver).switchedToWindow(homeHandle);
+            }
+        } else {
+            logger.debug("Driver has no BiDi connection - isolating by clearing cookies and storage");
+        }
+        driver.manage().deleteAllCookies();
+        return new IsolatedContext(driver, homeHandle, null, homeHandle);
+    }
+
+    /**
+     * @return boolean - true if the test runs in its own BiDi user context
+     */
+    public boolean isUserContext() {
+        return userContext != null;
+    }
+
+    public String getWindowHandle() {
+        return windowHandle;
+    }
+
+    /**
+     * Discard the context (user context removed, or cookies / storage cleared) and
+     * switch back to the browser's original tab
+     */
+    @Override
+    public void close() {
+        if (userContext != null) {
+            removeQuietly(driver, userContext);
+        } else {
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) { }");
+                driver.manage().deleteAllCookies();
+                driver.get("about:blank");
+            } catch (WebDriverException e) {
+                logger.warn("Failed to clear browser state: {}", e.getMessage());
+            }
+        }
+        driver.switchTo().window(homeHandle);
+        CommandTransport.of(driver).switchedToWindow(homeHandle);
+    }
+
+    private static void removeQuietly(WebDriver driver, String userContext) {
+        try {
+            new Browser(driver).removeUserContext(userContext);
+        } catch (WebDriverException e) {
+            logger.warn("Failed to remove user context {}: {}", userContext, e.getMessage());
+        }
+    }
+}
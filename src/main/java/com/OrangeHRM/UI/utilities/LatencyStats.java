@@ -0,0 +1,57 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * LatencyStats - Count / mean / max over all samples, percentiles over the most recent ones
+ *
+ * Shared by the command instrumentation (CommandTransport, PooledHttpClient).
+ * Thread safe; samples are in microseconds, summaries in milliseconds.
+ */
+final class LatencyStats {
+
+    static final String HEADER = "count\tmeanMs\tp50Ms\tp95Ms\tmaxMs";
+
+    private final long[] samples;
+    private long count;
+    private long totalMicros;
+    private long maxMicros;
+
+    LatencyStats(int window) {
+        this.samples = new long[window];
+    }
+
+    synchronized void add(long micros) {
+        samples[(int) (count % samples.length)] = micros;
+        count++;
+        totalMicros += micros;
+        maxMicros = Math.max(maxMicros, micros);
+    }
+
+    synchronized long count() {
+        return count;
+    }
+
+    /**
+     * @return String - count, mean, p50, p95, max (ms) tab separated, see HEADER
+     */
+    synchronized String summary() {
+        long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+        Arrays.sort(sorted);
+        return count + "\t" + millis(totalMicros / Math.max(1, count)) + "\t" + millis(percentile(sorted, 50))
+                + "\t" + millis(percentile(sorted, 95)) + "\t" + millis(maxMicros);
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2f", micros / 1000.0);
+    }
+}
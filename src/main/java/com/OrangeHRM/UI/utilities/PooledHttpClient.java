@@ -0,0 +1,537 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpClientName;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * PooledHttpClient - Keep-alive HTTP/1.1 client for driver commands, one connection pool for all sessions
+ *
+ * Every driver session builds its own HTTP client, so each new browser starts
+ * with cold connections and nothing tells how often a connection is actually
+ * reused. This client is plugged in as Selenium's HTTP client factory
+ * ("pooled"), so every session created afterwards shares one pool.
+ *
+ * HOW IT WORKS:
+ * - Connections are pooled per route (scheme://host:port) and handed back after
+ *   each response unless the driver sent "Connection: close"; at most
+ *   httpMaxIdleConnectionsPerRoute idle connections are kept per route, for
+ *   httpKeepAliveMillis each
+ * - TCP_NODELAY is set, so small command requests are not held back by Nagle
+ * - Connect / read timeouts come from the session's ClientConfig (BaseTest passes
+ *   httpConnectTimeoutSeconds / httpReadTimeoutSeconds); an expired timeout is
+ *   thrown as Selenium's TimeoutException
+ * - Before an idle connection is reused it is probed with one non-blocking read:
+ *   EOF (closed by the driver) or unexpected bytes drop it, nothing waits
+ * - A pooled connection the driver closed after the probe fails before any response
+ *   byte - an idempotent request (GET, HEAD, PUT, DELETE, OPTIONS) is then sent
+ *   once more on a new connection. Other requests (new session, click, send keys)
+ *   may already have run, so they are never replayed - the failure is thrown
+ * - Requests are not pipelined: a session sends its next command only after the
+ *   previous response, so there is never a second request to put on the wire
+ * - Session WebSockets (BiDi) and proxied / authenticated configurations are
+ *   handed to Selenium's default JDK client
+ * - Metrics: requests, connections opened, reuse rate and request latency,
+ *   logged by logStats() (BaseTest @AfterSuite)
+ *
+ * USAGE:
+ * PooledHttpClient.install(); // before the first driver is created (BaseTest @BeforeSuite)
+ * // or -Dwebdriver.http.factory=pooled
+ */
+public final class PooledHttpClient implements HttpClient {
+
+    private static final Logger logger = LogManager.getLogger(PooledHttpClient.class);
+
+    /** Name Selenium looks the factory up by (webdriver.http.factory) */
+    public static final String NAME = "pooled";
+
+    private static final String FACTORY_PROPERTY = "webdriver.http.factory";
+    private static final int LATENCY_WINDOW = 1000;
+
+    private static final Map<String, Deque<Connection>> IDLE = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> CLIENTS_PER_ROUTE = new ConcurrentHashMap<>();
+    private static final AtomicLong REQUESTS = new AtomicLong();
+    private static final AtomicLong OPENED = new AtomicLong();
+    private static final AtomicLong REUSED = new AtomicLong();
+    private static final AtomicLong STALE = new AtomicLong();
+    private static final LatencyStats LATENCY = new LatencyStats(LATENCY_WINDOW);
+
+    private final ClientConfig config;
+    private final URI base;
+    private final String route;
+    private final HttpHandler handler;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private HttpClient webSockets;
+
+    private PooledHttpClient(ClientConfig config) {
+        this.config = config;
+        this.base = config.baseUri();
+        this.route = base.getScheme() + "://" + base.getHost() + ":" + port(base);
+        this.handler = config.filter().andFinally(this::send);
+        this.connectTimeoutMillis = timeoutMillis(config.connectionTimeout().toMillis());
+        this.readTimeoutMillis = timeoutMillis(config.readTimeout().toMillis());
+        CLIENTS_PER_ROUTE.computeIfAbsent(route, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Selenium HTTP client factory - registered in META-INF/services
+     */
+    @HttpClientName(NAME)
+    public static final class Factory implements HttpClient.Factory {
+        @Override
+        public HttpClient createClient(ClientConfig config) {
+            if (config.proxy() != null || config.credentials() != null) {
+                return new JdkHttpClient.Factory().createClient(config); // Not handled by the pool
+            }
+            return new PooledHttpClient(config);
+        }
+    }
+
+    /**
+     * Make the pooled client Selenium's default - sessions created afterwards share the pool
+     * (an explicit -Dwebdriver.http.factory wins)
+     */
+    public static void install() {
+        if (System.getProperty(FACTORY_PROPERTY) == null) {
+            System.setProperty(FACTORY_PROPERTY, NAME);
+        }
+        logger.info("Driver HTTP client: {}", System.getProperty(FACTORY_PROPERTY));
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request) {
+        return handler.execute(request);
+    }
+
+    @Override
+    public synchronized WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+        if (webSockets == null) {
+            webSockets = new JdkHttpClient.Factory().createClient(config);
+        }
+        return webSockets.openSocket(request, listener);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (webSockets != null) {
+                webSockets.close();
+                webSockets = null;
+            }
+        }
+        AtomicInteger clients = CLIENTS_PER_ROUTE.get(route);
+        if (clients != null && clients.decrementAndGet() <= 0) {
+            // Last session on this route (local drivers: the driver service stops with it)
+            Deque<Connection> idle = IDLE.remove(route);
+            if (idle != null) {
+                synchronized (idle) {
+                    for (Connection connection : idle) {
+                        connection.close();
+                    }
+                }
+            }
+        }
+    }
+
+    private HttpResponse send(HttpRequest request) {
+        byte[] body = Contents.bytes(request.getContent());
+        byte[] head = head(request, body.length);
+        long start = System.nanoTime();
+        REQUESTS.incrementAndGet();
+        try {
+            Connection connection = lease();
+            try {
+                return exchange(connection, head, body);
+            } catch (NoResponseException e) {
+                if (!isIdempotent(request.getMethod())) {
+                    throw e; // The driver may have run the command before the connection broke
+                }
+                STALE.incrementAndGet();
+                return exchange(open(), head, body);
+            }
+        } catch (SocketTimeoutException e) {
+            throw new TimeoutException("Driver request " + request.getMethod() + " " + request.getUri() + " timed out", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Driver request " + request.getMethod() + " " + request.getUri() + " failed", e);
+        } finally {
+            LATENCY.add((System.nanoTime() - start) / 1_000);
+        }
+    }
+
+    private HttpResponse exchange(Connection connection, byte[] head, byte[] body) throws IOException {
+        boolean keep = false;
+        try {
+            try {
+                connection.out.write(head);
+                connection.out.write(body);
+                connection.out.flush();
+            } catch (IOException e) {
+                if (connection.reused) {
+                    throw new NoResponseException(e.getMessage());
+                }
+                throw e;
+            }
+            HttpResponse response = new HttpResponse();
+            keep = connection.readResponse(response);
+            return response;
+        } finally {
+            if (keep) {
+                release(connection);
+            } else {
+                connection.close();
+            }
+        }
+    }
+
+    private byte[] head(HttpRequest request, int contentLength) {
+        StringBuilder target = new StringBuilder();
+        String basePath = base.getRawPath() == null ? "" : base.getRawPath();
+        target.append(basePath.endsWith("/") ? basePath.substring(0, basePath.length() - 1) : basePath);
+        target.append(request.getUri().startsWith("/") ? "" : "/").append(request.getUri());
+        char separator = '?';
+        for (String name : request.getQueryParameterNames()) {
+            for (String value : request.getQueryParameters(name)) {
+                target.append(separator).append(encode(name)).append('=').append(encode(value));
+                separator = '&';
+            }
+        }
+        StringBuilder head = new StringBuilder(256);
+        head.append(request.getMethod()).append(' ').append(target).append(" HTTP/1.1\r\n");
+        head.append("Host: ").append(base.getHost()).append(':').append(port(base)).append("\r\n");
+        request.forEachHeader((name, value) -> {
+            if (!"Content-Length".equalsIgnoreCase(name) && !"Connection".equalsIgnoreCase(name)
+                    && !"Host".equalsIgnoreCase(name)) {
+                head.append(name).append(": ").append(value).append("\r\n");
+            }
+        });
+        head.append("Content-Length: ").append(contentLength).append("\r\n");
+        head.append("Connection: keep-alive\r\n\r\n");
+        return head.toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private Connection lease() throws IOException {
+        Deque<Connection> idle = IDLE.get(route);
+        if (idle != null) {
+            long now = System.nanoTime();
+            while (true) {
+                Connection connection;
+                synchronized (idle) {
+                    connection = idle.pollFirst(); // Most recently used first
+                }
+                if (connection == null) {
+                    break;
+                }
+                if (now - connection.idleSince < TestConfig.HTTP_KEEP_ALIVE_MILLIS * 1_000_000L && connection.isOpen()) {
+                    REUSED.incrementAndGet();
+                    connection.reused = true;
+                    return connection;
+                }
+                connection.close();
+            }
+        }
+        return open();
+    }
+
+    private void release(Connection connection) {
+        Deque<Connection> idle = IDLE.computeIfAbsent(route, key -> new ArrayDeque<>());
+        synchronized (idle) {
+            if (idle.size() < TestConfig.HTTP_MAX_IDLE_CONNECTIONS_PER_ROUTE) {
+                connection.idleSince = System.nanoTime();
+                connection.reused = false;
+                idle.addFirst(connection);
+                return;
+            }
+        }
+        connection.close();
+    }
+
+    private Connection open() throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        Socket socket = channel.socket();
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setKeepAlive(true);
+            socket.connect(new InetSocketAddress(base.getHost(), port(base)), connectTimeoutMillis);
+            socket.setSoTimeout(readTimeoutMillis);
+            if ("https".equalsIgnoreCase(base.getScheme())) {
+                SSLContext ssl = config.sslContext() != null ? config.sslContext() : SSLContext.getDefault();
+                socket = ssl.getSocketFactory().createSocket(socket, base.getHost(), port(base), true);
+            }
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        } catch (NoSuchAlgorithmException e) {
+            socket.close();
+            throw new IOException("No default SSL context", e);
+        }
+        OPENED.incrementAndGet();
+        return new Connection(channel, socket);
+    }
+
+    // Safe to send twice (RFC 9110) - WebDriver POSTs are not
+    private static boolean isIdempotent(HttpMethod method) {
+        return method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.PUT
+                || method == HttpMethod.DELETE || method == HttpMethod.OPTIONS;
+    }
+
+    // Socket timeouts are int millis, 0 = infinite
+    private static int timeoutMillis(long millis) {
+        return millis <= 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, millis);
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() > 0) {
+            return uri.getPort();
+        }
+        return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+    }
+
+    private static String encode(String value) {
+        try {
+            return URLEncoder.encode(value, "UTF-8");
+        } catch (java.io.UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Log requests, connections opened, reuse rate and request latency of all sessions so far
+     */
+    public static void logStats() {
+        long requests = REQUESTS.get();
+        if (requests == 0) {
+            return;
+        }
+        logger.info("Driver HTTP client: {} requests, {} connections opened, {} reused ({}%), {} stale retried",
+                requests, OPENED.get(), REUSED.get(), Math.round(100.0 * REUSED.get() / requests), STALE.get());
+        logger.info("Driver HTTP latency: {} / {}", LatencyStats.HEADER, LATENCY.summary());
+    }
+
+    /**
+     * @return double - Share of requests (0..1) sent on an already open connection
+     */
+    public static double reuseRate() {
+        long requests = REQUESTS.get();
+        return requests == 0 ? 0 : (double) REUSED.get() / requests;
+    }
+
+    // A reused connection broke before the first response byte (closed by the driver while idle, or mid-command)
+    private static final class NoResponseException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        NoResponseException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class Connection {
+        final SocketChannel channel;
+        final Socket socket; // The channel's socket, or the TLS socket layered on it
+        final InputStream in;
+        final OutputStream out;
+        final ByteBuffer probe = ByteBuffer.allocate(1);
+        long idleSince;
+        boolean reused;
+
+        Connection(SocketChannel channel, Socket socket) throws IOException {
+            this.channel = channel;
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream(), 16 * 1024);
+            this.out = new BufferedOutputStream(socket.getOutputStream(), 16 * 1024);
+        }
+
+        // Idle keep-alive connection still open - one non-blocking read, no EOF and no stray bytes waiting
+        boolean isOpen() {
+            if (!channel.isOpen()) {
+                return false;
+            }
+            try {
+                if (in.available() > 0) {
+                    return false; // Unexpected bytes - not a clean idle connection
+                }
+                synchronized (channel.blockingLock()) {
+                    channel.configureBlocking(false);
+                    try {
+                        probe.clear();
+                        return channel.read(probe) == 0; // -1 = closed by the driver, 1 = unexpected byte
+                    } finally {
+                        channel.configureBlocking(true);
+                    }
+                }
+            } catch (IOException e) {
+                return false; // Reset by the driver
+            }
+        }
+
+        /**
+         * Read status line, headers and body into the response
+         *
+         * @return boolean - true if the connection can be reused
+         */
+        boolean readResponse(HttpResponse response) throws IOException {
+            int first;
+            try {
+                first = in.read();
+            } catch (SocketTimeoutException e) {
+                throw e; // The driver is busy, not gone
+            } catch (IOException e) {
+                if (reused) {
+                    throw new NoResponseException(e.getMessage());
+                }
+                throw e;
+            }
+            if (first == -1) {
+                if (reused) {
+                    throw new NoResponseException("Connection closed by the driver");
+                }
+                throw new EOFException("Connection closed before the response");
+            }
+            String statusLine = (char) first + nullToEmpty(readLine());
+            String[] status = statusLine.split(" ", 3);
+            int code = Integer.parseInt(status[1]);
+            response.setStatus(code);
+            boolean keepAlive = statusLine.startsWith("HTTP/1.1");
+            long contentLength = -1;
+            boolean chunked = false;
+            String line;
+            while ((line = readLine()) != null && !line.isEmpty()) {
+                int colon = line.indexOf(':');
+                if (colon <= 0) {
+                    continue;
+                }
+                String name = line.substring(0, colon).trim();
+                String value = line.substring(colon + 1).trim();
+                if ("Content-Length".equalsIgnoreCase(name)) {
+                    contentLength = Long.parseLong(value);
+                } else if ("Transfer-Encoding".equalsIgnoreCase(name)) {
+                    chunked = value.toLowerCase().contains("chunked");
+                } else if ("Connection".equalsIgnoreCase(name)) {
+                    keepAlive = value.equalsIgnoreCase("keep-alive") || (keepAlive && !value.equalsIgnoreCase("close"));
+                }
+                response.addHeader(name, value);
+            }
+            byte[] body;
+            if (code < 200 || code == 204 || code == 304) {
+                body = new byte[0];
+            } else if (chunked) {
+                body = readChunked();
+            } else if (contentLength >= 0) {
+                body = readFully((int) contentLength);
+            } else {
+                body = readToEnd(); // Delimited by close
+                keepAlive = false;
+            }
+            response.setContent(Contents.bytes(body));
+            return keepAlive;
+        }
+
+        private static String nullToEmpty(String value) {
+            return value == null ? "" : value;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder(64);
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\n') {
+                    int length = line.length();
+                    return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+                }
+                line.append((char) b);
+            }
+            return line.length() == 0 ? null : line.toString();
+        }
+
+        private byte[] readFully(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                int read = in.read(bytes, offset, length - offset);
+                if (read == -1) {
+                    throw new EOFException("Response body ended after " + offset + " of " + length + " bytes");
+                }
+                offset += read;
+            }
+            return bytes;
+        }
+
+        private byte[] readChunked() throws IOException {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            while (true) {
+                String sizeLine = readLine();
+                if (sizeLine == null) {
+                    throw new EOFException("Chunked response ended early");
+                }
+                int semicolon = sizeLine.indexOf(';');
+                int size = Integer.parseInt((semicolon >= 0 ? sizeLine.substring(0, semicolon) : sizeLine).trim(), 16);
+                if (size == 0) {
+                    String trailer;
+                    while ((trailer = readLine()) != null && !trailer.isEmpty()) {
+                        // Skip trailers
+                    }
+                    return body.toByteArray();
+                }
+                body.write(readFully(size));
+                readLine(); // CRLF after the chunk
+            }
+        }
+
+        private byte[] readToEnd() throws IOException {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+            return body.toByteArray();
+        }
+
+        void close() {
+            try {
+                socket.close();
+                channel.close();
+            } catch (IOException e) {
+                // Already closed
+            }
+        }
+    }
+}
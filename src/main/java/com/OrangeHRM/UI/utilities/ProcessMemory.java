@@ -0,0 +1,53 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * ProcessMemory - Resident set size of local processes, read from /proc
+ *
+ * Shared by the resource checks on browser processes (SessionAdmission, BrowserMemory).
+ * Linux only; isSupported() is false elsewhere and the callers skip their checks.
+ */
+final class ProcessMemory {
+
+    private ProcessMemory() {
+    }
+
+    static boolean isSupported() {
+        return Files.isDirectory(Paths.get("/proc/self"));
+    }
+
+    /**
+     * @return long - Summed VmRSS of the processes in MB (processes that exit while reading count 0), -1 if unsupported
+     */
+    static long rssMb(Stream<ProcessHandle> processes) {
+        if (!isSupported()) {
+            return -1;
+        }
+        return processes.mapToLong(ProcessMemory::rssKilobytes).sum() / 1024;
+    }
+
+    static long rssKilobytes(ProcessHandle process) {
+        Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        try {
+            for (String line : Files.readAllLines(status, StandardCharsets.US_ASCII)) {
+                if (line.startsWith("VmRSS:")) {
+                    return kilobytes(line);
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Process exited while sampling
+        }
+        return 0;
+    }
+
+    // "VmRSS:     123456 kB"
+    static long kilobytes(String line) {
+        return Long.parseLong(line.replaceAll("[^0-9]", ""));
+    }
+}
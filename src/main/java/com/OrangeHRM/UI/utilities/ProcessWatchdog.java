@@ -0,0 +1,519 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.http.Filter;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * ProcessWatchdog - Tracks the driver and browser processes of every session and kills stuck or leaked ones
+ *
+ * A hung command blocks its test thread until the HTTP read timeout, a hung
+ * test never reaches tearDown, and a killed JVM never runs cleanUp - in all
+ * three cases chromedriver / chrome processes stay behind on the CI agent and
+ * slow down every later run. The watchdog knows the process tree of every
+ * session and enforces hard limits on it.
+ *
+ * HOW IT WORKS:
+ * - track() finds the browser process of a new session from its capabilities
+ *   (Firefox: moz:processID, Chrome / Edge: the process started with the
+ *   session's userDataDir) and the driver service as its parent; sessions
+ *   whose browser is not a child process of this JVM (remote, Safari) are not watched
+ * - Once a second the tree below the driver is re-read, so every renderer /
+ *   content process is known - also after it was re-parented because the driver died
+ * - The PIDs (with their start time, so a recycled PID is never touched) are
+ *   written to watchdogPath/<jvm pid>.pids
+ * - A session whose test runs longer than watchdogTestTimeoutSeconds, or whose
+ *   current command has not answered within watchdogCommandTimeoutSeconds, is
+ *   killed (whole tree, forcibly): the blocked command fails at once and the
+ *   test thread moves on to tearDown
+ * - HTTP commands are timed by commandTimer(), a filter on the driver's ClientConfig
+ *   (BaseTest), so they are timed with any HTTP client - per session id, as
+ *   Selenium's default client runs filters on its own threads; BiDi commands are
+ *   timed by CommandTransport on the thread that started the test
+ * - untrack() kills whatever survived driver.quit(); a JVM shutdown hook kills
+ *   every tracked tree
+ * - reapOrphans() kills the processes listed in pid files of earlier runs whose
+ *   JVM is gone (kill -9, crashed agent) - pid files of runs still alive are left alone
+ *
+ * USAGE:
+ * ProcessWatchdog.reapOrphans();                  // suite start
+ * ClientConfig config = ClientConfig.defaultConfig().withFilter(ProcessWatchdog.commandTimer());
+ * WebDriver driver = ProcessWatchdog.track(new ChromeDriver(service, options, config));
+ * ProcessWatchdog.testStarted(driver, "LoginTest.testValidLogin");
+ * ProcessWatchdog.testFinished(driver);
+ * ProcessWatchdog.untrack(driver);                // after driver.quit()
+ */
+public final class ProcessWatchdog {
+
+    private static final Logger logger = LogManager.getLogger(ProcessWatchdog.class);
+
+    private static final String FILE_SUFFIX = ".pids";
+    private static final long TICK_MILLIS = 1000;
+
+    private static final ProcessHandle SELF = ProcessHandle.current();
+    private static final Path PID_FILE = Paths.get(TestConfig.WATCHDOG_PATH, SELF.pid() + FILE_SUFFIX);
+
+    private static final Map<WebDriver, Session> SESSIONS = Collections.synchronizedMap(new IdentityHashMap<WebDriver, Session>());
+    private static final Map<Thread, Session> BY_THREAD = new ConcurrentHashMap<>();
+    private static final Map<String, Session> BY_SESSION_ID = new ConcurrentHashMap<>();
+    private static final String SESSION_PATH = "/session/";
+    private static ScheduledExecutorService timer;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ProcessWatchdog::killAll, "process-watchdog-shutdown"));
+    }
+
+    private ProcessWatchdog() {
+    }
+
+    /**
+     * Process tree and timers of one browser session
+     */
+    private static final class Session {
+        final String name;
+        final ProcessHandle root;
+        final String sessionId; // WebDriver session id - HTTP commands are matched on it
+        final Map<Long, String> processes = new LinkedHashMap<>(); // pid -> start instant, guarded by this
+        volatile String test;
+        volatile long testStartNanos;
+        volatile long commandStartNanos;
+        volatile Thread thread;
+        volatile boolean killed;
+
+        Session(String name, ProcessHandle root, String sessionId) {
+            this.name = name;
+            this.root = root;
+            this.sessionId = sessionId;
+        }
+    }
+
+    /**
+     * Watch the driver / browser processes of a new local session
+     *
+     * @param driver - Session just started by this JVM
+     * @return T - The same driver
+     */
+    public static <T extends WebDriver> T track(T driver) {
+        if (!TestConfig.WATCHDOG_ENABLED) {
+            return driver;
+        }
+        ProcessHandle root = root(driver);
+        if (root == null) {
+            logger.debug("No local browser process found for {} - session not watched", driver.getClass().getSimpleName());
+            return driver;
+        }
+        SessionId sessionId = driver instanceof RemoteWebDriver ? ((RemoteWebDriver) driver).getSessionId() : null;
+        Session session = new Session(driver.getClass().getSimpleName() + " " + root.pid(), root,
+                sessionId == null ? null : sessionId.toString());
+        refresh(session);
+        SESSIONS.put(driver, session);
+        if (session.sessionId != null) {
+            BY_SESSION_ID.put(session.sessionId, session);
+        }
+        writePidFile();
+        startTimer();
+        logger.debug("Watching session {}: processes {}", session.name, session.processes.keySet());
+        return driver;
+    }
+
+    /**
+     * Start the hard test timeout of the session - binds the current thread's commands to it
+     *
+     * @param driver - Session the test runs in
+     * @param test - Test name (logs)
+     */
+    public static void testStarted(WebDriver driver, String test) {
+        Session session = SESSIONS.get(driver);
+        if (session == null) {
+            return;
+        }
+        session.test = test;
+        session.thread = Thread.currentThread();
+        session.commandStartNanos = 0;
+        session.testStartNanos = System.nanoTime();
+        BY_THREAD.put(Thread.currentThread(), session);
+    }
+
+    /**
+     * Stop the test timeout of the session
+     *
+     * @param driver - Session the test ran in
+     */
+    public static void testFinished(WebDriver driver) {
+        Session session = SESSIONS.get(driver);
+        if (session == null) {
+            return;
+        }
+        session.testStartNanos = 0;
+        if (session.thread != null) {
+            BY_THREAD.remove(session.thread, session);
+        }
+    }
+
+    /**
+     * HTTP filter timing every command of a watched session - add it to the ClientConfig the driver is created with
+     * (applied by Selenium's default client and PooledHttpClient alike)
+     *
+     * @return Filter - Marks the session's command as started until its response (or failure)
+     */
+    public static Filter commandTimer() {
+        return next -> request -> {
+            Session session = BY_SESSION_ID.isEmpty() ? null : BY_SESSION_ID.get(sessionIdOf(request.getUri()));
+            if (session == null) {
+                return next.execute(request);
+            }
+            session.commandStartNanos = System.nanoTime();
+            try {
+                return next.execute(request);
+            } finally {
+                session.commandStartNanos = 0;
+            }
+        };
+    }
+
+    /**
+     * A driver command is about to be sent from the current thread (commands that bypass HTTP, e.g. BiDi)
+     */
+    public static void commandStarted() {
+        if (!BY_THREAD.isEmpty()) {
+            Session session = BY_THREAD.get(Thread.currentThread());
+            if (session != null) {
+                session.commandStartNanos = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * The current thread's driver command has answered (or failed)
+     */
+    public static void commandFinished() {
+        if (!BY_THREAD.isEmpty()) {
+            Session session = BY_THREAD.get(Thread.currentThread());
+            if (session != null) {
+                session.commandStartNanos = 0;
+            }
+        }
+    }
+
+    /**
+     * Live processes of a watched session - driver service, browser and its children
+     *
+     * @param driver - Session returned by track()
+     * @return List<ProcessHandle> - Process tree, empty if the session is not watched
+     */
+    public static List<ProcessHandle> processes(WebDriver driver) {
+        Session session = SESSIONS.get(driver);
+        return session == null ? Collections.<ProcessHandle>emptyList() : tree(session);
+    }
+
+    /**
+     * Find the local process tree root of a session the same way track() does - also with the watchdog off
+     *
+     * @param driver - Session started by this JVM
+     * @return ProcessHandle - Driver service (or browser) process, null for remote / Safari sessions
+     */
+    public static ProcessHandle rootOf(WebDriver driver) {
+        return root(driver);
+    }
+
+    /**
+     * Live processes below a root returned by rootOf()
+     *
+     * @param root - Driver service or browser process
+     * @return List<ProcessHandle> - Root and all its descendants, empty once the root is gone
+     */
+    public static List<ProcessHandle> processTree(ProcessHandle root) {
+        List<ProcessHandle> tree = new ArrayList<>();
+        if (root.isAlive()) {
+            tree.add(root);
+            tree.addAll(root.descendants().collect(Collectors.toList()));
+        }
+        return tree;
+    }
+
+    /**
+     * Stop watching a session after driver.quit() - kills whatever is left of its process tree
+     *
+     * @param driver - Session that was quit
+     */
+    public static void untrack(WebDriver driver) {
+        Session session = SESSIONS.remove(driver);
+        if (session == null) {
+            return;
+        }
+        if (session.thread != null) {
+            BY_THREAD.remove(session.thread, session);
+        }
+        if (session.sessionId != null) {
+            BY_SESSION_ID.remove(session.sessionId, session);
+        }
+        int killed = kill(session);
+        if (killed > 0 && !session.killed) {
+            logger.warn("{} processes of session {} survived quit and were killed", killed, session.name);
+        }
+        writePidFile();
+    }
+
+    /**
+     * Kill the processes recorded by earlier runs whose JVM no longer exists
+     *
+     * @return int - Number of processes killed
+     */
+    public static int reapOrphans() {
+        Path dir = PID_FILE.getParent();
+        if (!TestConfig.WATCHDOG_ENABLED || !Files.isDirectory(dir)) {
+            return 0;
+        }
+        int killed = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (file.equals(PID_FILE)) {
+                    continue;
+                }
+                List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                if (!lines.isEmpty() && isAlive(lines.get(0))) {
+                    logger.debug("Run {} is still alive - leaving its processes alone", file.getFileName());
+                    continue;
+                }
+                for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+                    Optional<ProcessHandle> process = matching(line);
+                    if (process.isPresent()) {
+                        logger.info("Killing orphaned process {} from an earlier run: {}", process.get().pid(),
+                                process.get().info().command().orElse("?"));
+                        process.get().destroyForcibly();
+                        killed++;
+                    }
+                }
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Failed to reap orphaned processes in {}: {}", dir, e.getMessage());
+        }
+        if (killed > 0) {
+            logger.warn("Reaped {} orphaned driver / browser processes from earlier runs", killed);
+        }
+        return killed;
+    }
+
+    private static synchronized void startTimer() {
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "process-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.scheduleWithFixedDelay(ProcessWatchdog::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void tick() {
+        try {
+            List<Session> sessions;
+            synchronized (SESSIONS) {
+                sessions = new ArrayList<>(SESSIONS.values());
+            }
+            boolean changed = false;
+            long now = System.nanoTime();
+            for (Session session : sessions) {
+                changed |= refresh(session);
+                if (session.killed) {
+                    continue;
+                }
+                String reason = null;
+                long testStart = session.testStartNanos;
+                long commandStart = session.commandStartNanos;
+                if (TestConfig.WATCHDOG_TEST_TIMEOUT_SECONDS > 0 && testStart != 0
+                        && now - testStart > TimeUnit.SECONDS.toNanos(TestConfig.WATCHDOG_TEST_TIMEOUT_SECONDS)) {
+                    reason = "test ran longer than " + TestConfig.WATCHDOG_TEST_TIMEOUT_SECONDS + " s";
+                } else if (TestConfig.WATCHDOG_COMMAND_TIMEOUT_SECONDS > 0 && commandStart != 0
+                        && now - commandStart > TimeUnit.SECONDS.toNanos(TestConfig.WATCHDOG_COMMAND_TIMEOUT_SECONDS)) {
+                    reason = "command got no answer within " + TestConfig.WATCHDOG_COMMAND_TIMEOUT_SECONDS + " s";
+                }
+                if (reason != null) {
+                    session.killed = true;
+                    logger.error("Killing session {} of test {}: {}", session.name, session.test, reason);
+                    kill(session);
+                }
+            }
+            if (changed) {
+                writePidFile();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Process watchdog tick failed: {}", e.toString());
+        }
+    }
+
+    // Add new processes of the session's tree - true if there were any
+    private static boolean refresh(Session session) {
+        boolean changed = false;
+        List<ProcessHandle> tree = tree(session);
+        synchronized (session) {
+            for (ProcessHandle process : tree) {
+                if (!session.processes.containsKey(process.pid())) {
+                    session.processes.put(process.pid(), startOf(process));
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static List<ProcessHandle> tree(Session session) {
+        return processTree(session.root);
+    }
+
+    // Forcibly ends every live process of the session, children before the driver
+    private static int kill(Session session) {
+        refresh(session);
+        List<String> records = new ArrayList<>();
+        synchronized (session) {
+            for (Map.Entry<Long, String> process : session.processes.entrySet()) {
+                records.add(0, process.getKey() + "\t" + process.getValue());
+            }
+        }
+        int killed = 0;
+        for (String record : records) {
+            Optional<ProcessHandle> process = matching(record);
+            if (process.isPresent() && process.get().destroyForcibly()) {
+                killed++;
+            }
+        }
+        return killed;
+    }
+
+    private static void killAll() {
+        List<Session> sessions;
+        synchronized (SESSIONS) {
+            sessions = new ArrayList<>(SESSIONS.values());
+            SESSIONS.clear();
+        }
+        for (Session session : sessions) {
+            int killed = kill(session);
+            if (killed > 0) {
+                logger.warn("JVM shutdown: killed {} processes of session {}", killed, session.name);
+            }
+        }
+        try {
+            Files.deleteIfExists(PID_FILE);
+        } catch (IOException e) {
+            // Next run reaps what is listed
+        }
+    }
+
+    // "jvm pid \t start" first line, then one "pid \t start \t command" line per process
+    private static synchronized void writePidFile() {
+        List<String> lines = new ArrayList<>();
+        lines.add(SELF.pid() + "\t" + startOf(SELF));
+        synchronized (SESSIONS) {
+            for (Session session : SESSIONS.values()) {
+                synchronized (session) {
+                    for (Map.Entry<Long, String> process : session.processes.entrySet()) {
+                        lines.add(process.getKey() + "\t" + process.getValue() + "\t" + session.name);
+                    }
+                }
+            }
+        }
+        try {
+            if (lines.size() == 1) {
+                Files.deleteIfExists(PID_FILE);
+            } else {
+                Files.createDirectories(PID_FILE.getParent());
+                Files.write(PID_FILE, lines, StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write {}: {}", PID_FILE, e.getMessage());
+        }
+    }
+
+    // Browser process of the session, then its driver service when that is a child of this JVM
+    private static ProcessHandle root(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return null;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        ProcessHandle browser = null;
+        Object firefox = capabilities.getCapability("moz:processID");
+        if (firefox instanceof Number) {
+            browser = ProcessHandle.of(((Number) firefox).longValue()).orElse(null);
+        }
+        for (String vendor : new String[] {"chrome", "msedge"}) {
+            Object options = capabilities.getCapability(vendor);
+            if (browser == null && options instanceof Map && ((Map<?, ?>) options).get("userDataDir") != null) {
+                String argument = "--user-data-dir=" + ((Map<?, ?>) options).get("userDataDir");
+                browser = SELF.descendants().filter(process -> {
+                    String commandLine = process.info().commandLine().orElse("");
+                    return commandLine.contains(argument) && !commandLine.contains("--type=");
+                }).findFirst().orElse(null);
+            }
+        }
+        if (browser == null || SELF.descendants().noneMatch(browser::equals)) {
+            return null;
+        }
+        Optional<ProcessHandle> service = browser.parent();
+        if (service.isPresent() && service.get().parent().map(SELF::equals).orElse(false)) {
+            return service.get();
+        }
+        return browser;
+    }
+
+    // "/session/{id}/..." -> id, "" for session-less commands (new session, status)
+    private static String sessionIdOf(String uri) {
+        int start = uri.indexOf(SESSION_PATH);
+        if (start < 0) {
+            return "";
+        }
+        start += SESSION_PATH.length();
+        int end = uri.indexOf('/', start);
+        return end < 0 ? uri.substring(start) : uri.substring(start, end);
+    }
+
+    // Live process for a "pid \t start ..." record, only if it is still the process that was recorded
+    private static Optional<ProcessHandle> matching(String record) {
+        String[] fields = record.split("\t");
+        if (fields.length < 2) {
+            return Optional.empty();
+        }
+        try {
+            String start = fields[1];
+            return ProcessHandle.of(Long.parseLong(fields[0]))
+                    .filter(ProcessHandle::isAlive)
+                    .filter(process -> !start.isEmpty() && start.equals(startOf(process)));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isAlive(String jvmRecord) {
+        return matching(jvmRecord).isPresent();
+    }
+
+    private static String startOf(ProcessHandle process) {
+        return process.info().startInstant().map(Object::toString).orElse("");
+    }
+}
@@ -0,0 +1,183 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * RetryPolicy - Shared retry rules for step level (CommonMethods) and test level (RetryAnalyzer)
+ *
+ * HOW IT WORKS:
+ * - classify() maps an exception (or any of its causes) to a FailureType
+ * - Only transient failure types are retried - assertion errors and unknown
+ *   exceptions fail immediately
+ * - backoffMillis() grows the delay exponentially with "equal jitter" so parallel
+ *   threads do not retry in lock-step against the same slow page
+ * - Every retry takes a token from a suite-wide Budget. When the environment is
+ *   broken the budget runs out quickly and the suite stops paying for retries
+ *
+ * USAGE:
+ * RetryPolicy.execute("click login", 3, () -> { element.click(); return null; });
+ */
+public final class RetryPolicy {
+
+    private static final Logger logger = LogManager.getLogger(RetryPolicy.class);
+
+    /**
+     * Failure classification - decides whether a retry can help
+     */
+    public enum FailureType {
+        STALE_ELEMENT(true),
+        CLICK_INTERCEPTED(true),
+        NOT_INTERACTABLE(true),
+        ELEMENT_NOT_FOUND(true),
+        TIMEOUT(true),
+        NON_RETRYABLE(false);
+
+        private final boolean retryable;
+
+        FailureType(boolean retryable) {
+            this.retryable = retryable;
+        }
+
+        public boolean isRetryable() {
+            return retryable;
+        }
+    }
+
+    /**
+     * Suite-wide retry budget - a simple token counter shared by all threads
+     */
+    public static final class Budget {
+        private final String name;
+        private final AtomicInteger remaining;
+
+        Budget(String name, int tokens) {
+            this.name = name;
+            this.remaining = new AtomicInteger(tokens);
+        }
+
+        /**
+         * Take one retry token
+         *
+         * @return true if a token was available
+         */
+        public boolean tryAcquire() {
+            while (true) {
+                int current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (remaining.compareAndSet(current, current - 1)) {
+                    if (current == 1) {
+                        logger.warn("{} retry budget exhausted - further failures will not be retried", name);
+                    }
+                    return true;
+                }
+            }
+        }
+
+        public int remaining() {
+            return Math.max(0, remaining.get());
+        }
+    }
+
+    // Step retries are cheap (milliseconds), test retries re-run a whole browser session
+    public static final Budget STEP_BUDGET = new Budget("Step", TestConfig.STEP_RETRY_BUDGET);
+    public static final Budget TEST_BUDGET = new Budget("Test", TestConfig.TEST_RETRY_BUDGET);
+
+    private RetryPolicy() {
+    }
+
+    /**
+     * Classify an exception by walking its cause chain
+     *
+     * @param error - Exception thrown by a step or a test
+     * @return FailureType - Classification of the first recognised cause
+     */
+    public static FailureType classify(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof StaleElementReferenceException) {
+                return FailureType.STALE_ELEMENT;
+            }
+            if (t instanceof ElementClickInterceptedException) {
+                return FailureType.CLICK_INTERCEPTED;
+            }
+            if (t instanceof ElementNotInteractableException) {
+                return FailureType.NOT_INTERACTABLE;
+            }
+            if (t instanceof NoSuchElementException) {
+                return FailureType.ELEMENT_NOT_FOUND;
+            }
+            if (t instanceof TimeoutException) {
+                return FailureType.TIMEOUT;
+            }
+            if (t instanceof AssertionError) {
+                return FailureType.NON_RETRYABLE;
+            }
+        }
+        return FailureType.NON_RETRYABLE;
+    }
+
+    /**
+     * Delay before the given retry attempt: half exponential, half random
+     *
+     * @param attempt - Retry number starting at 1
+     * @return long - Delay in milliseconds
+     */
+    public static long backoffMillis(int attempt) {
+        long base = Math.max(1, TestConfig.RETRY_BASE_DELAY_MILLIS);
+        int shift = Math.min(Math.max(attempt - 1, 0), 20);
+        long ceiling = Math.min(TestConfig.RETRY_MAX_DELAY_MILLIS, base << shift);
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(ceiling - half + 1);
+    }
+
+    /**
+     * Run an action, retrying transient failures with backoff and the step budget
+     *
+     * @param description - Action name for logging
+     * @param maxAttempts - Total attempts including the first one
+     * @param action - Action to run
+     * @return T - Result of the action
+     */
+    public static <T> T execute(String description, int maxAttempts, Supplier<T> action) {
+        int attempt = 1;
+        while (true) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                FailureType type = classify(e);
+                if (!type.isRetryable() || attempt >= maxAttempts || !STEP_BUDGET.tryAcquire()) {
+                    throw e;
+                }
+                long delay = backoffMillis(attempt);
+                logger.debug("Retrying '{}' after {} ({} ms, attempt {}/{})",
+                        description, type, delay, attempt + 1, maxAttempts);
+                sleep(delay);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Sleep that restores the interrupt flag instead of swallowing it
+     */
+    public static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * SessionAdmission - Starts a new browser only while the machine has room for it
+ *
+ * A fixed thread-count in testng.xml is a guess: too high and the browsers
+ * swap and time out, too low and cores sit idle. Every browser start goes
+ * through this controller instead, which admits it only while free memory,
+ * system CPU load and the RSS of the browsers already running are below the
+ * configured limits. Surplus TestNG threads simply wait their turn.
+ *
+ * HOW IT WORKS:
+ * - admit() queues the calling thread (FIFO - sessions are admitted in arrival
+ *   order, a later thread never overtakes a waiting one) and re-samples the
+ *   machine every admissionPollMillis and whenever a browser is released
+ * - The head of the queue is admitted when live sessions (started or starting)
+ *   < admissionMaxSessions (0 = no limit, thread-count in testng.xml decides) and MemAvailable >=
+ *   admissionMinFreeMemoryMb and system CPU load <= admissionMaxCpuLoad and the
+ *   RSS of all processes started by this JVM (drivers and browsers) <=
+ *   admissionMaxBrowserRssMb (0 = no limit)
+ * - Progress is guaranteed: with no live session the head is always admitted,
+ *   and after admissionMaxWaitSeconds the resource limits are ignored for it -
+ *   logged as a forced admission. The session cap is never ignored: a session
+ *   still blocked by it after admissionMaxWaitSeconds fails with an
+ *   IllegalStateException (more test threads than admissionMaxSessions while
+ *   browsers are kept for the whole suite would otherwise wait forever)
+ * - released() is called when a browser is quit and wakes the queue
+ * - Samples (/proc/meminfo, CPU load, RSS of every child process) are taken
+ *   outside the lock; only the decision holds it, so released() never waits
+ *   behind a sample
+ * - Every admission / release is recorded with its samples; writeMetrics()
+ *   writes them to reportPath/session-admission.tsv (BaseTest @AfterSuite)
+ * - Samples that are not available on the platform (no /proc, no CPU load)
+ *   do not block admission
+ *
+ * USAGE:
+ * WebDriver driver = SessionAdmission.admit("chrome", () -> new ChromeDriver(options));
+ * SessionAdmission.released(driver); // after driver.quit()
+ */
+public final class SessionAdmission {
+
+    private static final Logger logger = LogManager.getLogger(SessionAdmission.class);
+
+    private static final String FILE_NAME = "session-admission.tsv";
+    private static final String HEADER = "elapsedMillis\tevent\tsession\tlive\tqueued\tfreeMemoryMb\tcpuLoad\tbrowserRssMb\twaitMillis";
+    private static final int MAX_EVENTS = 10_000;
+    private static final long MB = 1024 * 1024;
+
+    private static final int MAX_SESSIONS = TestConfig.ADMISSION_MAX_SESSIONS > 0 ? TestConfig.ADMISSION_MAX_SESSIONS : Integer.MAX_VALUE;
+    private static final long START_NANOS = System.nanoTime();
+
+    // All state below is guarded by LOCK
+    private static final Object LOCK = new Object();
+    private static final Deque<Long> QUEUE = new ArrayDeque<>();
+    private static final Set<WebDriver> LIVE = Collections.newSetFromMap(new IdentityHashMap<WebDriver, Boolean>());
+    private static final List<String> EVENTS = new ArrayList<>();
+    private static long nextTicket;
+    private static long changes; // Bumped on every wake-up, so a change made while sampling is not slept through
+    private static int starting;
+    private static int peak;
+    private static long admitted;
+    private static long forced;
+    private static long waitedMillis;
+
+    private SessionAdmission() {
+    }
+
+    /**
+     * Starts one browser session
+     */
+    @FunctionalInterface
+    public interface SessionStart<T extends WebDriver> {
+        T start();
+    }
+
+    /**
+     * Wait until a new session fits on the machine, then start it
+     *
+     * @param name - Session name (logs / metrics), e.g. the browser
+     * @param start - Starts the session once admitted
+     * @return T - The started session, counted as live until released()
+     */
+    public static <T extends WebDriver> T admit(String name, SessionStart<T> start) {
+        if (!TestConfig.ADMISSION_CONTROL_ENABLED) {
+            return start.start();
+        }
+        enter(name);
+        T driver;
+        try {
+            driver = start.start();
+        } catch (RuntimeException | Error e) {
+            Sample sample = Sample.take();
+            synchronized (LOCK) {
+                starting--;
+                record("failed", name, sample, 0);
+                signal();
+            }
+            throw e;
+        }
+        synchronized (LOCK) {
+            starting--;
+            LIVE.add(driver);
+        }
+        return driver;
+    }
+
+    /**
+     * Mark a session as ended (after quit) - frees its slot for the next waiting thread
+     *
+     * @param driver - Session returned by admit() (other drivers are ignored)
+     */
+    public static void released(WebDriver driver) {
+        if (!TestConfig.ADMISSION_CONTROL_ENABLED) {
+            return; // Nothing was admitted
+        }
+        Sample sample = Sample.take();
+        synchronized (LOCK) {
+            if (LIVE.remove(driver)) {
+                record("released", "", sample, 0);
+                signal();
+            }
+        }
+    }
+
+    /**
+     * @return int - Sessions started or starting right now
+     */
+    public static int liveSessions() {
+        synchronized (LOCK) {
+            return LIVE.size() + starting;
+        }
+    }
+
+    /**
+     * @return int - Threads waiting for admission right now
+     */
+    public static int queuedSessions() {
+        synchronized (LOCK) {
+            return QUEUE.size();
+        }
+    }
+
+    /**
+     * @return int - Highest number of live sessions so far
+     */
+    public static int peakSessions() {
+        synchronized (LOCK) {
+            return peak;
+        }
+    }
+
+    /**
+     * Log the admission summary and write every admission / release to reportPath/session-admission.tsv
+     */
+    public static void writeMetrics() {
+        List<String> lines = new ArrayList<>();
+        synchronized (LOCK) {
+            if (admitted == 0) {
+                return;
+            }
+            logger.info("Session admission: {} admitted, peak {} live (max {}), {} forced, average wait {} ms",
+                    admitted, peak, MAX_SESSIONS == Integer.MAX_VALUE ? "unlimited" : MAX_SESSIONS, forced, waitedMillis / admitted);
+            lines.add(HEADER);
+            lines.addAll(EVENTS);
+        }
+        Path file = Paths.get(TestConfig.REPORT_PATH, FILE_NAME);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to write {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static void enter(String name) {
+        long start = System.nanoTime();
+        long deadline = start + TestConfig.ADMISSION_MAX_WAIT_SECONDS * 1_000_000_000L;
+        Long ticket;
+        synchronized (LOCK) {
+            ticket = nextTicket++;
+            QUEUE.addLast(ticket);
+        }
+        String lastReason = null;
+        try {
+            while (true) {
+                long seen;
+                boolean head;
+                synchronized (LOCK) {
+                    seen = changes;
+                    head = ticket.equals(QUEUE.peekFirst());
+                }
+                Sample sample = head ? Sample.take() : null; // Outside LOCK - reads /proc
+                synchronized (LOCK) {
+                    if (sample != null) {
+                        int live = LIVE.size() + starting;
+                        String reason = live == 0 ? null : sample.blockedBy(live);
+                        boolean overdue = System.nanoTime() - deadline > 0;
+                        if (overdue && live >= MAX_SESSIONS) {
+                            QUEUE.removeFirst();
+                            record("rejected", name, sample, (System.nanoTime() - start) / 1_000_000);
+                            signal();
+                            throw new IllegalStateException("Session " + name + " not admitted within "
+                                    + TestConfig.ADMISSION_MAX_WAIT_SECONDS + " s: " + live + " browsers are live and admissionMaxSessions is "
+                                    + MAX_SESSIONS + " - raise admissionMaxSessions (0 = no limit) or lower the thread-count in testng.xml");
+                        }
+                        if (reason == null || overdue) {
+                            long waited = (System.nanoTime() - start) / 1_000_000;
+                            QUEUE.removeFirst();
+                            starting++;
+                            admitted++;
+                            waitedMillis += waited;
+                            peak = Math.max(peak, live + 1);
+                            if (reason != null) {
+                                forced++;
+                                logger.warn("Admitting session {} after {} ms although {}", name, waited, reason);
+                            }
+                            record(reason == null ? "admitted" : "forced", name, sample, waited);
+                            logger.debug("Session {} admitted after {} ms ({} live, {} queued, {})",
+                                    name, waited, live + 1, QUEUE.size(), sample);
+                            signal(); // Next in line may fit as well
+                            return;
+                        }
+                        if (!reason.equals(lastReason)) {
+                            logger.info("Session {} waiting: {} ({} live, {} queued)", name, reason, live, QUEUE.size());
+                            lastReason = reason;
+                        }
+                    }
+                    if (changes == seen) {
+                        LOCK.wait(Math.max(1, TestConfig.ADMISSION_POLL_MILLIS));
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            synchronized (LOCK) {
+                QUEUE.remove(ticket);
+                signal();
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for browser admission", e);
+        }
+    }
+
+    // Caller holds LOCK
+    private static void signal() {
+        changes++;
+        LOCK.notifyAll();
+    }
+
+    // Caller holds LOCK
+    private static void record(String event, String name, Sample sample, long waitMillis) {
+        if (EVENTS.size() >= MAX_EVENTS) {
+            return;
+        }
+        EVENTS.add((System.nanoTime() - START_NANOS) / 1_000_000 + "\t" + event + "\t" + name
+                + "\t" + (LIVE.size() + starting) + "\t" + QUEUE.size()
+                + "\t" + sample.freeMemoryMb + "\t" + String.format("%.2f", sample.cpuLoad)
+                + "\t" + sample.browserRssMb + "\t" + waitMillis);
+    }
+
+    /**
+     * Machine state at one point in time - negative values are not available on this platform
+     */
+    private static final class Sample {
+        final long freeMemoryMb;
+        final double cpuLoad;
+        final long browserRssMb;
+
+        private Sample(long freeMemoryMb, double cpuLoad, long browserRssMb) {
+            this.freeMemoryMb = freeMemoryMb;
+            this.cpuLoad = cpuLoad;
+            this.browserRssMb = browserRssMb;
+        }
+
+        static Sample take() {
+            return new Sample(freeMemoryMb(), cpuLoad(), browserRssMb());
+        }
+
+        String blockedBy(int live) {
+            if (live >= MAX_SESSIONS) {
+                return "session limit " + MAX_SESSIONS + " reached";
+            }
+            if (freeMemoryMb >= 0 && freeMemoryMb < TestConfig.ADMISSION_MIN_FREE_MEMORY_MB) {
+                return "free memory " + freeMemoryMb + " MB < " + TestConfig.ADMISSION_MIN_FREE_MEMORY_MB + " MB";
+            }
+            if (cpuLoad >= 0 && cpuLoad > TestConfig.ADMISSION_MAX_CPU_LOAD) {
+                return String.format("CPU load %.2f > %.2f", cpuLoad, TestConfig.ADMISSION_MAX_CPU_LOAD);
+            }
+            if (TestConfig.ADMISSION_MAX_BROWSER_RSS_MB > 0 && browserRssMb > TestConfig.ADMISSION_MAX_BROWSER_RSS_MB) {
+                return "browser RSS " + browserRssMb + " MB > " + TestConfig.ADMISSION_MAX_BROWSER_RSS_MB + " MB";
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("free %d MB, CPU %.2f, browser RSS %d MB", freeMemoryMb, cpuLoad, browserRssMb);
+        }
+
+        // MemAvailable (page cache the kernel can drop counts as free); MXBean elsewhere
+        @SuppressWarnings("deprecation")
+        private static long freeMemoryMb() {
+            Path meminfo = Paths.get("/proc/meminfo");
+            if (Files.isReadable(meminfo)) {
+                try {
+                    for (String line : Files.readAllLines(meminfo, StandardCharsets.US_ASCII)) {
+                        if (line.startsWith("MemAvailable:")) {
+                            return ProcessMemory.kilobytes(line) / 1024;
+                        }
+                    }
+                } catch (IOException | NumberFormatException e) {
+                    logger.debug("Cannot read {}: {}", meminfo, e.getMessage());
+                }
+            }
+            OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            if (os instanceof com.sun.management.OperatingSystemMXBean) {
+                return ((com.sun.management.OperatingSystemMXBean) os).getFreePhysicalMemorySize() / MB;
+            }
+            return -1;
+        }
+
+        // Whole machine 0-1; falls back to the 1 minute load average per core
+        @SuppressWarnings("deprecation")
+        private static double cpuLoad() {
+            OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            if (os instanceof com.sun.management.OperatingSystemMXBean) {
+                double load = ((com.sun.management.OperatingSystemMXBean) os).getSystemCpuLoad();
+                if (load >= 0) {
+                    return load;
+                }
+            }
+            double average = os.getSystemLoadAverage();
+            return average < 0 ? -1 : average / os.getAvailableProcessors();
+        }
+
+        // VmRSS of every process started (directly or not) by this JVM - drivers and their browsers
+        private static long browserRssMb() {
+            return ProcessMemory.rssMb(ProcessHandle.current().descendants());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.OrangeHRM.UI.utilities;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+
+/**
+ * TabFanOut - Loads several pages in parallel tabs of one session and checks them one by one
+ *
+ * Visiting N read-only pages in one tab costs the sum of N page loads. The
+ * browser loads tabs concurrently, so opening all of them first and checking
+ * them afterwards costs roughly the slowest load plus the (fast) checks.
+ *
+ * HOW IT WORKS:
+ * - One script opens every URL with window.open(url, name) from the current tab:
+ *   the tabs share the session (cookies, login) and start loading at once
+ * - A URL whose window.open was blocked is opened with switchTo().newWindow(TAB)
+ *   and loaded there instead (no overlap for that one)
+ * - Each new tab is then switched to, identified by its window.name and handed
+ *   to the check - the check only waits for what is still loading
+ * - Switching is done here (CommandTransport is told about every switch); the
+ *   check must stay in its tab
+ * - All tabs are closed and the original tab is current again afterwards, also
+ *   if a check throws
+ *
+ * USAGE:
+ * Map<String, Boolean> ok = TabFanOut.fanOut(driver, urlsByName, (tab, name) -> tab.getCurrentUrl().contains(name));
+ */
+public final class TabFanOut {
+
+    private static final Logger logger = LogManager.getLogger(TabFanOut.class);
+
+    private static final String NAME_PREFIX = "fanout-";
+
+    // arguments: [[name, url], ...] - returns the names whose window.open was blocked
+    private static final String OPEN_SCRIPT =
+            "var blocked = [];"
+            + "arguments[0].forEach(function (tab) {"
+            + "  if (!window.open(tab[1], tab[0])) { blocked.push(tab[0]); }"
+            + "});"
+            + "return blocked;";
+
+    private TabFanOut() {
+    }
+
+    /**
+     * Check run in each tab while it is the current window
+     */
+    @FunctionalInterface
+    public interface TabCheck<T> {
+        T check(WebDriver driver, String name);
+    }
+
+    /**
+     * Open all URLs in new tabs at once, then run the check in each of them
+     *
+     * @param driver - WebDriver session (the current tab stays open and is current again afterwards)
+     * @param urlsByName - Tab name -> URL, in check order
+     * @param check - Check to run in each tab
+     * @return Map<String, T> - Check result per tab name, in the order of urlsByName
+     */
+    public static <T> Map<String, T> fanOut(WebDriver driver, Map<String, String> urlsByName, TabCheck<T> check) {
+        long start = System.nanoTime();
+        String home = driver.getWindowHandle();
+        Set<String> before = driver.getWindowHandles();
+
+        List<List<String>> tabs = new ArrayList<>();
+        for (Map.Entry<String, String> entry : urlsByName.entrySet()) {
+            List<String> tab = new ArrayList<>(2);
+            tab.add(NAME_PREFIX + entry.getKey());
+            tab.add(entry.getValue());
+            tabs.add(tab);
+        }
+        Object blocked = CommandTransport.of(driver).executeScript(OPEN_SCRIPT, tabs);
+
+        Map<String, String> handlesByName = new LinkedHashMap<>();
+        try {
+            if (blocked instanceof List && !((List<?>) blocked).isEmpty()) {
+                logger.debug("window.open blocked for {} - opening them one by one", blocked);
+                for (Object name : (List<?>) blocked) {
+                    String tabName = String.valueOf(name).substring(NAME_PREFIX.length());
+                    driver.switchTo().newWindow(WindowType.TAB);
+                    String handle = driver.getWindowHandle();
+                    CommandTransport.of(driver).switchedToWindow(handle);
+                    handlesByName.put(tabName, handle);
+                    driver.get(urlsByName.get(tabName));
+                }
+            }
+            Set<String> opened = new LinkedHashSet<>(driver.getWindowHandles());
+            opened.removeAll(before);
+            opened.removeAll(handlesByName.values());
+            for (String handle : opened) {
+                switchTo(driver, handle);
+                Object windowName = CommandTransport.of(driver).executeScript("return window.name;");
+                String name = String.valueOf(windowName);
+                if (name.startsWith(NAME_PREFIX)) {
+                    handlesByName.put(name.substring(NAME_PREFIX.length()), handle);
+                }
+            }
+
+            Map<String, T> results = new LinkedHashMap<>();
+            for (String name : urlsByName.keySet()) {
+                String handle = handlesByName.get(name);
+                if (handle == null) {
+                    throw new WebDriverException("Tab '" + name + "' was not opened");
+                }
+                switchTo(driver, handle);
+                results.put(name, check.check(driver, name));
+            }
+            logger.debug("Fan-out over {} tabs took {} ms", urlsByName.size(), (System.nanoTime() - start) / 1_000_000);
+            return results;
+        } finally {
+            Set<String> toClose = new LinkedHashSet<>(driver.getWindowHandles());
+            toClose.removeAll(before);
+            for (String handle : toClose) {
+                try {
+                    switchTo(driver, handle);
+                    driver.close();
+                } catch (WebDriverException e) {
+                    logger.debug("Tab {} already gone: {}", handle, e.getMessage());
+                }
+            }
+            switchTo(driver, home);
+        }
+    }
+
+    private static void switchTo(WebDriver driver, String handle) {
+        driver.switchTo().window(handle);
+        CommandTransport.of(driver).switchedToWindow(handle);
+    }
+}
@@ -0,0 +1,153 @@
+package com.OrangeHRM.UITest.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import com.OrangeHRM.UI.utilities.BulkElementReader;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * BulkElementReadBenchmark - Reading the texts of a list: per-element getText vs one bulk script
+ *
+ * No browser is needed: the RemoteWebDriver talks to a stub W3C WebDriver endpoint
+ * on localhost that answers findElements, element text and execute/sync. The
+ * client side (HTTP, JSON, command dispatch) is real; the browser's own work is
+ * modelled by parking driverLatencyMicros per command (a local chromedriver round
+ * trip is typically 0.5 - 3 ms).
+ *
+ * BENCHMARKS:
+ * - perElementGetText - previous style: findElements + WebElement::getText per element
+ *   (1 + n round trips)
+ * - bulkReadTexts - BulkElementReader.readTexts: locator and projection evaluated in
+ *   the page, one round trip
+ *
+ * PARAMS:
+ * - elements = 10, 100, 1000
+ * - driverLatencyMicros = 0 (client overhead only), 1000 (realistic driver round trip)
+ *
+ * USAGE:
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="BulkElementReadBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BulkElementReadBenchmark {
+
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+    private static final String SESSION_ID = "benchmark";
+
+    @Param({"10", "100", "1000"})
+    public int elements;
+
+    @Param({"0", "1000"})
+    public long driverLatencyMicros;
+
+    private HttpServer server;
+    private RemoteWebDriver driver;
+    private String elementsResponse;
+    private String bulkResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        java.util.logging.Logger.getLogger("org.openqa.selenium").setLevel(Level.WARNING);
+        StringBuilder found = new StringBuilder("{\"value\":[");
+        StringBuilder records = new StringBuilder("{\"value\":[");
+        for (int i = 0; i < elements; i++) {
+            found.append(i == 0 ? "" : ",").append("{\"").append(ELEMENT_KEY).append("\":\"e").append(i).append("\"}");
+            records.append(i == 0 ? "" : ",").append("{\"text\":\"Item ").append(i).append("\"}");
+        }
+        elementsResponse = found.append("]}").toString();
+        bulkResponse = records.append("]}").toString();
+
+        // Headers and body go out as separate writes - without TCP_NODELAY every response waits for a delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        driver = new RemoteWebDriver(new URL("http://127.0.0.1:" + server.getAddress().getPort()), new MutableCapabilities());
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.quit();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public List<String> perElementGetText() {
+        List<WebElement> found = driver.findElements(By.cssSelector("ul.list > li"));
+        List<String> texts = new ArrayList<>(found.size());
+        for (WebElement element : found) {
+            texts.add(element.getText());
+        }
+        return texts;
+    }
+
+    @Benchmark
+    public List<String> bulkReadTexts() {
+        return BulkElementReader.readTexts(driver, By.cssSelector("ul.list > li"));
+    }
+
+    // Minimal W3C WebDriver remote end: new session, find elements, element text, execute script, quit
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            while (body.read(buffer) >= 0) {
+                // Drain the request
+            }
+        }
+        if (driverLatencyMicros > 0) {
+            LockSupport.parkNanos(driverLatencyMicros * 1_000);
+        }
+        String path = exchange.getRequestURI().getPath();
+        String response;
+        if (path.equals("/session")) {
+            response = "{\"value\":{\"sessionId\":\"" + SESSION_ID + "\",\"capabilities\":{\"browserName\":\"stub\"}}}";
+        } else if (path.endsWith("/elements")) {
+            response = elementsResponse;
+        } else if (path.endsWith("/text")) {
+            String id = path.substring(path.indexOf("/element/") + 9, path.lastIndexOf('/'));
+            response = "{\"value\":\"Item " + id.substring(1) + "\"}";
+        } else if (path.endsWith("/execute/sync")) {
+            response = bulkResponse;
+        } else {
+            response = "{\"value\":null}";
+        }
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.OrangeHRM.UITest.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.jdk.JdkHttpClient;
+
+import com.OrangeHRM.UI.utilities.PooledHttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * DriverHttpClientBenchmark - Latency of one driver command: Selenium's JDK client vs PooledHttpClient
+ *
+ * No browser is needed: the RemoteWebDriver talks to a stub W3C WebDriver endpoint
+ * on localhost that answers every command immediately, so the measured time is
+ * the client side of a command (encoding, HTTP exchange, decoding).
+ *
+ * BENCHMARKS:
+ * - getTitle - one GET command
+ * - executeScript - one POST command with a JSON body
+ *
+ * PARAMS:
+ * - client = jdk-http-client (Selenium default), pooled (PooledHttpClient)
+ *
+ * USAGE:
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="DriverHttpClientBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DriverHttpClientBenchmark {
+
+    @Param({"jdk-http-client", "pooled"})
+    public String client;
+
+    private HttpServer server;
+    private RemoteWebDriver driver;
+
+    @Setup
+    public void setUp() throws IOException {
+        java.util.logging.Logger.getLogger("org.openqa.selenium").setLevel(Level.WARNING);
+        // Headers and body go out as separate writes - without TCP_NODELAY every response waits for a delayed ACK
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        URL url = new URL("http://127.0.0.1:" + server.getAddress().getPort());
+        HttpClient.Factory factory = "pooled".equals(client) ? new PooledHttpClient.Factory() : new JdkHttpClient.Factory();
+        HttpCommandExecutor executor = new HttpCommandExecutor(Collections.emptyMap(), ClientConfig.defaultConfig().baseUrl(url), factory);
+        driver = new RemoteWebDriver(executor, new MutableCapabilities());
+    }
+
+    @TearDown
+    public void tearDown() {
+        driver.quit();
+        server.stop(0);
+        if ("pooled".equals(client)) {
+            PooledHttpClient.logStats();
+        }
+    }
+
+    @Benchmark
+    public String getTitle() {
+        return driver.getTitle();
+    }
+
+    @Benchmark
+    public Object executeScript() {
+        return driver.executeScript("return document.title;", "argument");
+    }
+
+    // Minimal W3C WebDriver remote end: new session, every other command answers a string
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] buffer = new byte[8192];
+            while (body.read(buffer) >= 0) {
+                // Drain the request
+            }
+        }
+        String response = exchange.getRequestURI().getPath().equals("/session")
+                ? "{\"value\":{\"sessionId\":\"benchmark\",\"capabilities\":{\"browserName\":\"stub\"}}}"
+                : "{\"value\":\"OrangeHRM\"}";
+        byte[] bytes = response.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
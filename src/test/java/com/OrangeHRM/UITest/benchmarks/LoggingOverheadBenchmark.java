@@ -0,0 +1,127 @@
+package com.OrangeHRM.UITest.benchmarks;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * LoggingOverheadBenchmark - Per-test logging cost before and after the async pipeline
+ *
+ * Each benchmark invocation replays the logging of one test (BaseTest setUp/tearDown
+ * + page object steps): 12 INFO lines, 8 DEBUG lines and one "expensive" parameter
+ * standing in for driver.getTitle(). Four threads log at the same time, like
+ * parallel="methods" in testng.xml. Each invocation also parks for
+ * BROWSER_WAIT_MICROS to model the time a test thread spends blocked on WebDriver
+ * I/O (this is when the async logger's background thread drains its queue) -
+ * subtract it from the score to get the logging overhead per test.
+ *
+ * BENCHMARKS:
+ * - systemOutAndEagerParams - previous style: System.out.println with string
+ *   concatenation, DEBUG messages built even though DEBUG is off
+ * - loggerWithLazyParams - current style: parameterized messages, Supplier for
+ *   the expensive parameter
+ *
+ * PARAMS:
+ * - appenders=sync  - previous log4j2.xml (sync logger, %L location, flush per event)
+ * - appenders=async - current log4j2.xml (async logger, garbage-free, buffered file)
+ *
+ * "Before" = sync + systemOutAndEagerParams, "after" = async + loggerWithLazyParams.
+ * Console output is left out on both sides (System.out goes to a file) so the
+ * numbers are not dominated by the JMH fork's stdout pipe.
+ *
+ * USAGE:
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="LoggingOverheadBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoggingOverheadBenchmark {
+
+    private static final int INFO_LINES = 12;
+    private static final int DEBUG_LINES = 8;
+    private static final long BROWSER_WAIT_MICROS = 2_000;
+
+    @Param({"sync", "async"})
+    public String appenders;
+
+    private Logger logger;
+    private PrintStream systemOut;
+    private PrintStream originalSystemOut;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // Must happen before the first LogManager call in this (forked) JVM
+        System.setProperty("log4j2.configurationFile", "benchmarks/log4j2-" + appenders + ".xml");
+        logger = LogManager.getLogger("com.OrangeHRM.UITest.benchmarks.SimulatedTest");
+
+        Files.createDirectories(Paths.get("target/benchmark-logs"));
+        originalSystemOut = System.out;
+        systemOut = new PrintStream(new FileOutputStream("target/benchmark-logs/system-out-" + appenders + ".log"), true);
+        System.setOut(systemOut);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(originalSystemOut);
+        systemOut.close();
+        LogManager.shutdown();
+    }
+
+    @Benchmark
+    public void systemOutAndEagerParams(Blackhole blackhole) {
+        for (int i = 0; i < INFO_LINES; i++) {
+            System.out.println("=== Step " + i + " of test " + Thread.currentThread().getName() + " ===");
+        }
+        for (int i = 0; i < DEBUG_LINES; i++) {
+            logger.debug("✓ Debug detail " + i + " for element " + blackhole.hashCode());
+        }
+        logger.debug("Page Title: " + simulatedDriverCall());
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(BROWSER_WAIT_MICROS));
+    }
+
+    @Benchmark
+    public void loggerWithLazyParams(Blackhole blackhole) {
+        for (int i = 0; i < INFO_LINES; i++) {
+            logger.info("=== Step {} of test {} ===", i, Thread.currentThread().getName());
+        }
+        for (int i = 0; i < DEBUG_LINES; i++) {
+            logger.debug("✓ Debug detail {} for element {}", i, blackhole);
+        }
+        logger.debug("Page Title: {}", () -> simulatedDriverCall());
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(BROWSER_WAIT_MICROS));
+    }
+
+    /**
+     * Stand-in for a WebDriver round trip such as driver.getTitle()
+     */
+    private static String simulatedDriverCall() {
+        Blackhole.consumeCPU(20_000);
+        return "OrangeHRM";
+    }
+}
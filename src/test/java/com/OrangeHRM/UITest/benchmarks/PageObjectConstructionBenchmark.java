@@ -0,0 +1,115 @@
+package com.OrangeHRM.UITest.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.PageFactory;
+
+import com.OrangeHRM.UI.basePage.BasePage;
+import com.OrangeHRM.UI.basePage.CachedPageFactory;
+import com.OrangeHRM.UI.basePage.PageRegistry;
+import com.OrangeHRM.UI.pageObjects.DashboardPage;
+import com.OrangeHRM.UI.pageObjects.LoginPage;
+import com.OrangeHRM.UI.pageObjects.LogoutPage;
+
+/**
+ * PageObjectConstructionBenchmark - Cost of getting page objects for a test
+ *
+ * No browser is needed: building page objects never talks to the driver (the
+ * element proxies locate lazily), so a do-nothing WebDriver proxy is enough.
+ *
+ * BENCHMARKS:
+ * - initElements - @FindBy initialization of LoginPage, DashboardPage and LogoutPage
+ *   (factory = pageFactory: Selenium's per-call field / annotation scan,
+ *   cached: CachedPageFactory with the scan done once per class)
+ * - eagerAllPages - previous BaseTest: all three pages constructed for every test,
+ *   each with its own WebDriverWait and CommonMethods
+ * - registryOnePage - PageRegistry: a test that uses only the login page
+ * - registryAllPages - PageRegistry: a test that uses all three pages (shared wait / helpers)
+ *
+ * PARAMS:
+ * - factory = pageFactory, cached (initElements)
+ *
+ * USAGE:
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="PageObjectConstructionBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PageObjectConstructionBenchmark {
+
+    private WebDriver driver;
+    private BasePage[] pages;
+
+    @Setup
+    public void setUp() {
+        driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[] {WebDriver.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "BenchmarkDriver";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        pages = new BasePage[] {new LoginPage(driver), new DashboardPage(driver), new LogoutPage(driver)};
+    }
+
+    @State(Scope.Benchmark)
+    public static class Factory {
+        @Param({"pageFactory", "cached"})
+        public String factory;
+    }
+
+    @Benchmark
+    public void initElements(Factory factory, Blackhole blackhole) {
+        for (BasePage page : pages) {
+            if ("cached".equals(factory.factory)) {
+                CachedPageFactory.initElements(driver, page);
+            } else {
+                PageFactory.initElements(driver, page);
+            }
+            blackhole.consume(page);
+        }
+    }
+
+    @Benchmark
+    public void eagerAllPages(Blackhole blackhole) {
+        blackhole.consume(new LoginPage(driver));
+        blackhole.consume(new DashboardPage(driver));
+        blackhole.consume(new LogoutPage(driver));
+    }
+
+    @Benchmark
+    public LoginPage registryOnePage() {
+        return new PageRegistry(driver).get(LoginPage.class);
+    }
+
+    @Benchmark
+    public void registryAllPages(Blackhole blackhole) {
+        PageRegistry registry = new PageRegistry(driver);
+        blackhole.consume(registry.get(LoginPage.class));
+        blackhole.consume(registry.get(DashboardPage.class));
+        blackhole.consume(registry.get(LogoutPage.class));
+    }
+}
@@ -0,0 +1,116 @@
+package com.OrangeHRM.UITest.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.OrangeHRM.UITest.utilities.TestDataGenerator;
+
+/**
+ * TestDataGeneratorBenchmark - Generation throughput of TestDataGenerator across thread counts
+ *
+ * Each invocation generates one username + password, the data a random login row needs.
+ *
+ * BENCHMARKS:
+ * - sharedRandom_Nt - previous engine: one static java.util.Random for all threads
+ *   (every nextInt is a CAS on the shared seed)
+ * - perThreadStream_Nt - current engine: TestDataGenerator with one SplittableRandom
+ *   per thread
+ *
+ * N = 1, 2, 4, 8 threads. Per-thread throughput should stay flat for the current
+ * engine and drop with the thread count for the shared Random (only visible with
+ * at least as many CPU cores as threads).
+ *
+ * USAGE:
+ * mvn -Pbenchmarks test-compile exec:exec -Djmh.args="TestDataGeneratorBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestDataGeneratorBenchmark {
+
+    private static final Random SHARED_RANDOM = new Random();
+    private static final String[] FIRST_NAMES = {"John", "Jane", "Michael", "Sarah", "David", "Lisa", "Robert", "Emily"};
+    private static final String[] LAST_NAMES = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller"};
+    private static final String PASSWORD_CHARS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789!@#$%^&*";
+
+    @Benchmark
+    @Threads(1)
+    public String sharedRandom_1t() {
+        return sharedRandomRow();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String sharedRandom_2t() {
+        return sharedRandomRow();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String sharedRandom_4t() {
+        return sharedRandomRow();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String sharedRandom_8t() {
+        return sharedRandomRow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String perThreadStream_1t() {
+        return perThreadStreamRow();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public String perThreadStream_2t() {
+        return perThreadStreamRow();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String perThreadStream_4t() {
+        return perThreadStreamRow();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String perThreadStream_8t() {
+        return perThreadStreamRow();
+    }
+
+    /**
+     * Same work as generateUsername() + generatePassword() on the previous shared Random
+     */
+    private static String sharedRandomRow() {
+        String username = FIRST_NAMES[SHARED_RANDOM.nextInt(FIRST_NAMES.length)].toLowerCase()
+                + LAST_NAMES[SHARED_RANDOM.nextInt(LAST_NAMES.length)].toLowerCase()
+                + SHARED_RANDOM.nextInt(1000);
+        StringBuilder password = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            password.append(PASSWORD_CHARS.charAt(SHARED_RANDOM.nextInt(PASSWORD_CHARS.length())));
+        }
+        return username + "/" + password;
+    }
+
+    private static String perThreadStreamRow() {
+        return TestDataGenerator.generateUsername() + "/" + TestDataGenerator.generatePassword();
+    }
+}
@@ -1,22 +1,47 @@
 package com.OrangeHRM.UITest.testBase;
 
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.http.ClientConfig;
 import org.openqa.selenium.safari.SafariDriver;
-import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.safari.SafariDriverService;
+import org.openqa.selenium.safari.SafariOptions;
 import org.testng.annotations.*;
 import io.github.bonigarcia.wdm.WebDriverManager;
+import com.OrangeHRM.UI.basePage.BasePage;
+import com.OrangeHRM.UI.basePage.PageRegistry;
 import com.OrangeHRM.UI.config.TestConfig;
 import com.OrangeHRM.UI.pageObjects.*;
+import com.OrangeHRM.UI.utilities.AdaptiveTimeouts;
+import com.OrangeHRM.UI.utilities.BrowserEventCollector;
+import com.OrangeHRM.UI.utilities.BrowserMemory;
+import com.OrangeHRM.UI.utilities.CommandTransport;
+import com.OrangeHRM.UI.utilities.IoExecutor;
+import com.OrangeHRM.UI.utilities.IsolatedContext;
+import com.OrangeHRM.UI.utilities.PooledHttpClient;
+import com.OrangeHRM.UI.utilities.ProcessWatchdog;
+import com.OrangeHRM.UI.utilities.SessionAdmission;
+import com.OrangeHRM.UITest.utilities.TestLogBuffer;
 
 import org.testng.ITestResult;
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 // Log4j2 imports
 import org.apache.logging.log4j.LogManager;
@@ -46,18 +71,58 @@ import org.apache.logging.log4j.Logger;
  * @AfterSuite (cleanUp) - Final cleanup
  *     ↓
  * Test Suite End
+ * 
+ * BROWSER LEASING:
+ * - Every test invocation (every data-provider row) leases its own BrowserSession
+ *   in @BeforeMethod and releases it in @AfterMethod
+ * - The session lives in a ThreadLocal, so parallel methods and parallel
+ *   data-provider rows (@DataProvider(parallel = true)) never share a browser
+ * - Test classes reach it through getDriver(), getLoginPage(), getDashboardPage(), getLogoutPage()
+ * 
+ * BROWSER ISOLATION (browserIsolation):
+ * - process - every test starts and quits its own browser (default)
+ * - context - every worker thread keeps one browser for the whole suite and each
+ *   test runs in its own BiDi user context in it (IsolatedContext - separate
+ *   cookies and storage, like a fresh incognito profile); the browsers are quit
+ *   in @AfterSuite, a browser that stopped responding is replaced, a browser above
+ *   the browserMemory limits is recycled (BrowserMemory)
+ * 
+ * SESSION ADMISSION (admissionControlEnabled):
+ * - Every browser start waits in SessionAdmission until free memory, CPU load and
+ *   the RSS of the running browsers are below the configured limits, so
+ *   thread-count in testng.xml is an upper bound rather than a guess
+ * - Live / queued sessions are written to reportPath/session-admission.tsv
+ * 
+ * PROCESS WATCHDOG (watchdogEnabled):
+ * - ProcessWatchdog tracks the driver and browser processes of every session and
+ *   kills the tree of a test / command that exceeds its hard timeout
+ * - Processes left by earlier runs that never reached @AfterSuite are killed in @BeforeSuite
  */
 public class BaseTest {
 
-    protected WebDriver driver;
-    
     // Logger instance
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
     
-    // Page Object Fields - Available to all test classes
-    protected LoginPage loginPage;
-    protected DashboardPage dashboardPage;
-    protected LogoutPage logoutPage;
+    // Browser session of the test running on the current thread
+    private static final ThreadLocal<BrowserSession> SESSION = new ThreadLocal<>();
+    
+    // All sessions still leased - @AfterSuite quits whatever a failed tearDown left behind
+    private static final Set<BrowserSession> LEASED = ConcurrentHashMap.newKeySet();
+    
+    // browserIsolation=context: long-lived browser of each worker thread, quit in @AfterSuite
+    private static final ThreadLocal<WebDriver> THREAD_BROWSER = new ThreadLocal<>();
+    private static final Set<WebDriver> THREAD_BROWSERS = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * BrowserSession - Driver, event collector and page objects leased by one test invocation
+     */
+    private static final class BrowserSession {
+        WebDriver driver;
+        IsolatedContext context; // browserIsolation=context - user context of this test in the thread's browser
+        BrowserEventCollector browserEvents; // Streams console errors / failed requests (BiDi)
+        BrowserMemory memory; // RSS / JS heap around the test, decides when a long-lived browser is recycled
+        PageRegistry pages; // Page objects, created on first access
+    }
     
     /**
      * @BeforeSuite - Load configuration properties once for entire test suite
@@ -65,34 +130,47 @@ public class BaseTest {
      */
     @BeforeSuite
     public void loadConfigurationProperties() {
-        System.out.println("=== Test Suite Start ===");
-        System.out.println("=== @BeforeSuite (loadConfigurationProperties) - Load config once ===");
+        logger.info("=== Test Suite Start ===");
+        logger.info("=== @BeforeSuite (loadConfigurationProperties) - Load config once ===");
         
         // Force loading of TestConfig class to initialize all properties
-        System.out.println("Base URL: " + TestConfig.BASE_URL);
-        System.out.println("Login URL: " + TestConfig.LOGIN_URL);
-        System.out.println("Dashboard URL: " + TestConfig.DASHBOARD_URL);
-        System.out.println("Browser: " + TestConfig.BROWSER);
-        System.out.println("Headless Mode: " + TestConfig.HEADLESS);
-        System.out.println("Explicit Wait: " + TestConfig.EXPLICIT_WAIT + " seconds");
-        System.out.println("Implicit Wait: " + TestConfig.IMPLICIT_WAIT + " seconds");
-        System.out.println("Page Load Timeout: " + TestConfig.PAGE_LOAD_TIMEOUT + " seconds");
-        System.out.println("Maximize Window: " + TestConfig.MAXIMIZE_WINDOW);
-        System.out.println("Default Username: " + TestConfig.DEFAULT_USERNAME);
-        System.out.println("Screenshot on Failure: " + TestConfig.SCREENSHOT_ON_FAILURE);
-        System.out.println("Screenshot Path: " + TestConfig.SCREENSHOT_PATH);
-        System.out.println("Report Path: " + TestConfig.REPORT_PATH);
-        System.out.println("Extent Report Path: " + TestConfig.EXTENT_REPORT_PATH);
-        System.out.println("Extent Report Name: " + TestConfig.EXTENT_REPORT_NAME);
+        logger.info("Base URL: {}", TestConfig.BASE_URL);
+        logger.info("Login URL: {}", TestConfig.LOGIN_URL);
+        logger.info("Dashboard URL: {}", TestConfig.DASHBOARD_URL);
+        logger.info("Browser: {}", TestConfig.BROWSER);
+        logger.info("Headless Mode: {}", TestConfig.HEADLESS);
+        logger.info("Explicit Wait: {} seconds", TestConfig.EXPLICIT_WAIT);
+        logger.info("Implicit Wait: {} seconds", TestConfig.IMPLICIT_WAIT);
+        logger.info("Page Load Timeout: {} seconds", TestConfig.PAGE_LOAD_TIMEOUT);
+        logger.info("Maximize Window: {}", TestConfig.MAXIMIZE_WINDOW);
+        logger.info("Browser Isolation: {}", TestConfig.BROWSER_ISOLATION);
+        logger.info("Session Admission: {}", TestConfig.ADMISSION_CONTROL_ENABLED);
+        logger.info("Process Watchdog: {}", TestConfig.WATCHDOG_ENABLED);
+        logger.info("Driver HTTP Timeouts: connect {} s / read {} s",
+                TestConfig.HTTP_CONNECT_TIMEOUT_SECONDS, TestConfig.HTTP_READ_TIMEOUT_SECONDS);
+        logger.info("Default Username: {}", TestConfig.DEFAULT_USERNAME);
+        logger.info("Screenshot on Failure: {}", TestConfig.SCREENSHOT_ON_FAILURE);
+        logger.info("Screenshot Path: {}", TestConfig.SCREENSHOT_PATH);
+        logger.info("Report Path: {}", TestConfig.REPORT_PATH);
+        logger.info("Extent Report Path: {}", TestConfig.EXTENT_REPORT_PATH);
+        logger.info("Extent Report Name: {}", TestConfig.EXTENT_REPORT_NAME);
         
         // Extent Reports will be initialized automatically by ExtentReportManager listener
-        System.out.println("Extent Reports will be initialized by listener!");
+        logger.debug("Extent Reports will be initialized by listener!");
         
         // Validate critical properties
         validateConfigurationProperties();
         
-        System.out.println("=== Configuration loaded successfully! ===");
-        System.out.println("=== @BeforeSuite Complete ===\n");
+        // Driver / browser processes left behind by killed or crashed earlier runs
+        ProcessWatchdog.reapOrphans();
+        
+        // Shared keep-alive connection pool for all driver sessions (before the first driver is created)
+        if (PooledHttpClient.NAME.equalsIgnoreCase(TestConfig.HTTP_CLIENT.trim())) {
+            PooledHttpClient.install();
+        }
+        
+        logger.info("=== Configuration loaded successfully! ===");
+        logger.info("=== @BeforeSuite Complete ===");
     }
     
     /**
@@ -100,10 +178,13 @@ public class BaseTest {
      * Runs before each test method
      * 
      * @param browser Browser name (chrome, firefox, edge, safari)
+     * @param method Test method about to run (watchdog logs)
      */
     @BeforeMethod
     @Parameters("browser")
-    public void setUp(@Optional("") String browser) {
+    public void setUp(@Optional("") String browser, Method method) {
+        // Buffer DEBUG logs from the very first setup step - only kept if the test fails
+        TestLogBuffer.begin();
         logger.info("=== @BeforeMethod (setUp) - Fresh browser per test ===");
         
         // Initialize WebDriver - Priority: TestNG XML parameter > config.properties
@@ -116,15 +197,42 @@ public class BaseTest {
             logger.info("Using browser from config.properties: {}", browserName);
         }
         
-        initializeDriver(browserName);
+        // Lease a browser session for this invocation (this data-provider row)
+        BrowserSession session = new BrowserSession();
+        SESSION.set(session);
+        LEASED.add(session);
+        if (isContextIsolation()) {
+            session.driver = threadBrowser(browserName);
+            session.context = IsolatedContext.open(session.driver);
+        } else {
+            session.driver = initializeDriver(browserName);
+        }
+        WebDriver driver = session.driver;
+        ProcessWatchdog.testStarted(driver, method.getDeclaringClass().getSimpleName() + "." + method.getName());
+        
+        // Subscribe to browser events before the first navigation
+        if (TestConfig.BROWSER_EVENTS_ENABLED) {
+            session.browserEvents = BrowserEventCollector.attach(driver, TestConfig.BROWSER_EVENT_BUFFER_SIZE);
+            logger.debug("Browser event collection: {}", session.browserEvents.isActive() ? "active (BiDi)" : "not supported");
+        }
+        if (TestConfig.BROWSER_MEMORY_ENABLED) {
+            session.memory = BrowserMemory.attach(driver);
+        }
         
         // Clear all cookies
         driver.manage().deleteAllCookies();
         logger.debug("✓ Cookies cleared");
         
-        // Open URL
-        driver.get(TestConfig.BASE_URL);
-        logger.info("✓ Navigated to: {}", TestConfig.BASE_URL);
+        // Open URL - page load timeout adapted from earlier navigations (capped by pageLoadTimeout),
+        // only for this navigation: later ones (login submit, tabs) are not tracked and keep the full timeout
+        try {
+            AdaptiveTimeouts.time("pageLoad", java.time.Duration.ofSeconds(TestConfig.PAGE_LOAD_TIMEOUT),
+                    timeout -> driver.manage().timeouts().pageLoadTimeout(timeout),
+                    () -> CommandTransport.of(driver).navigate(TestConfig.BASE_URL));
+        } finally {
+            driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(TestConfig.PAGE_LOAD_TIMEOUT));
+        }
+        logger.info("✓ Navigated to: {} ({})", TestConfig.BASE_URL, CommandTransport.of(driver).getMode());
         
         // Maximize window
         driver.manage().window().maximize();
@@ -138,7 +246,7 @@ public class BaseTest {
 
         logger.info("Final Browser: {}", browserName);
         logger.info("URL: {}", TestConfig.BASE_URL);
-        logger.info("Page Title: {}", driver.getTitle());
+        logger.info("Page Title: {}", () -> driver.getTitle()); // Lazy - no round trip when INFO is off
         logger.info("=== @BeforeMethod Complete ===");
     }
     
@@ -153,13 +261,15 @@ public class BaseTest {
         // Extent Reports are handled automatically by ExtentReportManager listener
         logger.info("Test Status: {}", result.getStatus());
         if (result.getStatus() == ITestResult.FAILURE) {
-            logger.error("Test failed: {}", result.getThrowable().getMessage());
+            logger.error("Test failed: {}", () -> result.getThrowable().getMessage());
         }
         
-        if (driver != null) {
+        BrowserSession session = SESSION.get();
+        SESSION.remove();
+        if (session != null) {
             logger.info("Closing browser...");
-            driver.quit();
-            driver = null;
+            ProcessWatchdog.testFinished(session.driver);
+            release(session);
         }
         
         logger.info("=== @AfterMethod Complete ===");
@@ -171,76 +281,227 @@ public class BaseTest {
      */
     @AfterSuite
     public void cleanUp() {
-        System.out.println("=== @AfterSuite (cleanUp) - Final cleanup ===");
+        logger.info("=== @AfterSuite (cleanUp) - Final cleanup ===");
         
-        // Final cleanup - ensure driver is closed
-        if (driver != null) {
-            System.out.println("Final driver cleanup...");
-            driver.quit();
-            driver = null;
+        // Final cleanup - ensure every leased driver is closed
+        for (BrowserSession session : LEASED) {
+            logger.info("Final driver cleanup...");
+            release(session);
+        }
+        SESSION.remove();
+        for (WebDriver driver : THREAD_BROWSERS) {
+            logger.info("Quitting long-lived browser...");
+            quit(driver);
         }
+        THREAD_BROWSERS.clear();
+        THREAD_BROWSER.remove();
+        
+        // Keep the observed wait latencies for the adaptive timeouts of the next run
+        AdaptiveTimeouts.save();
+        
+        // Per transport / command latency (classic HTTP vs BiDi)
+        CommandTransport.writeLatencySummary();
+        PooledHttpClient.logStats();
+        
+        // Live / queued browser sessions over the run
+        SessionAdmission.writeMetrics();
+        
+        // Browser memory per test, largest growths logged
+        BrowserMemory.writeReport();
+        
+        // Screenshots, failure logs and report flushes still being written off the test threads
+        IoExecutor.awaitCompletion(java.time.Duration.ofSeconds(TestConfig.IO_EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS));
         
         // Extent Reports are flushed automatically by ExtentReportManager listener
-        System.out.println("Extent Reports will be generated by listener!");
+        logger.debug("Extent Reports will be generated by listener!");
         
         // Clean up any temporary files, reports, etc.
-        System.out.println("Cleaning up test data...");
-        System.out.println("Suite cleanup complete!");
-        System.out.println("=== Test Suite End ===\n");
+        logger.debug("Cleaning up test data...");
+        logger.info("Suite cleanup complete!");
+        logger.info("=== Test Suite End ===");
+    }
+    
+    /**
+     * Get the WebDriver leased by the test running on the current thread
+     * 
+     * @return WebDriver of the current test
+     * @throws IllegalStateException if no session is leased on this thread (outside @BeforeMethod/@AfterMethod)
+     */
+    protected WebDriver getDriver() {
+        return session().driver;
+    }
+    
+    // Page objects of the current thread's session - each created on first access
+    protected LoginPage getLoginPage() {
+        return getPage(LoginPage.class);
+    }
+    
+    protected DashboardPage getDashboardPage() {
+        return getPage(DashboardPage.class);
+    }
+    
+    protected LogoutPage getLogoutPage() {
+        return getPage(LogoutPage.class);
     }
     
     /**
-     * Initialize Page Objects - Create instances for all test classes
+     * Get any page object of the current thread's session - created on first access
+     * 
+     * @param type Page class with a (WebDriver) constructor
+     * @return The session's instance of the page
+     */
+    protected <T extends BasePage> T getPage(Class<T> type) {
+        return session().pages.get(type);
+    }
+    
+    private static BrowserSession session() {
+        BrowserSession session = SESSION.get();
+        if (session == null) {
+            throw new IllegalStateException("No browser session leased on thread " + Thread.currentThread().getName());
+        }
+        return session;
+    }
+    
+    /**
+     * Release a leased session - close the event collector and quit the browser
+     * 
+     * @param session Session to release
+     */
+    private static void release(BrowserSession session) {
+        if (!LEASED.remove(session)) {
+            return; // Already released
+        }
+        if (session.browserEvents != null) {
+            session.browserEvents.close();
+        }
+        if (session.memory != null) {
+            session.memory.close();
+        }
+        if (session.context != null) {
+            try {
+                session.context.close(); // The thread's browser stays open for the next test
+                if (session.memory != null && session.memory.shouldRecycle() && THREAD_BROWSERS.remove(session.driver)) {
+                    logger.info("Recycling long-lived browser - memory limit reached");
+                    quit(session.driver);
+                }
+            } catch (WebDriverException e) {
+                logger.warn("Failed to close isolated context, browser will be replaced: {}", e.getMessage());
+                THREAD_BROWSERS.remove(session.driver);
+                quit(session.driver);
+            }
+        } else if (session.driver != null) {
+            quit(session.driver);
+        }
+    }
+    
+    private static void quit(WebDriver driver) {
+        CommandTransport.release(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            logger.warn("Failed to quit browser: {}", e.getMessage());
+        } finally {
+            ProcessWatchdog.untrack(driver);
+            SessionAdmission.released(driver);
+        }
+    }
+    
+    private static boolean isContextIsolation() {
+        return "context".equalsIgnoreCase(TestConfig.BROWSER_ISOLATION.trim());
+    }
+    
+    /**
+     * Long-lived browser of the current thread (browserIsolation=context) - started on first use,
+     * replaced if it no longer responds
+     * 
+     * @param browserName Browser to start if the thread has none yet
+     * @return WebDriver Browser of this thread
+     */
+    private WebDriver threadBrowser(String browserName) {
+        WebDriver driver = THREAD_BROWSER.get();
+        if (driver != null && THREAD_BROWSERS.contains(driver)) {
+            try {
+                driver.getWindowHandle(); // Still alive?
+                logger.debug("Reusing browser of thread {}", Thread.currentThread().getName());
+                return driver;
+            } catch (WebDriverException e) {
+                logger.warn("Browser of thread {} stopped responding, starting a new one: {}",
+                        Thread.currentThread().getName(), e.getMessage());
+                THREAD_BROWSERS.remove(driver);
+                quit(driver);
+            }
+        }
+        driver = initializeDriver(browserName);
+        THREAD_BROWSER.set(driver);
+        THREAD_BROWSERS.add(driver);
+        return driver;
+    }
+    
+    /**
+     * Initialize Page Objects - Create the page registry of this test's session
      * OOP CONCEPT: Composition - BaseTest "has-a" relationship with page objects
      * 
      * HOW IT WORKS:
-     * - Creates fresh page object instances for each test
-     * - All test classes can access these objects directly
+     * - Every test gets a fresh PageRegistry (fresh page object instances)
+     * - A page object is only created when the test first asks for it
+     *   (getLoginPage(), getDashboardPage(), getLogoutPage(), getPage(Class))
      * - No need to create page objects in individual test methods
      * - Centralized page object management
      */
     private void initializePageObjects() {
         logger.info("Initializing Page Objects...");
         
-        // Create page object instances
-        loginPage = new LoginPage(driver);
-        dashboardPage = new DashboardPage(driver);
-        logoutPage = new LogoutPage(driver);
+        // Page objects of this thread's session are created on first access
+        BrowserSession session = session();
+        session.pages = new PageRegistry(session.driver);
         
         logger.info("✓ Page Objects initialized successfully!");
-        logger.debug("- LoginPage: {}", (loginPage != null ? "✓" : "✗"));
-        logger.debug("- DashboardPage: {}", (dashboardPage != null ? "✓" : "✗"));
-        logger.debug("- LogoutPage: {}", (logoutPage != null ? "✓" : "✗"));
     }
 
     /**
-     * Initialize WebDriver based on browser type
-     * Uses WebDriverManager for automatic driver management
+     * Initialize WebDriver based on browser type - waits until SessionAdmission
+     * finds room for one more browser (memory, CPU load, browser RSS)
      *
      * @param browserName Browser to initialize
+     * @return WebDriver New browser session
      */
-    private void initializeDriver(String browserName) {
+    private WebDriver initializeDriver(String browserName) {
+        return SessionAdmission.admit(browserName, () -> ProcessWatchdog.track(startDriver(browserName)));
+    }
+    
+    /**
+     * Start WebDriver based on browser type
+     * Uses WebDriverManager for automatic driver management
+     *
+     * @param browserName Browser to start
+     * @return WebDriver New browser session
+     */
+    private WebDriver startDriver(String browserName) {
         logger.info("Initializing {} driver...", browserName);
+        WebDriver driver;
         
         switch (browserName.toLowerCase()) {
             case "chrome":
                 WebDriverManager.chromedriver().setup();
-                driver = new ChromeDriver();
+                driver = new ChromeDriver(ChromeDriverService.createDefaultService(),
+                        withBrowserEvents(new ChromeOptions()), driverHttpConfig());
                 logger.debug("✓ Chrome driver initialized");
                 break;
             case "firefox":
                 WebDriverManager.firefoxdriver().setup();
-                driver = new FirefoxDriver();
+                driver = new FirefoxDriver(GeckoDriverService.createDefaultService(),
+                        withBrowserEvents(new FirefoxOptions()), driverHttpConfig());
                 logger.debug("✓ Firefox driver initialized");
                 break;
             case "edge":
                 WebDriverManager.edgedriver().setup();
-                driver = new EdgeDriver();
+                driver = new EdgeDriver(EdgeDriverService.createDefaultService(),
+                        withBrowserEvents(new EdgeOptions()), driverHttpConfig());
                 logger.debug("✓ Edge driver initialized");
                 break;
             case "safari":
                 WebDriverManager.safaridriver().setup();
-                driver = new SafariDriver();
+                driver = new SafariDriver(SafariDriverService.createDefaultService(), new SafariOptions(), driverHttpConfig());
                 logger.debug("✓ Safari driver initialized");
                 break;
             default:
@@ -249,6 +510,36 @@ public class BaseTest {
         }
         
         logger.info("{} driver initialized successfully!", browserName);
+        return driver;
+    }
+    
+    /**
+     * Connect / read timeouts of the driver HTTP connection (Selenium's default client and PooledHttpClient)
+     * plus the ProcessWatchdog command timer, so every HTTP command is timed whichever client runs it
+     *
+     * @return ClientConfig - Default client configuration with httpConnectTimeoutSeconds / httpReadTimeoutSeconds
+     */
+    private static ClientConfig driverHttpConfig() {
+        return ClientConfig.defaultConfig()
+                .connectionTimeout(java.time.Duration.ofSeconds(TestConfig.HTTP_CONNECT_TIMEOUT_SECONDS))
+                .readTimeout(java.time.Duration.ofSeconds(TestConfig.HTTP_READ_TIMEOUT_SECONDS))
+                .withFilter(ProcessWatchdog.commandTimer());
+    }
+    
+    /**
+     * Request a WebDriver BiDi connection (webSocketUrl) when browser events are enabled,
+     * commandTransport=bidi or browserIsolation=context
+     * The BiDi WebSocket is what BrowserEventCollector subscribes on and CommandTransport sends over
+     *
+     * @param options Browser options to update
+     * @return The same options instance
+     */
+    private <T extends MutableCapabilities> T withBrowserEvents(T options) {
+        if (TestConfig.BROWSER_EVENTS_ENABLED || "bidi".equalsIgnoreCase(TestConfig.COMMAND_TRANSPORT.trim())
+                || isContextIsolation()) {
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
     }
     
     /**
@@ -256,17 +547,21 @@ public class BaseTest {
      * Sets implicit wait, page load timeout, and script timeout
      */
     private void configureBrowserTimeouts() {
+        WebDriver driver = getDriver();
         driver.manage().timeouts().implicitlyWait(
             java.time.Duration.ofSeconds(TestConfig.IMPLICIT_WAIT)
         );
         driver.manage().timeouts().pageLoadTimeout(
             java.time.Duration.ofSeconds(TestConfig.PAGE_LOAD_TIMEOUT)
         );
-       
+        driver.manage().timeouts().scriptTimeout(
+            java.time.Duration.ofSeconds(TestConfig.SCRIPT_TIMEOUT)
+        );
         
-        System.out.println("Browser timeouts configured:");
-        System.out.println("- Implicit Wait: " + TestConfig.IMPLICIT_WAIT + " seconds");
-        System.out.println("- Page Load Timeout: " + TestConfig.PAGE_LOAD_TIMEOUT + " seconds");
+        logger.debug("Browser timeouts configured:");
+        logger.debug("- Implicit Wait: {} seconds", TestConfig.IMPLICIT_WAIT);
+        logger.debug("- Page Load Timeout: {} seconds", TestConfig.PAGE_LOAD_TIMEOUT);
+        logger.debug("- Script Timeout: {} seconds", TestConfig.SCRIPT_TIMEOUT);
         
     }
     
@@ -310,7 +605,7 @@ public class BaseTest {
             throw new RuntimeException("Default password is not configured!");
         }
         
-        System.out.println("✓ All configuration properties validated successfully!");
+        logger.info("✓ All configuration properties validated successfully!");
     }
     
     // Note: Extent Reports are now handled automatically by ExtentReportManager listener
@@ -318,28 +613,29 @@ public class BaseTest {
     
     /**
      * Capture screenshot method for ExtentReportManager
+     * The screenshot is taken right away, the file is written by the IoExecutor
      * 
      * @param testName Name of the test for screenshot naming
-     * @return Path to screenshot file
+     * @return Path the screenshot file is written to
      */
     public String captureScreen(String testName) throws IOException {
         logger.debug("Capturing screenshot for test: {}", testName);
         
         String timeStamp = new SimpleDateFormat("yyyyMMddhhmmss").format(new Date());
-        TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-        File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
+        byte[] png = CommandTransport.of(getDriver()).screenshot();
         
         String targetFilePath = TestConfig.SCREENSHOT_PATH + testName + "_" + timeStamp + ".png";
         File targetFile = new File(targetFilePath);
         
-        // Create screenshot directory if it doesn't exist
-        File screenshotDir = new File(TestConfig.SCREENSHOT_PATH);
-        if (!screenshotDir.exists()) {
-            screenshotDir.mkdirs();
-            logger.debug("Created screenshot directory: {}", TestConfig.SCREENSHOT_PATH);
-        }
-        
-        sourceFile.renameTo(targetFile);
+        IoExecutor.submit("screenshot " + targetFilePath, () -> {
+            // Create screenshot directory if it doesn't exist
+            File screenshotDir = new File(TestConfig.SCREENSHOT_PATH);
+            if (!screenshotDir.exists()) {
+                screenshotDir.mkdirs();
+                logger.debug("Created screenshot directory: {}", TestConfig.SCREENSHOT_PATH);
+            }
+            Files.write(targetFile.toPath(), png);
+        });
         logger.info("Screenshot captured: {}", targetFilePath);
         return targetFilePath;
     }
@@ -1,5 +1,7 @@
 package com.OrangeHRM.UITest.testCases;
 
+import java.util.Map;
+
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -11,7 +13,7 @@ import com.OrangeHRM.UI.config.TestConfig;
  * DashboardTest - Test cases for dashboard functionality
  * 
  * Demonstrates how to use page objects from BaseTest:
- * - loginPage, dashboardPage, logoutPage are already available
+ * - getLoginPage(), getDashboardPage(), getLogoutPage() are already available
  * - No need to create page object instances in test methods
  * - Clean and maintainable test code
  * 
@@ -40,8 +42,8 @@ public class DashboardTest extends BaseTest {
      * Test Method - Verify dashboard after login
      * 
      * HOW IT WORKS:
-     * 1. Login using loginPage from BaseTest
-     * 2. Verify dashboard using dashboardPage from BaseTest
+     * 1. Login using getLoginPage() from BaseTest
+     * 2. Verify dashboard using getDashboardPage() from BaseTest
      * 3. All page objects are already initialized!
      */
     @Test
@@ -49,29 +51,29 @@ public class DashboardTest extends BaseTest {
         System.out.println("=== Test Method: testDashboardAfterLogin ===");
         
         // Step 1: Login using page object from BaseTest
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Step 2: Soft Assertions - Continue execution even if one fails
         // Using global softAssert instance (no need to create new one)
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful before testing dashboard");
         
         // Step 3: Verify dashboard elements with soft assertions
-        softAssert.assertTrue(dashboardPage.isDashboardTitleVisible(), 
+        softAssert.assertTrue(getDashboardPage().isDashboardTitleVisible(), 
             "Dashboard title should be visible after login");
         
-        softAssert.assertTrue(dashboardPage.isUserProfileVisible(), 
+        softAssert.assertTrue(getDashboardPage().isUserProfileVisible(), 
             "User profile dropdown should be visible");
         
-        softAssert.assertTrue(dashboardPage.isSearchBoxVisible(), 
+        softAssert.assertTrue(getDashboardPage().isSearchBoxVisible(), 
             "Search box should be visible");
         
         // Verify all soft assertions at the end
         softAssert.assertAll();
         
         System.out.println("✓ Dashboard test passed!");
-        System.out.println("Page Title: " + dashboardPage.getPageTitle());
-        System.out.println("Dashboard Title: " + dashboardPage.getDashboardTitle());
+        System.out.println("Page Title: " + getDashboardPage().getPageTitle());
+        System.out.println("Dashboard Title: " + getDashboardPage().getDashboardTitle());
         System.out.println("=== Test Method Complete ===\n");
     }
     
@@ -83,13 +85,13 @@ public class DashboardTest extends BaseTest {
         System.out.println("=== Test Method: testMainMenuVisibility ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Soft Assertions - Continue execution even if one fails
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful");
         
-        softAssert.assertTrue(dashboardPage.areAllMainMenusVisible(), 
+        softAssert.assertTrue(getDashboardPage().areAllMainMenusVisible(), 
             "All main menu items should be visible on dashboard");
         
         // Verify all soft assertions at the end
@@ -107,17 +109,17 @@ public class DashboardTest extends BaseTest {
         System.out.println("=== Test Method: testDashboardWidgets ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Soft Assertions - Continue execution even if one fails
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful");
         
         // Verify dashboard widgets with soft assertions
-        softAssert.assertTrue(dashboardPage.isQuickLaunchVisible(), 
+        softAssert.assertTrue(getDashboardPage().isQuickLaunchVisible(), 
             "Quick Launch widget should be visible");
         
-        softAssert.assertTrue(dashboardPage.isTimeAtWorkVisible(), 
+        softAssert.assertTrue(getDashboardPage().isTimeAtWorkVisible(), 
             "Time at Work widget should be visible");
         
         // Verify all soft assertions at the end
@@ -135,18 +137,18 @@ public class DashboardTest extends BaseTest {
         System.out.println("=== Test Method: testMenuNavigation ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Verify login success
-        Assert.assertTrue(loginPage.isLoginSuccessful(), "Login should be successful");
+        Assert.assertTrue(getLoginPage().isLoginSuccessful(), "Login should be successful");
         
         // Test clicking on different menus
         try {
-            dashboardPage.clickMenu("Admin");
+            getDashboardPage().clickMenu("Admin");
             System.out.println("✓ Admin menu clicked successfully");
             
             // Navigate back to dashboard
-            dashboardPage.clickMenu("Dashboard");
+            getDashboardPage().clickMenu("Dashboard");
             System.out.println("✓ Dashboard menu clicked successfully");
             
         } catch (Exception e) {
@@ -157,6 +159,41 @@ public class DashboardTest extends BaseTest {
         System.out.println("=== Test Method Complete ===\n");
     }
     
+    /**
+     * Test Method - Verify the read-only modules load, all of them in parallel tabs
+     * 
+     * HOW IT WORKS:
+     * 1. Login once
+     * 2. verifyModulesInTabs() opens every module in its own tab of the same session
+     * 3. Each tab is checked in turn - the page loads overlap, the test waits for the slowest
+     */
+    @Test
+    public void testModulesInParallelTabs() {
+        System.out.println("=== Test Method: testModulesInParallelTabs ===");
+        
+        // Login first
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        
+        // Verify login success
+        Assert.assertTrue(getLoginPage().isLoginSuccessful(), "Login should be successful");
+        
+        Map<String, Boolean> modules = getDashboardPage().verifyModulesInTabs();
+        for (Map.Entry<String, Boolean> module : modules.entrySet()) {
+            softAssert.assertTrue(module.getValue(), module.getKey() + " module should load in its tab");
+            System.out.println((module.getValue() ? "✓ " : "✗ ") + module.getKey());
+        }
+        
+        // Back on the dashboard tab
+        softAssert.assertTrue(getDashboardPage().isDashboardTitleVisible(), 
+            "Dashboard should still be shown after the module tabs are closed");
+        
+        // Verify all soft assertions at the end
+        softAssert.assertAll();
+        
+        System.out.println("✓ Modules in parallel tabs test passed!");
+        System.out.println("=== Test Method Complete ===\n");
+    }
+    
     /**
      * Test Method - Test search functionality
      */
@@ -165,17 +202,17 @@ public class DashboardTest extends BaseTest {
         System.out.println("=== Test Method: testSearchFunctionality ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Soft Assertions - Continue execution even if one fails
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful");
         
-        softAssert.assertTrue(dashboardPage.isSearchBoxVisible(), 
+        softAssert.assertTrue(getDashboardPage().isSearchBoxVisible(), 
             "Search box should be visible");
         
         // Enter search text
-        dashboardPage.enterSearchText("Admin");
+        getDashboardPage().enterSearchText("Admin");
         System.out.println("✓ Search text entered successfully");
         
         // Verify all soft assertions at the end
@@ -193,19 +230,19 @@ public class DashboardTest extends BaseTest {
         System.out.println("=== Test Method: testCompleteDashboardFunctionality ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Soft Assertions - Continue execution even if one fails
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful");
         
-        softAssert.assertTrue(dashboardPage.isDashboardTitleVisible(), 
+        softAssert.assertTrue(getDashboardPage().isDashboardTitleVisible(), 
             "Dashboard title should be visible after login");
         
-        softAssert.assertTrue(dashboardPage.isUserProfileVisible(), 
+        softAssert.assertTrue(getDashboardPage().isUserProfileVisible(), 
             "User profile dropdown should be visible");
         
-        softAssert.assertTrue(dashboardPage.isSearchBoxVisible(), 
+        softAssert.assertTrue(getDashboardPage().isSearchBoxVisible(), 
             "Search box should be visible");
         
         // Verify all soft assertions at the end
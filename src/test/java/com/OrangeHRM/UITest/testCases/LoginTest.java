@@ -68,15 +68,15 @@ public class LoginTest extends BaseTest {
         String password = TestConfig.DEFAULT_PASSWORD;
         
         // Use page object from BaseTest - No need to create new instance!
-        // loginPage is already initialized in BaseTest @BeforeMethod
-        loginPage.login(username, password);
+        // The login page of this test's browser session is initialized in BaseTest @BeforeMethod
+        getLoginPage().login(username, password);
         
         // Soft Assertions - Continue execution even if one fails
         // Using global softAssert instance (no need to create new one)
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful with valid credentials");
         
-        softAssert.assertTrue(loginPage.isPageTitleContains("OrangeHRM"), 
+        softAssert.assertTrue(getLoginPage().isPageTitleContains("OrangeHRM"), 
             "Page title should contain 'OrangeHRM' after successful login");
         
         // Verify all soft assertions at the end
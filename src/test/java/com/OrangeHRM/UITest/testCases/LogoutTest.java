@@ -11,7 +11,7 @@ import com.OrangeHRM.UI.config.TestConfig;
  * LogoutTest - Test cases for logout functionality only
  * 
  * Demonstrates how to use LogoutPage from BaseTest:
- * - logoutPage is already available from BaseTest
+ * - getLogoutPage() is already available from BaseTest
  * - Tests profile dropdown visibility and clicking
  * - Tests logout process and verification
  * - Focused only on logout functionality (no About, Support, etc.)
@@ -45,13 +45,13 @@ public class LogoutTest extends BaseTest {
         System.out.println("=== Test Method: testProfileDropdownVisibility ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Soft Assertions - Continue execution even if one fails
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful");
         
-        softAssert.assertTrue(logoutPage.isUserProfileDropdownVisible(), 
+        softAssert.assertTrue(getLogoutPage().isUserProfileDropdownVisible(), 
             "User profile dropdown should be visible");
         
         // Verify all soft assertions at the end
@@ -69,14 +69,14 @@ public class LogoutTest extends BaseTest {
         System.out.println("=== Test Method: testProfileDropdownClick ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Soft Assertions - Continue execution even if one fails
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful");
         
         // Test clicking profile dropdown
-        logoutPage.clickUserProfileDropdown();
+        getLogoutPage().clickUserProfileDropdown();
         System.out.println("✓ Profile dropdown clicked successfully");
         
         // Verify all soft assertions at the end
@@ -94,28 +94,28 @@ public class LogoutTest extends BaseTest {
         System.out.println("=== Test Method: testLogoutFunctionality ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Soft Assertions - Continue execution even if one fails
         // Using global softAssert instance (no need to create new one)
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful");
         
         // Test complete logout process
-        logoutPage.logout();
+        getLogoutPage().logout();
         
         // Verify logout success with soft assertions
-        softAssert.assertTrue(logoutPage.isLogoutSuccessful(), 
+        softAssert.assertTrue(getLogoutPage().isLogoutSuccessful(), 
             "Logout should be successful");
         
-        softAssert.assertTrue(logoutPage.isURLContains("login"), 
+        softAssert.assertTrue(getLogoutPage().isURLContains("login"), 
             "Should be redirected to login page after logout");
         
         // Verify all soft assertions at the end
         softAssert.assertAll();
         
         System.out.println("✓ Logout functionality test passed!");
-        System.out.println("Current URL: " + logoutPage.getCurrentURL());
+        System.out.println("Current URL: " + getLogoutPage().getCurrentURL());
         System.out.println("=== Test Method Complete ===\n");
     }
     
@@ -127,22 +127,22 @@ public class LogoutTest extends BaseTest {
         System.out.println("=== Test Method: testLogoutStepByStep ===");
         
         // Login first
-        loginPage.login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
+        getLoginPage().login(TestConfig.DEFAULT_USERNAME, TestConfig.DEFAULT_PASSWORD);
         
         // Soft Assertions - Continue execution even if one fails
-        softAssert.assertTrue(loginPage.isLoginSuccessful(), 
+        softAssert.assertTrue(getLoginPage().isLoginSuccessful(), 
             "Login should be successful");
         
         // Step 1: Click user profile dropdown
-        logoutPage.clickUserProfileDropdown();
+        getLogoutPage().clickUserProfileDropdown();
         System.out.println("✓ Step 1: Profile dropdown clicked");
         
         // Step 2: Click logout link
-        logoutPage.clickLogout();
+        getLogoutPage().clickLogout();
         System.out.println("✓ Step 2: Logout link clicked");
         
         // Step 3: Verify logout success with soft assertions
-        softAssert.assertTrue(logoutPage.isLogoutSuccessful(), 
+        softAssert.assertTrue(getLogoutPage().isLogoutSuccessful(), 
             "Logout should be successful");
         
         // Verify all soft assertions at the end
@@ -0,0 +1,293 @@
+package com.OrangeHRM.UITest.testCases;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.OrangeHRM.UI.utilities.PooledHttpClient;
+
+/**
+ * PooledHttpClientTest - Response parsing and connection reuse of PooledHttpClient
+ *
+ * No browser is needed: every test talks to a FakeDriver, a local ServerSocket
+ * that answers each request with a scripted raw HTTP response (or drops the
+ * connection), and counts the requests and connections it saw.
+ *
+ * COVERED:
+ * - Content-Length, chunked (extension + trailer) and close-delimited bodies
+ * - 204 / 304 without a body, even when 304 carries a Content-Length
+ * - Keep-alive reuse, idle connections closed by the driver, the idempotent
+ *   retry on a broken connection (and no replay of POST), the read timeout
+ */
+public class PooledHttpClientTest {
+
+    private static final String OK_EMPTY = "HTTP/1.1 200 OK\r\nContent-Length: 0\r\n\r\n";
+
+    @Test
+    public void testContentLengthBodyReusesConnection() throws Exception {
+        try (FakeDriver driver = new FakeDriver(); HttpClient client = driver.client(Duration.ofSeconds(5))) {
+            driver.reply("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 13\r\n\r\n{\"value\":42}\n");
+            driver.reply("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok");
+
+            HttpResponse first = client.execute(new HttpRequest(HttpMethod.GET, "/session/1/url"));
+            HttpResponse second = client.execute(new HttpRequest(HttpMethod.GET, "/session/1/title"));
+
+            Assert.assertEquals(first.getStatus(), 200);
+            Assert.assertEquals(Contents.string(first), "{\"value\":42}\n");
+            Assert.assertEquals(first.getHeader("Content-Type"), "application/json");
+            Assert.assertEquals(Contents.string(second), "ok");
+            Assert.assertEquals(driver.connections.get(), 1, "Keep-alive connection should be reused");
+        }
+    }
+
+    @Test
+    public void testChunkedBody() throws Exception {
+        try (FakeDriver driver = new FakeDriver(); HttpClient client = driver.client(Duration.ofSeconds(5))) {
+            driver.reply("HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n"
+                    + "5;name=value\r\nhello\r\n6\r\n world\r\n0\r\nX-Trailer: ignored\r\n\r\n");
+            driver.reply(OK_EMPTY);
+
+            HttpResponse chunked = client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+            client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+
+            Assert.assertEquals(Contents.string(chunked), "hello world");
+            Assert.assertEquals(driver.connections.get(), 1, "Chunked response should leave the connection reusable");
+        }
+    }
+
+    @Test
+    public void testCloseDelimitedBody() throws Exception {
+        try (FakeDriver driver = new FakeDriver(); HttpClient client = driver.client(Duration.ofSeconds(5))) {
+            driver.replyAndClose("HTTP/1.1 200 OK\r\n\r\nbody until close");
+            driver.reply(OK_EMPTY);
+
+            HttpResponse closeDelimited = client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+            client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+
+            Assert.assertEquals(Contents.string(closeDelimited), "body until close");
+            Assert.assertEquals(driver.connections.get(), 2, "Close-delimited response must not be reused");
+        }
+    }
+
+    @Test
+    public void testNoContentAndNotModifiedHaveNoBody() throws Exception {
+        try (FakeDriver driver = new FakeDriver(); HttpClient client = driver.client(Duration.ofSeconds(5))) {
+            driver.reply("HTTP/1.1 204 No Content\r\n\r\n");
+            driver.reply("HTTP/1.1 304 Not Modified\r\nContent-Length: 10\r\n\r\n");
+            driver.reply("HTTP/1.1 200 OK\r\nContent-Length: 4\r\n\r\nnext");
+
+            HttpResponse noContent = client.execute(new HttpRequest(HttpMethod.DELETE, "/session/1/cookie"));
+            HttpResponse notModified = client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+            HttpResponse next = client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+
+            Assert.assertEquals(noContent.getStatus(), 204);
+            Assert.assertEquals(Contents.bytes(noContent.getContent()).length, 0);
+            Assert.assertEquals(notModified.getStatus(), 304);
+            Assert.assertEquals(Contents.bytes(notModified.getContent()).length, 0);
+            Assert.assertEquals(Contents.string(next), "next", "Response after 204 / 304 should start at its status line");
+            Assert.assertEquals(driver.connections.get(), 1);
+        }
+    }
+
+    @Test
+    public void testIdleConnectionClosedByDriverIsNotReused() throws Exception {
+        try (FakeDriver driver = new FakeDriver(); HttpClient client = driver.client(Duration.ofSeconds(5))) {
+            driver.replyAndClose(OK_EMPTY); // Keep-alive response, then the driver drops the idle connection
+            driver.reply("HTTP/1.1 200 OK\r\nContent-Length: 7\r\n\r\nclicked");
+
+            client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+            Assert.assertTrue(driver.closed.await(5, TimeUnit.SECONDS), "Fake driver should have closed the connection");
+            HttpResponse click = client.execute(new HttpRequest(HttpMethod.POST, "/session/1/element/1/click"));
+
+            Assert.assertEquals(Contents.string(click), "clicked");
+            Assert.assertEquals(driver.requests, Arrays.asList("GET /status", "POST /session/1/element/1/click"),
+                    "Closed idle connection should be dropped before sending, without any replay");
+            Assert.assertEquals(driver.connections.get(), 2);
+        }
+    }
+
+    @Test
+    public void testIdempotentRequestRetriedOnBrokenConnection() throws Exception {
+        try (FakeDriver driver = new FakeDriver(); HttpClient client = driver.client(Duration.ofSeconds(5))) {
+            driver.reply(OK_EMPTY);
+            driver.dropConnection(); // Reused connection breaks before any response byte
+            driver.reply("HTTP/1.1 200 OK\r\nContent-Length: 5\r\n\r\nretry");
+
+            client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+            HttpResponse retried = client.execute(new HttpRequest(HttpMethod.GET, "/session/1/url"));
+
+            Assert.assertEquals(Contents.string(retried), "retry");
+            Assert.assertEquals(driver.requests, Arrays.asList("GET /status", "GET /session/1/url", "GET /session/1/url"));
+            Assert.assertEquals(driver.connections.get(), 2);
+        }
+    }
+
+    @Test
+    public void testNonIdempotentRequestNotReplayed() throws Exception {
+        try (FakeDriver driver = new FakeDriver(); HttpClient client = driver.client(Duration.ofSeconds(5))) {
+            driver.reply(OK_EMPTY);
+            driver.dropConnection();
+            driver.reply(OK_EMPTY);
+
+            client.execute(new HttpRequest(HttpMethod.GET, "/status"));
+            Assert.assertThrows(UncheckedIOException.class,
+                    () -> client.execute(new HttpRequest(HttpMethod.POST, "/session/1/element/1/click")));
+
+            Assert.assertEquals(driver.requests, Arrays.asList("GET /status", "POST /session/1/element/1/click"),
+                    "A POST the driver may have run must not be sent twice");
+        }
+    }
+
+    @Test
+    public void testReadTimeoutThrowsSeleniumTimeout() throws Exception {
+        try (FakeDriver driver = new FakeDriver(); HttpClient client = driver.client(Duration.ofMillis(300))) {
+            driver.silence(); // Request read, no response
+
+            Assert.assertThrows(TimeoutException.class, () -> client.execute(new HttpRequest(HttpMethod.GET, "/status")));
+        }
+    }
+
+    /**
+     * FakeDriver - Local HTTP/1.1 server answering every request with the next scripted reply
+     */
+    private static final class FakeDriver implements AutoCloseable {
+
+        // What to do with one request - false closes the connection afterwards
+        private interface Reply {
+            boolean answer(OutputStream out) throws IOException;
+        }
+
+        private final ServerSocket server;
+        private final BlockingQueue<Reply> replies = new LinkedBlockingQueue<>();
+        private final List<Socket> sockets = Collections.synchronizedList(new ArrayList<>());
+        final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger connections = new AtomicInteger();
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        FakeDriver() throws IOException {
+            server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::accept, "fake-driver-" + server.getLocalPort());
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        HttpClient client(Duration readTimeout) {
+            URI base = URI.create("http://127.0.0.1:" + server.getLocalPort());
+            return new PooledHttpClient.Factory().createClient(ClientConfig.defaultConfig()
+                    .baseUri(base).connectionTimeout(Duration.ofSeconds(5)).readTimeout(readTimeout));
+        }
+
+        void reply(String response) {
+            replies.add(out -> write(out, response, true));
+        }
+
+        void replyAndClose(String response) {
+            replies.add(out -> write(out, response, false));
+        }
+
+        void dropConnection() {
+            replies.add(out -> false);
+        }
+
+        void silence() {
+            replies.add(out -> true);
+        }
+
+        private static boolean write(OutputStream out, String response, boolean keepOpen) throws IOException {
+            out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            return keepOpen;
+        }
+
+        private void accept() {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    connections.incrementAndGet();
+                    sockets.add(socket);
+                    Thread handler = new Thread(() -> serve(socket), "fake-driver-connection");
+                    handler.setDaemon(true);
+                    handler.start();
+                } catch (IOException e) {
+                    return; // Server closed
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (Socket connection = socket) {
+                InputStream in = new BufferedInputStream(connection.getInputStream());
+                String requestLine;
+                while ((requestLine = readLine(in)) != null) {
+                    int contentLength = 0;
+                    String header;
+                    while ((header = readLine(in)) != null && !header.isEmpty()) {
+                        if (header.toLowerCase().startsWith("content-length:")) {
+                            contentLength = Integer.parseInt(header.substring(15).trim());
+                        }
+                    }
+                    for (int i = 0; i < contentLength; i++) {
+                        in.read();
+                    }
+                    requests.add(requestLine.substring(0, requestLine.lastIndexOf(' ')));
+                    Reply reply = replies.poll(5, TimeUnit.SECONDS);
+                    if (reply == null || !reply.answer(connection.getOutputStream())) {
+                        break;
+                    }
+                }
+            } catch (IOException | InterruptedException e) {
+                // Connection closed by the client
+            } finally {
+                closed.countDown();
+            }
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int b;
+            while ((b = in.read()) != -1 && b != '\n') {
+                if (b != '\r') {
+                    line.append((char) b);
+                }
+            }
+            return b == -1 && line.length() == 0 ? null : line.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            server.close();
+            synchronized (sockets) {
+                for (Socket socket : sockets) {
+                    socket.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import com.OrangeHRM.UI.config.TestConfig;
+import com.OrangeHRM.UI.utilities.BrowserEventCollector;
+import com.OrangeHRM.UI.utilities.BrowserEventCollector.BrowserEvent;
+import com.OrangeHRM.UI.utilities.BrowserEventCollector.EventType;
+
+/**
+ * BrowserEventListener - Hands the browser events of each test to its TestNG result
+ *
+ * HOW IT WORKS:
+ * - afterInvocation() runs right after the test method, before @AfterMethod closes
+ *   the browser and its BrowserEventCollector
+ * - The buffered events are stored on the result (attribute EVENTS_ATTRIBUTE) so
+ *   ExtentReportManager can attach them to the report
+ * - With failOnJavaScriptErrors=true a passed test that produced a console error or
+ *   uncaught JavaScript exception is turned into a failure
+ *
+ * USAGE:
+ * Registered for every suite in META-INF/services/org.testng.ITestNGListener
+ * (src/test/resources) - do not add it to the suite XML files as well
+ */
+public class BrowserEventListener implements IInvokedMethodListener {
+
+    public static final String EVENTS_ATTRIBUTE = "browserEvents";
+
+    private static final Logger logger = LogManager.getLogger(BrowserEventListener.class);
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        BrowserEventCollector collector = BrowserEventCollector.forCurrentThread();
+        if (collector == null || !collector.isActive()) {
+            return;
+        }
+
+        List<BrowserEvent> events = collector.getEvents();
+        if (!events.isEmpty()) {
+            result.setAttribute(EVENTS_ATTRIBUTE, events);
+            logger.debug("{} browser events collected for {} ({} dropped)", events.size(), result.getName(),
+                    collector.getDroppedCount());
+        }
+
+        if (TestConfig.FAIL_ON_JAVASCRIPT_ERRORS && result.getStatus() == ITestResult.SUCCESS
+                && collector.hasJavaScriptErrors()) {
+            BrowserEvent first = events.stream()
+                    .filter(e -> e.getType() == EventType.CONSOLE_ERROR || e.getType() == EventType.JAVASCRIPT_EXCEPTION)
+                    .findFirst()
+                    .orElse(null);
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("JavaScript error in browser"
+                    + (first != null ? ": " + first.getMessage() : "")));
+            logger.error("Failing {} - JavaScript error in browser", result.getName());
+        }
+    }
+}
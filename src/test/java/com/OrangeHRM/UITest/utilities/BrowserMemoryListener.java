@@ -0,0 +1,42 @@
+package com.OrangeHRM.UITest.utilities;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import com.OrangeHRM.UI.utilities.BrowserMemory;
+
+/**
+ * BrowserMemoryListener - Samples browser memory around each test method and hands the usage to its TestNG result
+ *
+ * HOW IT WORKS:
+ * - beforeInvocation() runs after @BeforeMethod has opened the page, afterInvocation()
+ *   right after the test method, before @AfterMethod releases the browser
+ * - The BrowserMemory.Usage of the test is stored on the result (attribute
+ *   MEMORY_ATTRIBUTE) so ExtentReportManager can add it to the report
+ *
+ * USAGE:
+ * Registered for every suite in META-INF/services/org.testng.ITestNGListener
+ * (src/test/resources) - do not add it to the suite XML files as well
+ */
+public class BrowserMemoryListener implements IInvokedMethodListener {
+
+    public static final String MEMORY_ATTRIBUTE = "browserMemory";
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        BrowserMemory memory = BrowserMemory.forCurrentThread();
+        if (method.isTestMethod() && memory != null) {
+            memory.testStarted();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        BrowserMemory memory = BrowserMemory.forCurrentThread();
+        if (method.isTestMethod() && memory != null) {
+            result.setAttribute(MEMORY_ATTRIBUTE,
+                    memory.testFinished(result.getTestClass().getRealClass().getSimpleName() + "." + result.getName()));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * BulkTestDataGenerator - Streams large user profile data sheets (100k+ rows) to xlsx or csv
+ *
+ * Building one Map per profile and an XSSFWorkbook in memory needs memory in
+ * proportion to the row count. This command keeps memory constant instead:
+ *
+ * HOW IT WORKS:
+ * - Rows are produced in chunks of --chunk rows by --threads producer threads,
+ *   each chunk from TestDataGenerator.generateUserProfile()
+ * - Every chunk reseeds the generator with "bulk:" + chunk index, so the output for
+ *   a given testDataSeed is the same for any thread count (except unique ids)
+ * - The main thread is the single writer: it writes chunks strictly in order and
+ *   only lets 2 x threads chunks be in flight, so at most that many chunks are in memory
+ * - xlsx goes through POI SXSSF - only the last ROW_WINDOW rows of a sheet stay in
+ *   memory, older rows are flushed to a compressed temp file; a new sheet is started
+ *   when the xlsx row limit is reached
+ * - csv goes through a buffered writer (RFC 4180 quoting)
+ *
+ * USAGE:
+ * mvn -Pbulk-data test-compile exec:exec -Dbulk.args="--rows 100000 --output test-output/test-data/profiles.xlsx"
+ *
+ * OPTIONS:
+ * --rows N      - Number of profiles (default 100000)
+ * --output FILE - .xlsx or .csv (default test-output/test-data/bulk-profiles.xlsx)
+ * --threads N   - Producer threads (default: available processors)
+ * --chunk N     - Rows per chunk (default 1000)
+ */
+public class BulkTestDataGenerator {
+
+    private static final Logger logger = LogManager.getLogger(BulkTestDataGenerator.class);
+
+    static final String[] COLUMNS = {
+        "firstName", "lastName", "email", "username", "password", "phone", "employeeId",
+        "department", "jobTitle", "dateOfBirth", "address", "city", "state", "zipCode"
+    };
+
+    private static final int ROW_WINDOW = 100;
+    private static final String SHEET_NAME = "Profiles";
+
+    private final long rows;
+    private final Path output;
+    private final int threads;
+    private final int chunkSize;
+
+    public BulkTestDataGenerator(long rows, Path output, int threads, int chunkSize) {
+        if (rows < 0 || threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("rows must be >= 0, threads and chunk >= 1");
+        }
+        this.rows = rows;
+        this.output = output;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    public static void main(String[] args) throws Exception {
+        long rows = 100_000;
+        String output = "test-output/test-data/bulk-profiles.xlsx";
+        int threads = Runtime.getRuntime().availableProcessors();
+        int chunk = 1_000;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--rows":
+                    rows = Long.parseLong(value);
+                    i++;
+                    break;
+                case "--output":
+                    output = value;
+                    i++;
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    i++;
+                    break;
+                case "--chunk":
+                    chunk = Integer.parseInt(value);
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]
+                            + " (expected --rows, --output, --threads, --chunk)");
+            }
+        }
+        new BulkTestDataGenerator(rows, Paths.get(output), threads, chunk).generate();
+    }
+
+    /**
+     * Generate all rows into the output file
+     *
+     * @throws IOException if the output cannot be written
+     */
+    public void generate() throws IOException {
+        long start = System.nanoTime();
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        logger.info("Generating {} profiles into {} ({} threads, chunks of {}, seed {})", rows, output, threads,
+                chunkSize, TestDataGenerator.getSuiteSeed());
+
+        long chunks = (rows + chunkSize - 1) / chunkSize;
+        int window = threads * 2;
+        ExecutorService producers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-data-producer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (RowSink sink = output.toString().toLowerCase().endsWith(".csv") ? new CsvSink(output) : new XlsxSink(output)) {
+            sink.write(COLUMNS);
+            ArrayDeque<Future<String[][]>> inFlight = new ArrayDeque<>(window);
+            long nextChunk = 0;
+            while (nextChunk < chunks || !inFlight.isEmpty()) {
+                while (nextChunk < chunks && inFlight.size() < window) {
+                    inFlight.addLast(producers.submit(produceChunk(nextChunk)));
+                    nextChunk++;
+                }
+                for (String[] row : await(inFlight.removeFirst())) {
+                    sink.write(row);
+                }
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+        logger.info("Wrote {} profiles to {} in {} ms", rows, output, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Callable<String[][]> produceChunk(long chunkIndex) {
+        return () -> {
+            TestDataGenerator.reseed("bulk:" + chunkIndex);
+            int size = (int) Math.min(chunkSize, rows - chunkIndex * chunkSize);
+            String[][] chunk = new String[size][];
+            for (int i = 0; i < size; i++) {
+                Map<String, String> profile = TestDataGenerator.generateUserProfile();
+                String[] row = new String[COLUMNS.length];
+                for (int c = 0; c < COLUMNS.length; c++) {
+                    row[c] = profile.get(COLUMNS[c]);
+                }
+                chunk[i] = row;
+            }
+            return chunk;
+        };
+    }
+
+    private static String[][] await(Future<String[][]> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating test data", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Test data producer failed", e.getCause());
+        }
+    }
+
+    /**
+     * Ordered destination of generated rows - only used from the writer thread
+     */
+    private interface RowSink extends Closeable {
+        void write(String[] row) throws IOException;
+    }
+
+    private static final class CsvSink implements RowSink {
+        private final BufferedWriter writer;
+
+        CsvSink(Path output) throws IOException {
+            this.writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void write(String[] row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(quote(row[i]));
+            }
+            writer.write("\r\n");
+        }
+
+        private static String quote(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    private static final class XlsxSink implements RowSink {
+        private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+        private final Path output;
+        private final SXSSFWorkbook workbook;
+        private String[] header;
+        private Sheet sheet;
+        private int sheetCount;
+        private int nextRow;
+
+        XlsxSink(Path output) {
+            this.output = output;
+            this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+            this.workbook.setCompressTempFiles(true);
+        }
+
+        @Override
+        public void write(String[] row) {
+            if (header == null) {
+                header = row;
+            }
+            if (sheet == null || nextRow == MAX_ROWS) {
+                sheetCount++;
+                sheet = workbook.createSheet(sheetCount == 1 ? SHEET_NAME : SHEET_NAME + " " + sheetCount);
+                nextRow = 0;
+                if (row != header) {
+                    writeRow(header);
+                }
+            }
+            writeRow(row);
+        }
+
+        private void writeRow(String[] values) {
+            Row row = sheet.createRow(nextRow++);
+            for (int i = 0; i < values.length; i++) {
+                row.createCell(i).setCellValue(values[i]);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (OutputStream out = Files.newOutputStream(output)) {
+                workbook.write(out);
+            } finally {
+                workbook.dispose();
+                workbook.close();
+            }
+        }
+    }
+}
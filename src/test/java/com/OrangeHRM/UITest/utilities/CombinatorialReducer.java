@@ -0,0 +1,182 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * CombinatorialReducer - Reduces data-provider rows to an n-wise covering subset
+ *
+ * Data sheets that list every combination of their parameters grow as the product
+ * of the value counts. Most defects are triggered by one value or by the
+ * interaction of two (pairwise) or three values, so every t-wise combination of
+ * parameter values that occurs in the sheet only has to be run once.
+ *
+ * HOW IT WORKS:
+ * - Every row "covers" one value tuple per combination of t parameter columns
+ * - Rows are picked greedily: always the row that covers the most tuples not yet
+ *   covered (lazy greedy with a priority queue - a row's gain can only shrink)
+ * - Stops when every tuple that occurs in the sheet is covered; the chosen rows
+ *   keep their sheet order, ties go to the earlier row (deterministic subset)
+ * - The chosen subset is written to combinatorialReportPath/<provider>.tsv
+ *
+ * CONFIGURATION:
+ * - combinatorialStrength - 0 = off (all rows), 2 = pairwise, 3 = 3-wise, ...
+ *   (config.properties or -DcombinatorialStrength)
+ *
+ * USAGE:
+ * Object[][] rows = CombinatorialReducer.reduce("invalidLoginData", allRows, new String[] {"username", "password"},
+ *         new int[] {0, 1});
+ */
+public final class CombinatorialReducer {
+
+    private static final Logger logger = LogManager.getLogger(CombinatorialReducer.class);
+
+    private CombinatorialReducer() {
+    }
+
+    /**
+     * Reduce rows to a t-wise covering subset with the configured strength
+     *
+     * @param provider - Data provider name (for logging and the subset record)
+     * @param rows - All rows of the provider
+     * @param columnNames - Names of the parameter columns (for the subset record)
+     * @param parameterColumns - Row indexes of the parameter columns to cover
+     * @return Object[][] - Covering subset in original order (all rows when reduction is off)
+     */
+    public static Object[][] reduce(String provider, Object[][] rows, String[] columnNames, int[] parameterColumns) {
+        int strength = TestConfig.COMBINATORIAL_STRENGTH;
+        if (strength <= 0 || rows.length == 0) {
+            return rows;
+        }
+        int[] selected = select(rows, parameterColumns, strength);
+        Object[][] subset = new Object[selected.length][];
+        for (int i = 0; i < selected.length; i++) {
+            subset[i] = rows[selected[i]];
+        }
+        logger.info("{}: {}-wise coverage of {} with {} of {} rows", provider, Math.min(strength, parameterColumns.length),
+                Arrays.toString(columnNames), selected.length, rows.length);
+        record(provider, strength, columnNames, parameterColumns, rows, selected);
+        return subset;
+    }
+
+    /**
+     * Pick the indexes of a t-wise covering subset of rows
+     *
+     * @param rows - Rows to choose from
+     * @param parameterColumns - Row indexes of the parameter columns
+     * @param strength - t (capped at the number of parameter columns)
+     * @return int[] - Ascending indexes of the chosen rows
+     */
+    public static int[] select(Object[][] rows, int[] parameterColumns, int strength) {
+        int t = Math.min(strength, parameterColumns.length);
+        List<int[]> combinations = combinations(parameterColumns, t);
+
+        // Tuple keys covered by each row
+        List<Set<String>> rowTuples = new ArrayList<>(rows.length);
+        Set<String> uncovered = new HashSet<>();
+        for (Object[] row : rows) {
+            Set<String> tuples = new HashSet<>();
+            for (int c = 0; c < combinations.size(); c++) {
+                StringBuilder key = new StringBuilder().append(c);
+                for (int column : combinations.get(c)) {
+                    key.append('\u0000').append(column < row.length ? String.valueOf(row[column]) : "");
+                }
+                tuples.add(key.toString());
+            }
+            rowTuples.add(tuples);
+            uncovered.addAll(tuples);
+        }
+
+        // Lazy greedy - queue entries are {gain, row}, highest gain first, then lowest row
+        PriorityQueue<int[]> queue = new PriorityQueue<>(Math.max(1, rows.length),
+                (a, b) -> a[0] != b[0] ? Integer.compare(b[0], a[0]) : Integer.compare(a[1], b[1]));
+        for (int r = 0; r < rows.length; r++) {
+            queue.add(new int[] {rowTuples.get(r).size(), r});
+        }
+        boolean[] chosen = new boolean[rows.length];
+        int chosenCount = 0;
+        while (!uncovered.isEmpty() && !queue.isEmpty()) {
+            int[] top = queue.poll();
+            int gain = 0;
+            for (String tuple : rowTuples.get(top[1])) {
+                if (uncovered.contains(tuple)) {
+                    gain++;
+                }
+            }
+            if (gain == 0) {
+                continue;
+            }
+            int[] next = queue.peek();
+            if (next != null && (gain < next[0] || (gain == next[0] && next[1] < top[1]))) {
+                top[0] = gain; // Stale - requeue with its real gain
+                queue.add(top);
+                continue;
+            }
+            uncovered.removeAll(rowTuples.get(top[1]));
+            chosen[top[1]] = true;
+            chosenCount++;
+        }
+
+        int[] selected = new int[chosenCount];
+        for (int r = 0, i = 0; r < rows.length; r++) {
+            if (chosen[r]) {
+                selected[i++] = r;
+            }
+        }
+        return selected;
+    }
+
+    private static List<int[]> combinations(int[] columns, int t) {
+        List<int[]> result = new ArrayList<>();
+        combine(columns, t, 0, new int[t], 0, result);
+        return result;
+    }
+
+    private static void combine(int[] columns, int t, int start, int[] current, int depth, List<int[]> result) {
+        if (depth == t) {
+            result.add(current.clone());
+            return;
+        }
+        for (int i = start; i <= columns.length - (t - depth); i++) {
+            current[depth] = columns[i];
+            combine(columns, t, i + 1, current, depth + 1, result);
+        }
+    }
+
+    private static void record(String provider, int strength, String[] columnNames, int[] parameterColumns,
+                               Object[][] rows, int[] selected) {
+        List<String> lines = new ArrayList<>(selected.length + 2);
+        lines.add("# provider=" + provider + " strength=" + strength + " rows=" + rows.length
+                + " selected=" + selected.length);
+        lines.add("row\t" + String.join("\t", columnNames));
+        for (int index : selected) {
+            StringBuilder line = new StringBuilder().append(index);
+            for (int column : parameterColumns) {
+                Object value = column < rows[index].length ? rows[index][column] : "";
+                line.append('\t').append(String.valueOf(value).replace('\t', ' '));
+            }
+            lines.add(line.toString());
+        }
+        Path file = Paths.get(TestConfig.COMBINATORIAL_REPORT_PATH, provider + ".tsv");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Failed to record combinatorial subset of {}: {}", provider, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * DurationSchedulingListener - Records test durations and runs the longest tests first
+ *
+ * With parallel="methods" the suite only finishes when the last thread is done.
+ * If a slow test (e.g. testCompleteDashboardFunctionality) happens to start last,
+ * the other threads sit idle while it runs. Starting the longest tests first
+ * (Longest Processing Time scheduling) keeps all threads busy until the end.
+ *
+ * HOW IT WORKS:
+ * 1. onStart(ISuite) - Loads duration history from the previous runs
+ * 2. intercept() - Orders methods by expected duration, longest first
+ *    - Methods without history are treated as the longest known method
+ *    - Methods that failed within testHistoryFailureWindow runs get their
+ *      expected duration multiplied by testHistoryFailureBoost (fast feedback)
+ * 3. onTestSuccess/Failure/Skipped - Records the duration of each method / row
+ * 4. onFinish(ISuite) - Saves the updated history for the next run
+ *
+ * USAGE:
+ * Registered for every suite in META-INF/services/org.testng.ITestNGListener
+ * (src/test/resources) - do not add it to the suite XML files as well
+ */
+public class DurationSchedulingListener implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final Logger logger = LogManager.getLogger(DurationSchedulingListener.class);
+
+    // Shared across listener instances - TestNG may create one instance per listener interface
+    private static volatile TestDurationHistory history;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (TestConfig.TEST_HISTORY_ENABLED) {
+            history();
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!TestConfig.TEST_HISTORY_ENABLED) {
+            return methods;
+        }
+
+        TestDurationHistory durations = history();
+        double longestKnown = 0;
+        for (IMethodInstance method : methods) {
+            longestKnown = Math.max(longestKnown, durations.expectedMillis(keyOf(method)));
+        }
+
+        List<Scheduled> scheduled = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            String key = keyOf(method);
+            double expected = durations.expectedMillis(key);
+            double score = expected < 0 ? longestKnown : expected;
+            if (durations.failedRecently(key)) {
+                score *= TestConfig.TEST_HISTORY_FAILURE_BOOST;
+            }
+            scheduled.add(new Scheduled(method, score));
+        }
+        // Stable sort keeps the declared order for equal scores (e.g. first run)
+        scheduled.sort(Comparator.comparingDouble((Scheduled s) -> s.score).reversed());
+
+        List<IMethodInstance> ordered = new ArrayList<>();
+        for (Scheduled s : scheduled) {
+            ordered.add(s.method);
+            logger.debug("Scheduled {} (score {} ms)", keyOf(s.method), Math.round(s.score));
+        }
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, true);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // Skipped tests (e.g. failed configuration) did not really run - their duration is meaningless
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (TestConfig.TEST_HISTORY_ENABLED) {
+            history().save();
+        }
+    }
+
+    private void record(ITestResult result, boolean failed) {
+        if (!TestConfig.TEST_HISTORY_ENABLED) {
+            return;
+        }
+        long duration = result.getEndMillis() - result.getStartMillis();
+        history().record(rowKeyOf(result), duration, failed);
+    }
+
+    private static TestDurationHistory history() {
+        if (history == null) {
+            synchronized (DurationSchedulingListener.class) {
+                if (history == null) {
+                    history = TestDurationHistory.load();
+                }
+            }
+        }
+        return history;
+    }
+
+    private static String keyOf(IMethodInstance method) {
+        return method.getMethod().getQualifiedName();
+    }
+
+    /**
+     * Key of a single invocation - data-provider rows get a hash of their parameter values appended
+     * (also the test identity TestDataSeedListener derives random streams from)
+     */
+    static String rowKeyOf(ITestResult result) {
+        String key = result.getMethod().getQualifiedName();
+        Object[] parameters = result.getParameters();
+        if (parameters == null || parameters.length == 0) {
+            return key;
+        }
+        // Value hash (Strings / numbers from the data files) - stable across runs, unlike the row order
+        return key + "[" + Integer.toHexString(Arrays.deepHashCode(parameters)) + "]";
+    }
+
+    private static final class Scheduled {
+        final IMethodInstance method;
+        final double score;
+
+        Scheduled(IMethodInstance method, double score) {
+            this.method = method;
+            this.score = score;
+        }
+    }
+}
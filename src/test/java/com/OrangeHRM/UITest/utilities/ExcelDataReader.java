@@ -17,6 +17,10 @@ import org.testng.annotations.DataProvider;
 
 import com.OrangeHRM.UI.config.TestConfig;
 
+// Log4j2 imports
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 /**
  * ExcelDataReader - Utility class for reading test data from Excel files
  * 
@@ -28,8 +32,10 @@ import com.OrangeHRM.UI.config.TestConfig;
  * 5. DATA PROVIDER PATTERN - TestNG data provider implementation
  * 
  * HOW IT WORKS:
- * - Reads test data from Excel files (test-data.xlsx)
+ * - Reads test data from Excel files (test-data.xlsx) - via the binary TestDataPack
+ *   compiled at build time when it is up to date, with POI otherwise
  * - Supports filtering by test type (ValidLogin, InvalidLogin)
+ * - Optionally reduces the rows to an n-wise covering subset (CombinatorialReducer)
  * - Converts Excel data to Object[][] for TestNG data providers
  * - Handles different data types (String, Integer, Boolean)
  * - Provides fallback to hardcoded data if Excel file not found
@@ -50,39 +56,53 @@ import com.OrangeHRM.UI.config.TestConfig;
  */
 public class ExcelDataReader {
     
+    private static final Logger logger = LogManager.getLogger(ExcelDataReader.class);
+    
     private static final String TEST_DATA_FILE = "src/test/resources/test-data/test-data.xlsx";
     private static final String LOGIN_DATA_SHEET = "Login Data";
     
+    // Parameter columns of the login providers covered by CombinatorialReducer (combinatorialStrength)
+    private static final String[] LOGIN_PARAMETER_NAMES = {"username", "password", "expectedResult"};
+    private static final int[] LOGIN_PARAMETER_COLUMNS = {0, 1, 2};
+    
     /**
      * Data Provider for valid login test cases
      * Reads from Excel sheet "Login Data" and filters for ValidLogin
+     * Rows run in parallel - each on its own leased browser (see BaseTest)
      * 
      * @return Object[][] - Array of test data [username, password, expectedResult]
      */
-    @DataProvider(name = "validLoginData")
+    @DataProvider(name = "validLoginData", parallel = true)
     public static Object[][] getValidLoginData() {
+        Object[][] rows;
         try {
-            return readExcelDataByType(TEST_DATA_FILE, LOGIN_DATA_SHEET, "ValidLogin");
-        } catch (Exception e) {
-            System.out.println("⚠️ Excel file not found, using hardcoded valid login data");
+            rows = readExcelDataByType(TEST_DATA_FILE, LOGIN_DATA_SHEET, "ValidLogin");
+        } catch (IOException e) {
+            logger.warn("⚠️ Excel file not found, using hardcoded valid login data", e);
             return getHardcodedValidLoginData();
         }
+        // Outside the try - a reduction failure is a real error, not a missing file
+        return CombinatorialReducer.reduce("validLoginData", rows, LOGIN_PARAMETER_NAMES, LOGIN_PARAMETER_COLUMNS);
     }
     
     /**
      * Data Provider for invalid login test cases
      * Reads from Excel sheet "Login Data" and filters for InvalidLogin
+     * Rows run in parallel - each on its own leased browser (see BaseTest)
      * 
      * @return Object[][] - Array of test data [username, password, expectedResult]
      */
-    @DataProvider(name = "invalidLoginData")
+    @DataProvider(name = "invalidLoginData", parallel = true)
     public static Object[][] getInvalidLoginData() {
+        Object[][] rows;
         try {
-            return readExcelDataByType(TEST_DATA_FILE, LOGIN_DATA_SHEET, "InvalidLogin");
-        } catch (Exception e) {
-            System.out.println("⚠️ Excel file not found, using hardcoded invalid login data");
+            rows = readExcelDataByType(TEST_DATA_FILE, LOGIN_DATA_SHEET, "InvalidLogin");
+        } catch (IOException e) {
+            logger.warn("⚠️ Excel file not found, using hardcoded invalid login data", e);
             return getHardcodedInvalidLoginData();
         }
+        // Outside the try - a reduction failure is a real error, not a missing file
+        return CombinatorialReducer.reduce("invalidLoginData", rows, LOGIN_PARAMETER_NAMES, LOGIN_PARAMETER_COLUMNS);
     }
     
     
@@ -97,42 +117,33 @@ public class ExcelDataReader {
      */
     private static Object[][] readExcelDataByType(String filePath, String sheetName, String testType) throws IOException {
         List<Object[]> dataList = new ArrayList<>();
+        Object[][] rows = readSheet(filePath, sheetName);
         
-        try (FileInputStream fis = new FileInputStream(filePath);
-             Workbook workbook = new XSSFWorkbook(fis)) {
-            
-            Sheet sheet = workbook.getSheet(sheetName);
-            if (sheet == null) {
-                throw new IOException("Sheet '" + sheetName + "' not found in Excel file");
-            }
-            
-            // Skip header row (row 0)
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row != null) {
-                    // Check if this row matches the test type
-                    Cell testTypeCell = row.getCell(0); // First column is testType
-                    if (testTypeCell != null && testType.equals(getCellValue(testTypeCell).toString())) {
-                        List<Object> rowData = new ArrayList<>();
-                        
-                        // Read specific columns based on test type
-                        if ("ValidLogin".equals(testType) || "InvalidLogin".equals(testType)) {
-                            // For login tests: username, password, expectedResult
-                            rowData.add(getCellValue(row.getCell(1))); // username
-                            rowData.add(getCellValue(row.getCell(2))); // password
-                            rowData.add(getCellValue(row.getCell(3))); // expectedResult
-                        } else {
-                            // For user data: firstName, lastName, username, password, confirmPassword
-                            rowData.add(getCellValue(row.getCell(4))); // firstName
-                            rowData.add(getCellValue(row.getCell(5))); // lastName
-                            rowData.add(getCellValue(row.getCell(1))); // username
-                            rowData.add(getCellValue(row.getCell(2))); // password
-                            rowData.add(getCellValue(row.getCell(2))); // confirmPassword (same as password)
-                        }
-                        
-                        if (!rowData.isEmpty()) {
-                            dataList.add(rowData.toArray());
-                        }
+        // Skip header row (row 0)
+        for (int i = 1; i < rows.length; i++) {
+            Object[] row = rows[i];
+            if (row != null) {
+                // Check if this row matches the test type
+                if (testType.equals(cellAt(row, 0).toString())) { // First column is testType
+                    List<Object> rowData = new ArrayList<>();
+                    
+                    // Read specific columns based on test type
+                    if ("ValidLogin".equals(testType) || "InvalidLogin".equals(testType)) {
+                        // For login tests: username, password, expectedResult
+                        rowData.add(cellAt(row, 1)); // username
+                        rowData.add(cellAt(row, 2)); // password
+                        rowData.add(cellAt(row, 3)); // expectedResult
+                    } else {
+                        // For user data: firstName, lastName, username, password, confirmPassword
+                        rowData.add(cellAt(row, 4)); // firstName
+                        rowData.add(cellAt(row, 5)); // lastName
+                        rowData.add(cellAt(row, 1)); // username
+                        rowData.add(cellAt(row, 2)); // password
+                        rowData.add(cellAt(row, 2)); // confirmPassword (same as password)
+                    }
+                    
+                    if (!rowData.isEmpty()) {
+                        dataList.add(rowData.toArray());
                     }
                 }
             }
@@ -151,6 +162,43 @@ public class ExcelDataReader {
      */
     private static Object[][] readExcelData(String filePath, String sheetName) throws IOException {
         List<Object[]> dataList = new ArrayList<>();
+        Object[][] rows = readSheet(filePath, sheetName);
+        
+        // Skip header row (row 0)
+        for (int i = 1; i < rows.length; i++) {
+            Object[] row = rows[i];
+            if (row != null && row.length > 0) {
+                dataList.add(row);
+            }
+        }
+        
+        return dataList.toArray(new Object[0][]);
+    }
+    
+    /**
+     * Read all rows of a sheet (header included, null for missing rows)
+     * 
+     * HOW IT WORKS:
+     * - Uses the binary pack compiled from the xlsx at build time (TestDataPack,
+     *   memory-mapped, no POI) while it is up to date
+     * - Falls back to parsing the xlsx with POI when there is no pack or the xlsx
+     *   was edited after the last build
+     * 
+     * @param filePath - Path to Excel file
+     * @param sheetName - Name of the sheet to read
+     * @return Object[][] - Rows as cell values (see getCellValue)
+     * @throws IOException - If file cannot be read or the sheet does not exist
+     */
+    private static Object[][] readSheet(String filePath, String sheetName) throws IOException {
+        TestDataPack pack = TestDataPack.forSource(filePath);
+        if (pack != null) {
+            Object[][] rows = pack.readSheet(sheetName);
+            if (rows == null) {
+                throw new IOException("Sheet '" + sheetName + "' not found in Excel file");
+            }
+            logger.debug("Read sheet '{}' from test data pack", sheetName);
+            return rows;
+        }
         
         try (FileInputStream fis = new FileInputStream(filePath);
              Workbook workbook = new XSSFWorkbook(fis)) {
@@ -160,26 +208,26 @@ public class ExcelDataReader {
                 throw new IOException("Sheet '" + sheetName + "' not found in Excel file");
             }
             
-            // Skip header row (row 0)
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
+            Object[][] rows = new Object[sheet.getLastRowNum() + 1][];
+            for (int i = 0; i <= sheet.getLastRowNum(); i++) {
                 Row row = sheet.getRow(i);
                 if (row != null) {
-                    List<Object> rowData = new ArrayList<>();
-                    
-                    // Read all cells in the row
-                    for (int j = 0; j < row.getLastCellNum(); j++) {
-                        Cell cell = row.getCell(j);
-                        rowData.add(getCellValue(cell));
-                    }
-                    
-                    if (!rowData.isEmpty()) {
-                        dataList.add(rowData.toArray());
+                    Object[] rowData = new Object[Math.max(0, row.getLastCellNum())];
+                    for (int j = 0; j < rowData.length; j++) {
+                        rowData[j] = getCellValue(row.getCell(j));
                     }
+                    rows[i] = rowData;
                 }
             }
+            return rows;
         }
-        
-        return dataList.toArray(new Object[0][]);
+    }
+    
+    /**
+     * Get cell value of a row, "" for cells past the end of the row
+     */
+    private static Object cellAt(Object[] row, int column) {
+        return column < row.length ? row[column] : "";
     }
     
     /**
@@ -275,7 +323,7 @@ public class ExcelDataReader {
                 dataList.add(dataMap);
             }
         } catch (Exception e) {
-            System.out.println("⚠️ Error reading Excel data: " + e.getMessage());
+            logger.warn("⚠️ Error reading Excel data: {}", e.getMessage());
         }
         
         return dataList;
@@ -3,9 +3,13 @@ package com.OrangeHRM.UITest.utilities;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 import com.OrangeHRM.UI.config.TestConfig;
+import com.OrangeHRM.UI.utilities.IoExecutor;
+import com.OrangeHRM.UI.utilities.BrowserEventCollector.BrowserEvent;
+import com.OrangeHRM.UI.utilities.BrowserMemory;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.OutputType;
@@ -16,6 +20,7 @@ import org.testng.ITestResult;
 import java.awt.Desktop;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -23,6 +28,10 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 
+// Log4j2 imports
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 /**
  * ExtentReportManager - TestNG Listener for automatic Extent Reports generation
  * 
@@ -39,16 +48,20 @@ import java.util.List;
  * 
  * HOW IT WORKS:
  * 1. onStart() - Initializes ExtentReports when test suite starts
- * 2. onTestSuccess() - Logs successful test execution
- * 3. onTestFailure() - Logs failed test with screenshots
- * 4. onTestSkipped() - Logs skipped tests
- * 5. onFinish() - Generates final report and opens in browser
+ * 2. onTestStart() - Starts the in-memory debug log buffer for the test
+ * 3. onTestSuccess() - Logs successful test execution (debug buffer discarded)
+ * 4. onTestFailure() - Logs failed test with screenshots, buffered debug log and browser events
+ * 5. onTestSkipped() - Logs skipped tests
+ * 6. onFinish() - Generates final report and opens in browser
  * 
  * @author TeluguAutomation
  * @version 1.0
  */
 public class ExtentReportManager implements ITestListener {
 
+    // Logger instance
+    private static final Logger logger = LogManager.getLogger(ExtentReportManager.class);
+
     // Extent Reports instances
     public ExtentSparkReporter sparkReporter;
     public ExtentReports extent;
@@ -64,7 +77,7 @@ public class ExtentReportManager implements ITestListener {
      * @param testContext TestNG context containing suite information
      */
     public void onStart(ITestContext testContext) {
-        System.out.println("=== ExtentReportManager: onStart ===");
+        logger.debug("=== ExtentReportManager: onStart ===");
         
         // Generate timestamp for unique report names
         String timeStamp = new SimpleDateFormat("yyyy.MM.dd.HH.mm.ss").format(new Date());
@@ -76,10 +89,10 @@ public class ExtentReportManager implements ITestListener {
             Path reportDirPath = Paths.get(reportPath);
             if (!Files.exists(reportDirPath)) {
                 Files.createDirectories(reportDirPath);
-                System.out.println("Extent Reports directory created: " + reportPath);
+                logger.debug("Extent Reports directory created: {}", reportPath);
             }
         } catch (IOException e) {
-            System.out.println("Failed to create Extent Reports directory: " + e.getMessage());
+            logger.warn("Failed to create Extent Reports directory: {}", e.getMessage());
         }
         
         // Initialize ExtentSparkReporter
@@ -117,7 +130,17 @@ public class ExtentReportManager implements ITestListener {
             extent.setSystemInfo("Test Groups", includedGroups.toString());
         }
         
-        System.out.println("Extent Reports initialized: " + reportPath + repName);
+        logger.info("Extent Reports initialized: {}{}", reportPath, repName);
+    }
+
+    /**
+     * onTestStart - Start buffering DEBUG logs for the test
+     * BaseTest.setUp() starts the buffer earlier when it runs first, this is a no-op then
+     * 
+     * @param result TestNG result containing test information
+     */
+    public void onTestStart(ITestResult result) {
+        TestLogBuffer.begin();
     }
 
     /**
@@ -127,14 +150,17 @@ public class ExtentReportManager implements ITestListener {
      * @param result TestNG result containing test information
      */
     public void onTestSuccess(ITestResult result) {
-        System.out.println("=== ExtentReportManager: onTestSuccess ===");
+        logger.debug("=== ExtentReportManager: onTestSuccess ===");
         
         // Create test entry
         test = extent.createTest(result.getTestClass().getName());
         test.assignCategory(result.getMethod().getGroups());
         test.log(Status.PASS, result.getName() + " got successfully executed");
+        attachBrowserEvents(result);
+        attachBrowserMemory(result);
+        TestLogBuffer.discard();
         
-        System.out.println("✓ Test passed: " + result.getName());
+        logger.info("✓ Test passed: {}", result.getName());
     }
 
     /**
@@ -144,27 +170,30 @@ public class ExtentReportManager implements ITestListener {
      * @param result TestNG result containing test information
      */
     public void onTestFailure(ITestResult result) {
-        System.out.println("=== ExtentReportManager: onTestFailure ===");
+        logger.debug("=== ExtentReportManager: onTestFailure ===");
         
         // Create test entry
         test = extent.createTest(result.getTestClass().getName());
         test.assignCategory(result.getMethod().getGroups());
         test.log(Status.FAIL, result.getName() + " got failed");
         test.log(Status.INFO, result.getThrowable().getMessage());
+        attachBufferedDebugLog(result);
+        attachBrowserEvents(result);
+        attachBrowserMemory(result);
         
         // Add screenshot on failure (if enabled)
         if (TestConfig.SCREENSHOT_ON_FAILURE) {
             try {
                 String screenshotPath = new com.OrangeHRM.UITest.testBase.BaseTest().captureScreen(result.getName());
                 test.addScreenCaptureFromPath(screenshotPath);
-                System.out.println("Screenshot captured: " + screenshotPath);
+                logger.debug("Screenshot captured: {}", screenshotPath);
             } catch (Exception e) {
                 test.log(Status.WARNING, "Failed to capture screenshot: " + e.getMessage());
-                System.out.println("Failed to capture screenshot: " + e.getMessage());
+                logger.warn("Failed to capture screenshot: {}", e.getMessage());
             }
         }
         
-        System.out.println("✗ Test failed: " + result.getName());
+        logger.info("✗ Test failed: {}", result.getName());
     }
 
     /**
@@ -174,12 +203,13 @@ public class ExtentReportManager implements ITestListener {
      * @param result TestNG result containing test information
      */
     public void onTestSkipped(ITestResult result) {
-        System.out.println("=== ExtentReportManager: onTestSkipped ===");
+        logger.debug("=== ExtentReportManager: onTestSkipped ===");
         
         // Create test entry
         test = extent.createTest(result.getTestClass().getName() + " :: " + result.getName());
         test.assignCategory(result.getMethod().getGroups());
         test.log(Status.SKIP, result.getName() + " got skipped");
+        TestLogBuffer.discard();
         test.log(Status.INFO, result.getThrowable().getMessage());
         
         // Add screenshot on skip (if enabled)
@@ -187,14 +217,24 @@ public class ExtentReportManager implements ITestListener {
             try {
                 String screenshotPath = new com.OrangeHRM.UITest.testBase.BaseTest().captureScreen(result.getName());
                 test.addScreenCaptureFromPath(screenshotPath);
-                System.out.println("Screenshot captured: " + screenshotPath);
+                logger.debug("Screenshot captured: {}", screenshotPath);
             } catch (Exception e) {
                 test.log(Status.WARNING, "Failed to capture screenshot: " + e.getMessage());
-                System.out.println("Failed to capture screenshot: " + e.getMessage());
+                logger.warn("Failed to capture screenshot: {}", e.getMessage());
             }
         }
         
-        System.out.println("⚠ Test skipped: " + result.getName());
+        logger.info("⚠ Test skipped: {}", result.getName());
+    }
+
+    /**
+     * onTestFailedButWithinSuccessPercentage - Counted as passed, drop the buffered log
+     * 
+     * @param result TestNG result containing test information
+     */
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        TestLogBuffer.discard();
     }
 
     /**
@@ -204,32 +244,96 @@ public class ExtentReportManager implements ITestListener {
      * @param testContext TestNG context containing suite information
      */
     public void onFinish(ITestContext testContext) {
-        System.out.println("=== ExtentReportManager: onFinish ===");
+        logger.debug("=== ExtentReportManager: onFinish ===");
         
         if (extent != null) {
-            // Flush reports to generate HTML
-            extent.flush();
-            System.out.println("Extent Reports generated successfully!");
-            
-            // Report generated successfully
-            String pathOfExtentReport = TestConfig.EXTENT_REPORT_PATH + repName;
-            File extentReport = new File(pathOfExtentReport);
-            
-            if (extentReport.exists()) {
-                System.out.println("Extent Report generated successfully: " + pathOfExtentReport);
+            // Flush reports to generate HTML - off the TestNG thread, BaseTest @AfterSuite awaits it
+            ExtentReports report = extent;
+            IoExecutor.submit("extent report flush", () -> {
+                report.flush();
+                logger.debug("Extent Reports generated successfully!");
                 
-                // To open the report automatically
-                try {
-                    Desktop.getDesktop().browse(extentReport.toURI());
-                    System.out.println("Report opened in browser automatically!");
-                } catch (IOException e) {
-                    System.out.println("Could not open report automatically: " + e.getMessage());
-                    System.out.println("Please open the report manually in your browser.");
+                // Report generated successfully
+                String pathOfExtentReport = TestConfig.EXTENT_REPORT_PATH + repName;
+                File extentReport = new File(pathOfExtentReport);
+                
+                if (extentReport.exists()) {
+                    logger.info("Extent Report generated successfully: {}", pathOfExtentReport);
+                    
+                    // To open the report automatically
+                    try {
+                        Desktop.getDesktop().browse(extentReport.toURI());
+                        logger.info("Report opened in browser automatically!");
+                    } catch (IOException e) {
+                        logger.warn("Could not open report automatically: {}", e.getMessage());
+                        logger.warn("Please open the report manually in your browser.");
+                    }
+                } else {
+                    logger.warn("Report file not found: {}", pathOfExtentReport);
                 }
-            } else {
-                System.out.println("Report file not found: " + pathOfExtentReport);
-            }
+            });
+        }
+    }
+
+    /**
+     * Attach the browser events collected by BrowserEventListener (console errors,
+     * JavaScript exceptions, failed requests) to the report entry of the test
+     * 
+     * @param result TestNG result carrying the events attribute
+     */
+    private void attachBrowserEvents(ITestResult result) {
+        Object attribute = result.getAttribute(BrowserEventListener.EVENTS_ATTRIBUTE);
+        if (!(attribute instanceof List) || ((List<?>) attribute).isEmpty()) {
+            return;
+        }
+        StringBuilder events = new StringBuilder();
+        for (Object event : (List<?>) attribute) {
+            BrowserEvent browserEvent = (BrowserEvent) event;
+            events.append(new SimpleDateFormat("HH:mm:ss.SSS").format(new Date(browserEvent.getTimestamp())))
+                  .append(' ').append(browserEvent).append(System.lineSeparator());
+        }
+        test.log(Status.WARNING, "Browser events (" + ((List<?>) attribute).size() + ")");
+        test.info(MarkupHelper.createCodeBlock(events.toString()));
+    }
+
+    /**
+     * Add the browser memory sampled by BrowserMemoryListener (RSS / JS heap before
+     * and after the test) to the report entry - a warning if the test looks leaky
+     * 
+     * @param result TestNG result carrying the memory attribute
+     */
+    private void attachBrowserMemory(ITestResult result) {
+        Object attribute = result.getAttribute(BrowserMemoryListener.MEMORY_ATTRIBUTE);
+        if (!(attribute instanceof BrowserMemory.Usage)) {
+            return;
         }
+        BrowserMemory.Usage usage = (BrowserMemory.Usage) attribute;
+        test.log(usage.isLeakSuspect() ? Status.WARNING : Status.INFO,
+                (usage.isLeakSuspect() ? "Possible memory leak - browser memory: " : "Browser memory: ") + usage);
+    }
+
+    /**
+     * Attach the buffered DEBUG log of a failed test to its report entry
+     * and write it to failureLogPath as well
+     * 
+     * @param result TestNG result of the failed test
+     */
+    private void attachBufferedDebugLog(ITestResult result) {
+        List<String> lines = TestLogBuffer.end(result.getName());
+        if (lines.isEmpty()) {
+            return;
+        }
+        String debugLog = String.join("", lines);
+        test.info(MarkupHelper.createCodeBlock(debugLog));
+        
+        String timeStamp = new SimpleDateFormat("yyyyMMddHHmmss").format(new Date());
+        Path logFile = Paths.get(TestConfig.FAILURE_LOG_PATH,
+                result.getTestClass().getRealClass().getSimpleName() + "." + result.getName() + "_" + timeStamp + ".log");
+        IoExecutor.submit("failure log " + logFile, () -> {
+            Files.createDirectories(logFile.getParent());
+            Files.write(logFile, debugLog.getBytes(StandardCharsets.UTF_8));
+            logger.info("Debug log of failed test written to: {}", logFile);
+        });
     }
 
 }
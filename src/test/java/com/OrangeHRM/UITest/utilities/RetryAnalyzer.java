@@ -0,0 +1,51 @@
+package com.OrangeHRM.UITest.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import com.OrangeHRM.UI.config.TestConfig;
+import com.OrangeHRM.UI.utilities.RetryPolicy;
+import com.OrangeHRM.UI.utilities.RetryPolicy.FailureType;
+
+/**
+ * RetryAnalyzer - Test level retry for transient environment failures
+ *
+ * HOW IT WORKS:
+ * - TestNG calls retry() after every failed invocation
+ * - The failure is classified by RetryPolicy - assertion failures are never retried
+ * - A test is retried at most testRetryMaxAttempts times
+ * - Every retry takes a token from the suite-wide test retry budget, so a broken
+ *   environment cannot double the suite time with pointless retries
+ * - Waits with exponential backoff + jitter before the next attempt
+ *
+ * USAGE:
+ * @Test(retryAnalyzer = RetryAnalyzer.class)
+ * RetryTransformer (registered for every suite) applies it to every test
+ */
+public class RetryAnalyzer implements IRetryAnalyzer {
+
+    private static final Logger logger = LogManager.getLogger(RetryAnalyzer.class);
+
+    private int retries;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        FailureType type = RetryPolicy.classify(result.getThrowable());
+        if (!type.isRetryable() || retries >= TestConfig.TEST_RETRY_MAX_ATTEMPTS) {
+            return false;
+        }
+        if (!RetryPolicy.TEST_BUDGET.tryAcquire()) {
+            logger.info("Not retrying {} ({}) - test retry budget exhausted", result.getName(), type);
+            return false;
+        }
+
+        retries++;
+        long delay = RetryPolicy.backoffMillis(retries);
+        logger.warn("Retrying {} after {} in {} ms (retry {}/{}, budget left {})", result.getName(), type,
+                delay, retries, TestConfig.TEST_RETRY_MAX_ATTEMPTS, RetryPolicy.TEST_BUDGET.remaining());
+        RetryPolicy.sleep(delay);
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+/**
+ * RetryTransformer - Applies RetryAnalyzer to every @Test that has no analyzer of its own
+ *
+ * USAGE:
+ * Registered for every suite in META-INF/services/org.testng.ITestNGListener
+ * (src/test/resources) - do not add it to the suite XML files as well
+ */
+public class RetryTransformer implements IAnnotationTransformer {
+
+    // What @Test(retryAnalyzer) holds when a test sets none
+    private static final Object NO_ANALYZER = defaultRetryAnalyzer();
+
+    @Override
+    @SuppressWarnings("rawtypes") // IAnnotationTransformer declares raw Class / Constructor - Class<?> would not override it
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> current = annotation.getRetryAnalyzerClass();
+        if (current == null || current.equals(NO_ANALYZER)) {
+            annotation.setRetryAnalyzer(RetryAnalyzer.class);
+        }
+    }
+
+    private static Object defaultRetryAnalyzer() {
+        try {
+            return Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("@Test has no retryAnalyzer attribute", e);
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.OrangeHRM.UITest.utilities;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Random;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
 import java.util.UUID;
 
+import com.OrangeHRM.UI.config.TestConfig;
+
 /**
  * TestDataGenerator - Utility class for generating dynamic test data
  * 
@@ -13,19 +16,30 @@ import java.util.UUID;
  * 1. STATIC METHODS - Utility methods for data generation
  * 2. ENCAPSULATION - Private helper methods with public API
  * 3. IMMUTABILITY - Generated data is immutable
- * 4. SINGLETON PATTERN - Single Random instance for consistency
+ * 4. THREAD CONFINEMENT - One SplittableRandom stream per worker thread
  * 5. FACTORY PATTERN - Creates different types of test data
  * 
  * HOW IT WORKS:
  * - Generates random data for various test scenarios
  * - Supports different data types (String, Integer, Date, Email, etc.)
- * - Uses seeded Random for reproducible test data
  * - Provides realistic test data for UI testing
- * - Thread-safe data generation
+ * - Thread-safe data generation without a shared Random (no CAS contention
+ *   between parallel data providers / test methods)
+ * 
+ * REPRODUCIBLE DATA:
+ * - One suite seed per run - testDataSeed (config.properties or -DtestDataSeed),
+ *   a fresh seed is picked and logged when it is empty
+ * - reseed(identity) gives the current thread a SplittableRandom derived from
+ *   suite seed + test identity (TestDataSeedListener calls it before every test
+ *   method and data provider), so each test gets the same values in every run
+ *   with that seed - regardless of thread count or execution order
+ * - To regenerate the data of a failing row, rerun with the logged seed
+ * - Usernames, emails and employee ids end with a UniqueIdAllocator id instead of
+ *   a random number - they never collide, and are intentionally not replayed
  * 
  * DESIGN PATTERNS:
  * - Factory Pattern - Creates different types of test data
- * - Singleton Pattern - Single Random instance
+ * - Thread-Local Pattern - Per-thread random stream
  * - Builder Pattern - Fluent API for complex data creation
  * 
  * USAGE:
@@ -38,7 +52,12 @@ import java.util.UUID;
  */
 public class TestDataGenerator {
     
-    private static final Random random = new Random();
+    private static final long SUITE_SEED = resolveSuiteSeed();
+    
+    // Threads that were not reseeded (e.g. outside TestNG) get a stream split from this root
+    private static final SplittableRandom ROOT = new SplittableRandom(SUITE_SEED);
+    private static final ThreadLocal<SplittableRandom> RANDOM = ThreadLocal.withInitial(TestDataGenerator::splitRoot);
+    
     private static final String[] FIRST_NAMES = {
         "John", "Jane", "Michael", "Sarah", "David", "Lisa", "Robert", "Emily",
         "James", "Jessica", "William", "Ashley", "Richard", "Amanda", "Joseph",
@@ -72,13 +91,67 @@ public class TestDataGenerator {
         "Admin Assistant", "Support Specialist", "Developer", "Tester"
     };
     
+    /**
+     * Get the suite seed all per-test streams are derived from
+     * 
+     * @return long - Suite seed of this run
+     */
+    public static long getSuiteSeed() {
+        return SUITE_SEED;
+    }
+    
+    /**
+     * Restart the current thread's random stream for the given test identity
+     * Same suite seed + same identity = same generated values
+     * 
+     * @param identity - Stable test identity, e.g. class.method[5e1c2a9b] (hex hash of the row values)
+     */
+    public static void reseed(String identity) {
+        RANDOM.set(new SplittableRandom(mix(SUITE_SEED ^ hash(identity))));
+    }
+    
+    private static SplittableRandom random() {
+        return RANDOM.get();
+    }
+    
+    private static SplittableRandom splitRoot() {
+        synchronized (ROOT) {
+            return ROOT.split();
+        }
+    }
+    
+    private static long resolveSuiteSeed() {
+        String configured = TestConfig.TEST_DATA_SEED.trim();
+        if (!configured.isEmpty()) {
+            return Long.parseLong(configured);
+        }
+        return mix(System.nanoTime() ^ System.currentTimeMillis());
+    }
+    
+    // 64-bit FNV-1a - stable across JVMs, unlike String.hashCode() it uses all 64 bits
+    private static long hash(String identity) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : identity.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+    
+    // MurmurHash3 finalizer - spreads close seeds far apart
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+    
     /**
      * Generate random first name
      * 
      * @return String - Random first name
      */
     public static String generateFirstName() {
-        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        return FIRST_NAMES[random().nextInt(FIRST_NAMES.length)];
     }
     
     /**
@@ -87,7 +160,7 @@ public class TestDataGenerator {
      * @return String - Random last name
      */
     public static String generateLastName() {
-        return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        return LAST_NAMES[random().nextInt(LAST_NAMES.length)];
     }
     
     /**
@@ -100,30 +173,28 @@ public class TestDataGenerator {
     }
     
     /**
-     * Generate random email address
+     * Generate unique email address
      * 
-     * @return String - Random email address
+     * @return String - Random name + unique id email address
      */
     public static String generateEmail() {
         String firstName = generateFirstName().toLowerCase();
         String lastName = generateLastName().toLowerCase();
-        String domain = DOMAINS[random.nextInt(DOMAINS.length)];
-        int randomNum = random.nextInt(1000);
+        String domain = DOMAINS[random().nextInt(DOMAINS.length)];
         
-        return firstName + "." + lastName + randomNum + "@" + domain;
+        return firstName + "." + lastName + "." + UniqueIdAllocator.nextId() + "@" + domain;
     }
     
     /**
-     * Generate random username
+     * Generate unique username
      * 
-     * @return String - Random username
+     * @return String - Random name + unique id username
      */
     public static String generateUsername() {
         String firstName = generateFirstName().toLowerCase();
         String lastName = generateLastName().toLowerCase();
-        int randomNum = random.nextInt(1000);
         
-        return firstName + lastName + randomNum;
+        return firstName + lastName + UniqueIdAllocator.nextId();
     }
     
     /**
@@ -137,7 +208,7 @@ public class TestDataGenerator {
         StringBuilder password = new StringBuilder();
         
         for (int i = 0; i < length; i++) {
-            password.append(chars.charAt(random.nextInt(chars.length())));
+            password.append(chars.charAt(random().nextInt(chars.length())));
         }
         
         return password.toString();
@@ -158,20 +229,20 @@ public class TestDataGenerator {
      * @return String - Random phone number
      */
     public static String generatePhoneNumber() {
-        int areaCode = 100 + random.nextInt(900); // 100-999
-        int exchange = 100 + random.nextInt(900); // 100-999
-        int number = 1000 + random.nextInt(9000); // 1000-9999
+        int areaCode = 100 + random().nextInt(900); // 100-999
+        int exchange = 100 + random().nextInt(900); // 100-999
+        int number = 1000 + random().nextInt(9000); // 1000-9999
         
         return String.format("(%d) %d-%d", areaCode, exchange, number);
     }
     
     /**
-     * Generate random employee ID
+     * Generate unique employee ID (10 characters - OrangeHRM's maximum)
      * 
-     * @return String - Random employee ID
+     * @return String - Unique employee ID
      */
     public static String generateEmployeeId() {
-        return "EMP" + String.format("%04d", random.nextInt(10000));
+        return UniqueIdAllocator.nextId().toUpperCase();
     }
     
     /**
@@ -180,7 +251,7 @@ public class TestDataGenerator {
      * @return String - Random department
      */
     public static String generateDepartment() {
-        return DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+        return DEPARTMENTS[random().nextInt(DEPARTMENTS.length)];
     }
     
     /**
@@ -189,7 +260,7 @@ public class TestDataGenerator {
      * @return String - Random job title
      */
     public static String generateJobTitle() {
-        return JOB_TITLES[random.nextInt(JOB_TITLES.length)];
+        return JOB_TITLES[random().nextInt(JOB_TITLES.length)];
     }
     
     /**
@@ -203,7 +274,7 @@ public class TestDataGenerator {
         
         long startEpoch = startDate.toEpochDay();
         long endEpoch = endDate.toEpochDay();
-        long randomEpoch = startEpoch + random.nextInt((int) (endEpoch - startEpoch));
+        long randomEpoch = startEpoch + random().nextInt((int) (endEpoch - startEpoch));
         
         return LocalDate.ofEpochDay(randomEpoch).toString();
     }
@@ -221,7 +292,7 @@ public class TestDataGenerator {
         
         long startEpoch = startDate.toEpochDay();
         long endEpoch = endDate.toEpochDay();
-        long randomEpoch = startEpoch + random.nextInt((int) (endEpoch - startEpoch));
+        long randomEpoch = startEpoch + random().nextInt((int) (endEpoch - startEpoch));
         
         return LocalDate.ofEpochDay(randomEpoch).toString();
     }
@@ -233,9 +304,9 @@ public class TestDataGenerator {
      */
     public static String generateDateTime() {
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime randomDateTime = now.minusDays(random.nextInt(365))
-                                        .minusHours(random.nextInt(24))
-                                        .minusMinutes(random.nextInt(60));
+        LocalDateTime randomDateTime = now.minusDays(random().nextInt(365))
+                                        .minusHours(random().nextInt(24))
+                                        .minusMinutes(random().nextInt(60));
         
         return randomDateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
     }
@@ -248,7 +319,7 @@ public class TestDataGenerator {
      * @return int - Random number
      */
     public static int generateRandomNumber(int min, int max) {
-        return min + random.nextInt(max - min + 1);
+        return min + random().nextInt(max - min + 1);
     }
     
     /**
@@ -262,19 +333,21 @@ public class TestDataGenerator {
         StringBuilder result = new StringBuilder();
         
         for (int i = 0; i < length; i++) {
-            result.append(chars.charAt(random.nextInt(chars.length())));
+            result.append(chars.charAt(random().nextInt(chars.length())));
         }
         
         return result.toString();
     }
     
     /**
-     * Generate random UUID
+     * Generate random UUID (version 4 layout, drawn from the seeded stream)
      * 
      * @return String - Random UUID
      */
     public static String generateUUID() {
-        return UUID.randomUUID().toString();
+        long most = (random().nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long least = (random().nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(most, least).toString();
     }
     
     /**
@@ -283,7 +356,7 @@ public class TestDataGenerator {
      * @return boolean - Random boolean value
      */
     public static boolean generateBoolean() {
-        return random.nextBoolean();
+        return random().nextBoolean();
     }
     
     /**
@@ -293,8 +366,8 @@ public class TestDataGenerator {
      */
     public static String generateAddress() {
         String[] streets = {"Main St", "Oak Ave", "Pine Rd", "Cedar Ln", "Elm St", "Maple Ave"};
-        String street = streets[random.nextInt(streets.length)];
-        int number = 100 + random.nextInt(900);
+        String street = streets[random().nextInt(streets.length)];
+        int number = 100 + random().nextInt(900);
         
         return number + " " + street;
     }
@@ -312,7 +385,7 @@ public class TestDataGenerator {
             "Seattle", "Denver", "Washington", "Boston", "El Paso", "Nashville",
             "Detroit", "Oklahoma City", "Portland", "Las Vegas", "Memphis", "Louisville"
         };
-        return cities[random.nextInt(cities.length)];
+        return cities[random().nextInt(cities.length)];
     }
     
     /**
@@ -333,7 +406,7 @@ public class TestDataGenerator {
             "Tennessee", "Texas", "Utah", "Vermont", "Virginia", "Washington",
             "West Virginia", "Wisconsin", "Wyoming"
         };
-        return states[random.nextInt(states.length)];
+        return states[random().nextInt(states.length)];
     }
     
     /**
@@ -342,7 +415,7 @@ public class TestDataGenerator {
      * @return String - Random zip code
      */
     public static String generateZipCode() {
-        return String.format("%05d", random.nextInt(100000));
+        return String.format("%05d", random().nextInt(100000));
     }
     
     /**
@@ -0,0 +1,216 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * TestDataPack - Memory-mapped reader for test data compiled from xlsx at build time
+ *
+ * Opening test-data.xlsx with POI unzips and parses XML and loads a few thousand
+ * classes before the first data provider row is returned. TestDataPackCompiler
+ * turns every sheet into a small typed binary file during the build
+ * (process-test-classes); this class maps that file and reads cells straight from
+ * the mapping - no zip, no XML, no POI. The xlsx stays the source of truth: a pack
+ * is only used while its recorded source size + modification time still match.
+ *
+ * FILE LAYOUT (big endian):
+ * int     MAGIC, VERSION
+ * long    source size, source last modified
+ * int     string table offset, sheet count
+ * sheet * [short name length, name bytes (UTF-8), int rows, int columns, int row widths offset, int cells offset]
+ * rows * int                row width (cells in the row, -1 = missing row)   - per sheet
+ * rows * columns * 5 bytes  cell = byte type + int value                    - per sheet
+ * int string count, (count + 1) * int offsets, UTF-8 bytes                    - string table
+ *
+ * Cell types mirror ExcelDataReader.getCellValue(): EMPTY (""), STRING / FORMULA
+ * (value = string index), NUMBER (int value), BOOLEAN (0 / 1).
+ *
+ * USAGE:
+ * TestDataPack pack = TestDataPack.forSource("src/test/resources/test-data/test-data.xlsx");
+ * Object[][] rows = pack != null ? pack.readSheet("Login Data") : null;
+ */
+public final class TestDataPack {
+
+    static final int MAGIC = 0x54445031; // "TDP1"
+    static final int VERSION = 1;
+    static final int CELL_BYTES = 5;
+
+    static final byte EMPTY = 0;
+    static final byte STRING = 1;
+    static final byte NUMBER = 2;
+    static final byte BOOLEAN = 3;
+    static final byte FORMULA = 4;
+
+    private static final Logger logger = LogManager.getLogger(TestDataPack.class);
+
+    // Opened packs by source path - a missing / stale pack is not cached so a rebuild is picked up
+    private static final Map<String, TestDataPack> OPEN = new ConcurrentHashMap<>();
+
+    private final MappedByteBuffer buffer;
+    private final long sourceSize;
+    private final long sourceLastModified;
+    private final Map<String, SheetEntry> sheets = new HashMap<>();
+    private final int stringTableOffset;
+    private final int stringCount;
+
+    private TestDataPack(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a version " + VERSION + " test data pack");
+        }
+        this.sourceSize = buffer.getLong(8);
+        this.sourceLastModified = buffer.getLong(16);
+        this.stringTableOffset = buffer.getInt(24);
+        int sheetCount = buffer.getInt(28);
+        this.stringCount = buffer.getInt(stringTableOffset);
+
+        int position = 32;
+        for (int i = 0; i < sheetCount; i++) {
+            int nameLength = buffer.getShort(position) & 0xffff;
+            String name = decode(position + 2, nameLength);
+            position += 2 + nameLength;
+            SheetEntry sheet = new SheetEntry(buffer.getInt(position), buffer.getInt(position + 4),
+                    buffer.getInt(position + 8), buffer.getInt(position + 12));
+            position += 16;
+            sheets.put(name, sheet);
+        }
+    }
+
+    /**
+     * Get the pack compiled from an xlsx file, if it exists and is up to date
+     *
+     * @param xlsxPath - Path of the source xlsx
+     * @return TestDataPack - Mapped pack, or null if missing / stale / unreadable (read the xlsx then)
+     */
+    public static TestDataPack forSource(String xlsxPath) {
+        TestDataPack pack = OPEN.get(xlsxPath);
+        File source = new File(xlsxPath);
+        if (pack != null && pack.matches(source)) {
+            return pack;
+        }
+        Path packPath = packPathFor(xlsxPath);
+        if (!packPath.toFile().isFile()) {
+            logger.debug("No test data pack at {} - reading {}", packPath, xlsxPath);
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(packPath, StandardOpenOption.READ)) {
+            pack = new TestDataPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Ignoring unreadable test data pack {}: {}", packPath, e.getMessage());
+            return null;
+        }
+        if (!pack.matches(source)) {
+            logger.info("Test data pack {} is older than {} - reading the xlsx (rebuild with mvn test-compile)",
+                    packPath, xlsxPath);
+            return null;
+        }
+        OPEN.put(xlsxPath, pack);
+        return pack;
+    }
+
+    /**
+     * Pack file of an xlsx: testDataPackPath + xlsx name with .pack extension
+     *
+     * @param xlsxPath - Path of the source xlsx
+     * @return Path - Pack file path
+     */
+    public static Path packPathFor(String xlsxPath) {
+        String name = new File(xlsxPath).getName();
+        int dot = name.lastIndexOf('.');
+        return Paths.get(TestConfig.TEST_DATA_PACK_PATH, (dot > 0 ? name.substring(0, dot) : name) + ".pack");
+    }
+
+    boolean matches(File source) {
+        return source.length() == sourceSize && source.lastModified() == sourceLastModified;
+    }
+
+    /**
+     * Read all rows of a sheet (including the header row) with ExcelDataReader's cell value types
+     *
+     * @param sheetName - Name of the sheet
+     * @return Object[][] - Rows (null for missing rows), or null if the sheet does not exist
+     */
+    public Object[][] readSheet(String sheetName) {
+        SheetEntry sheet = sheets.get(sheetName);
+        if (sheet == null) {
+            return null;
+        }
+        Object[][] rows = new Object[sheet.rows][];
+        for (int r = 0; r < sheet.rows; r++) {
+            int width = buffer.getInt(sheet.rowWidthsOffset + r * 4);
+            if (width < 0) {
+                continue;
+            }
+            Object[] row = new Object[width];
+            int cell = sheet.cellsOffset + r * sheet.columns * CELL_BYTES;
+            for (int c = 0; c < width; c++, cell += CELL_BYTES) {
+                row[c] = cellValue(buffer.get(cell), buffer.getInt(cell + 1));
+            }
+            rows[r] = row;
+        }
+        return rows;
+    }
+
+    private Object cellValue(byte type, int value) {
+        switch (type) {
+            case STRING:
+            case FORMULA:
+                return string(value);
+            case NUMBER:
+                return value;
+            case BOOLEAN:
+                return value != 0;
+            default:
+                return "";
+        }
+    }
+
+    private String string(int index) {
+        if (index < 0 || index >= stringCount) {
+            throw new IllegalStateException("Corrupt test data pack - string index " + index);
+        }
+        int offsets = stringTableOffset + 4;
+        int start = buffer.getInt(offsets + index * 4);
+        int end = buffer.getInt(offsets + (index + 1) * 4);
+        int bytes = offsets + (stringCount + 1) * 4;
+        return decode(bytes + start, end - start);
+    }
+
+    // Absolute reads only - the shared mapping is never repositioned, so readers need no locking
+    private String decode(int offset, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(offset);
+        byte[] bytes = new byte[length];
+        slice.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static final class SheetEntry {
+        final int rows;
+        final int columns;
+        final int rowWidthsOffset;
+        final int cellsOffset;
+
+        SheetEntry(int rows, int columns, int rowWidthsOffset, int cellsOffset) {
+            this.rows = rows;
+            this.columns = columns;
+            this.rowWidthsOffset = rowWidthsOffset;
+            this.cellsOffset = cellsOffset;
+        }
+    }
+}
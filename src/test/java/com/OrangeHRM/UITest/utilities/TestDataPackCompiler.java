@@ -0,0 +1,248 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * TestDataPackCompiler - Build step that compiles test data xlsx files into TestDataPack files
+ *
+ * HOW IT WORKS:
+ * - Runs in process-test-classes (exec-maven-plugin in pom.xml), after the test
+ *   classes are compiled and before surefire starts
+ * - Reads every sheet once with POI and writes the typed binary layout described
+ *   in TestDataPack, with a de-duplicated string table
+ * - Records size + modification time of the xlsx, so readers ignore the pack as
+ *   soon as the xlsx is edited
+ * - Skips the work when the existing pack is already up to date
+ *
+ * USAGE:
+ * java ... TestDataPackCompiler src/test/resources/test-data/test-data.xlsx [more.xlsx ...]
+ */
+public class TestDataPackCompiler {
+
+    private static final Logger logger = LogManager.getLogger(TestDataPackCompiler.class);
+
+    public static void main(String[] args) throws IOException {
+        for (String xlsxPath : args) {
+            compile(xlsxPath);
+        }
+    }
+
+    /**
+     * Compile one xlsx into its pack file (TestDataPack.packPathFor)
+     *
+     * @param xlsxPath - Path of the source xlsx
+     * @throws IOException if the xlsx cannot be read or the pack cannot be written
+     */
+    public static void compile(String xlsxPath) throws IOException {
+        File source = new File(xlsxPath);
+        Path packPath = TestDataPack.packPathFor(xlsxPath);
+        if (!source.isFile()) {
+            logger.warn("Test data source {} not found - no pack written", xlsxPath);
+            return;
+        }
+        if (isUpToDate(packPath, source)) {
+            logger.info("Test data pack {} is up to date", packPath);
+            return;
+        }
+
+        long sourceSize = source.length();
+        long sourceLastModified = source.lastModified();
+        List<SheetData> sheets = new ArrayList<>();
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        try (FileInputStream fis = new FileInputStream(source);
+             Workbook workbook = new XSSFWorkbook(fis)) {
+            for (Sheet sheet : workbook) {
+                sheets.add(readSheet(sheet, strings));
+            }
+        }
+
+        Files.createDirectories(packPath.toAbsolutePath().getParent());
+        Path temp = packPath.resolveSibling(packPath.getFileName() + ".tmp");
+        Files.write(temp, serialize(sourceSize, sourceLastModified, sheets, strings));
+        Files.move(temp, packPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Compiled {} ({} sheets, {} strings) into {}", xlsxPath, sheets.size(), strings.size(), packPath);
+    }
+
+    private static boolean isUpToDate(Path packPath, File source) {
+        if (!packPath.toFile().isFile()) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(packPath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(24);
+            channel.read(header, 0);
+            return header.getInt(0) == TestDataPack.MAGIC && header.getInt(4) == TestDataPack.VERSION
+                    && header.getLong(8) == source.length() && header.getLong(16) == source.lastModified();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static SheetData readSheet(Sheet sheet, Map<String, Integer> strings) {
+        int rowCount = sheet.getLastRowNum() + 1;
+        if (sheet.getPhysicalNumberOfRows() == 0) {
+            rowCount = 0;
+        }
+        int columns = 0;
+        for (int r = 0; r < rowCount; r++) {
+            Row row = sheet.getRow(r);
+            if (row != null) {
+                columns = Math.max(columns, Math.max(0, row.getLastCellNum()));
+            }
+        }
+
+        SheetData data = new SheetData(sheet.getSheetName(), rowCount, columns);
+        for (int r = 0; r < rowCount; r++) {
+            Row row = sheet.getRow(r);
+            if (row == null) {
+                data.widths[r] = -1;
+                continue;
+            }
+            int width = Math.max(0, row.getLastCellNum());
+            data.widths[r] = width;
+            for (int c = 0; c < width; c++) {
+                int index = r * columns + c;
+                Cell cell = row.getCell(c);
+                if (cell == null) {
+                    continue;
+                }
+                switch (cell.getCellType()) {
+                    case STRING:
+                        data.types[index] = TestDataPack.STRING;
+                        data.values[index] = intern(strings, cell.getStringCellValue());
+                        break;
+                    case NUMERIC:
+                        data.types[index] = TestDataPack.NUMBER;
+                        data.values[index] = (int) cell.getNumericCellValue();
+                        break;
+                    case BOOLEAN:
+                        data.types[index] = TestDataPack.BOOLEAN;
+                        data.values[index] = cell.getBooleanCellValue() ? 1 : 0;
+                        break;
+                    case FORMULA:
+                        data.types[index] = TestDataPack.FORMULA;
+                        data.values[index] = intern(strings, cell.getCellFormula());
+                        break;
+                    default:
+                        break; // EMPTY
+                }
+            }
+        }
+        return data;
+    }
+
+    private static int intern(Map<String, Integer> strings, String value) {
+        Integer index = strings.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.put(value, index);
+        }
+        return index;
+    }
+
+    private static byte[] serialize(long sourceSize, long sourceLastModified, List<SheetData> sheets,
+                                    Map<String, Integer> strings) throws IOException {
+        // Directory size first - the directory holds absolute offsets of the sheet sections
+        int directorySize = 0;
+        List<byte[]> names = new ArrayList<>();
+        for (SheetData sheet : sheets) {
+            byte[] name = sheet.name.getBytes(StandardCharsets.UTF_8);
+            names.add(name);
+            directorySize += 2 + name.length + 16;
+        }
+        int offset = 32 + directorySize;
+        for (SheetData sheet : sheets) {
+            sheet.rowWidthsOffset = offset;
+            offset += sheet.rows * 4;
+            sheet.cellsOffset = offset;
+            offset += sheet.rows * sheet.columns * TestDataPack.CELL_BYTES;
+        }
+        int stringTableOffset = offset;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(TestDataPack.MAGIC);
+        out.writeInt(TestDataPack.VERSION);
+        out.writeLong(sourceSize);
+        out.writeLong(sourceLastModified);
+        out.writeInt(stringTableOffset);
+        out.writeInt(sheets.size());
+        for (int i = 0; i < sheets.size(); i++) {
+            SheetData sheet = sheets.get(i);
+            out.writeShort(names.get(i).length);
+            out.write(names.get(i));
+            out.writeInt(sheet.rows);
+            out.writeInt(sheet.columns);
+            out.writeInt(sheet.rowWidthsOffset);
+            out.writeInt(sheet.cellsOffset);
+        }
+        for (SheetData sheet : sheets) {
+            for (int width : sheet.widths) {
+                out.writeInt(width);
+            }
+            for (int i = 0; i < sheet.types.length; i++) {
+                out.writeByte(sheet.types[i]);
+                out.writeInt(sheet.values[i]);
+            }
+        }
+
+        List<byte[]> encoded = new ArrayList<>(strings.size());
+        for (String value : strings.keySet()) {
+            encoded.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        out.writeInt(encoded.size());
+        int stringOffset = 0;
+        out.writeInt(stringOffset);
+        for (byte[] value : encoded) {
+            stringOffset += value.length;
+            out.writeInt(stringOffset);
+        }
+        for (byte[] value : encoded) {
+            out.write(value);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static final class SheetData {
+        final String name;
+        final int rows;
+        final int columns;
+        final int[] widths;
+        final byte[] types;
+        final int[] values;
+        int rowWidthsOffset;
+        int cellsOffset;
+
+        SheetData(String name, int rows, int columns) {
+            this.name = name;
+            this.rows = rows;
+            this.columns = columns;
+            this.widths = new int[rows];
+            this.types = new byte[rows * columns];
+            this.values = new int[rows * columns];
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.OrangeHRM.UITest.utilities;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IDataProviderListener;
+import org.testng.IDataProviderMethod;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * TestDataSeedListener - Gives every test and data provider its own reproducible TestDataGenerator stream
+ *
+ * HOW IT WORKS:
+ * - onStart() logs the suite seed once
+ * - beforeDataProviderExecution() reseeds with "dataProvider:" + test method
+ * - beforeInvocation() reseeds with the test identity (class.method[<hex hash of the
+ *   parameter values>], DurationSchedulingListener.rowKeyOf), so a retried or rerun
+ *   row gets exactly the same generated values - also after rows were reordered or
+ *   reduced; rows with identical values share one seed
+ * - afterInvocation() logs seed + identity of failed tests - rerun with
+ *   -DtestDataSeed=<seed> to regenerate their data
+ *
+ * USAGE:
+ * Registered for every suite in META-INF/services/org.testng.ITestNGListener
+ * (src/test/resources) - do not add it to the suite XML files as well
+ */
+public class TestDataSeedListener implements ISuiteListener, IInvokedMethodListener, IDataProviderListener {
+
+    private static final Logger logger = LogManager.getLogger(TestDataSeedListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        logger.info("Test data seed: {} (replay with -DtestDataSeed={})", TestDataGenerator.getSuiteSeed(),
+                TestDataGenerator.getSuiteSeed());
+    }
+
+    @Override
+    public void beforeDataProviderExecution(IDataProviderMethod dataProviderMethod, ITestNGMethod method,
+                                            ITestContext context) {
+        TestDataGenerator.reseed("dataProvider:" + method.getQualifiedName());
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (method.isTestMethod()) {
+            TestDataGenerator.reseed(DurationSchedulingListener.rowKeyOf(result));
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (method.isTestMethod() && result.getStatus() == ITestResult.FAILURE) {
+            logger.info("Test data of {}: seed {}, identity {}", result.getName(), TestDataGenerator.getSuiteSeed(),
+                    DurationSchedulingListener.rowKeyOf(result));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * TestDurationHistory - Persistent store of test durations across runs
+ *
+ * HOW IT WORKS:
+ * - Each test method / data-provider row is stored under a key
+ *   (fully qualified method name + "[<hex hash of the parameter values>]" for
+ *   data-driven rows, see DurationSchedulingListener.rowKeyOf) - rows with
+ *   identical values share one key and one average
+ * - Durations are smoothed with an exponential moving average so one slow run
+ *   does not reorder the whole suite
+ * - The run number of the last failure is kept for the "failed recently" boost
+ * - History is written as a small tab-separated file under testHistoryPath
+ *
+ * FILE FORMAT:
+ * #run=<lastRunNumber>
+ * <key> TAB <averageMillis> TAB <samples> TAB <lastFailedRun>
+ *
+ * USAGE:
+ * TestDurationHistory history = TestDurationHistory.load();
+ * history.record("pkg.Class.method[5e1c2a9b]", 12000, false);
+ * history.save();
+ */
+public class TestDurationHistory {
+
+    private static final Logger logger = LogManager.getLogger(TestDurationHistory.class);
+
+    private static final String HISTORY_FILE = "test-durations.tsv";
+    private static final double SMOOTHING = 0.5; // weight of the newest sample
+
+    private final Path file;
+    private final int run;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private TestDurationHistory(Path file, int previousRun) {
+        this.file = file;
+        this.run = previousRun + 1;
+    }
+
+    /**
+     * Load history from the configured path (empty history if the file is missing or unreadable)
+     */
+    public static TestDurationHistory load() {
+        Path file = Paths.get(TestConfig.TEST_HISTORY_PATH, HISTORY_FILE);
+        int previousRun = 0;
+        Map<String, Entry> loaded = new TreeMap<>();
+
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("#run=")) {
+                        previousRun = Integer.parseInt(line.substring(5).trim());
+                        continue;
+                    }
+                    String[] parts = line.split("\t");
+                    if (parts.length == 4) {
+                        loaded.put(parts[0], new Entry(Double.parseDouble(parts[1]),
+                                Integer.parseInt(parts[2]), Integer.parseInt(parts[3])));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Ignoring unreadable test history {}: {}", file, e.getMessage());
+                loaded.clear();
+                previousRun = 0;
+            }
+        }
+
+        TestDurationHistory history = new TestDurationHistory(file, previousRun);
+        history.entries.putAll(loaded);
+        logger.debug("Loaded {} test duration entries (run {})", loaded.size(), history.run);
+        return history;
+    }
+
+    /**
+     * Record one finished test method / data-provider row
+     *
+     * @param key - Test key (see class docs)
+     * @param durationMillis - Wall-clock duration of the test
+     * @param failed - true if the test failed
+     */
+    public void record(String key, long durationMillis, boolean failed) {
+        entries.compute(key, (k, previous) -> {
+            if (previous == null) {
+                return new Entry(durationMillis, 1, failed ? run : 0);
+            }
+            double average = previous.averageMillis + SMOOTHING * (durationMillis - previous.averageMillis);
+            return new Entry(average, previous.samples + 1, failed ? run : previous.lastFailedRun);
+        });
+    }
+
+    /**
+     * Get the expected duration of a method: the sum of all its recorded rows
+     *
+     * @param methodKey - Fully qualified method name
+     * @return Expected duration in millis, or -1 if the method has never run
+     */
+    public double expectedMillis(String methodKey) {
+        double total = 0;
+        boolean found = false;
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            if (belongsTo(e.getKey(), methodKey)) {
+                total += e.getValue().averageMillis;
+                found = true;
+            }
+        }
+        return found ? total : -1;
+    }
+
+    /**
+     * Check if any row of the method failed within the configured failure window
+     *
+     * @param methodKey - Fully qualified method name
+     */
+    public boolean failedRecently(String methodKey) {
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            int lastFailedRun = e.getValue().lastFailedRun;
+            if (lastFailedRun > 0 && run - lastFailedRun <= TestConfig.TEST_HISTORY_FAILURE_WINDOW
+                    && belongsTo(e.getKey(), methodKey)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Write history to disk (written to a temp file first so a killed run cannot corrupt it)
+     */
+    public synchronized void save() {
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(HISTORY_FILE + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("#run=" + run);
+                writer.newLine();
+                for (Map.Entry<String, Entry> e : new TreeMap<>(entries).entrySet()) {
+                    Entry entry = e.getValue();
+                    writer.write(e.getKey() + "\t" + Math.round(entry.averageMillis) + "\t"
+                            + entry.samples + "\t" + entry.lastFailedRun);
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Test duration history saved: {} ({} entries)", file, entries.size());
+        } catch (IOException e) {
+            logger.warn("Failed to save test duration history: {}", e.getMessage());
+        }
+    }
+
+    private static boolean belongsTo(String key, String methodKey) {
+        return key.equals(methodKey)
+                || (key.startsWith(methodKey) && key.charAt(methodKey.length()) == '[');
+    }
+
+    private static final class Entry {
+        final double averageMillis;
+        final int samples;
+        final int lastFailedRun;
+
+        Entry(double averageMillis, int samples, int lastFailedRun) {
+            this.averageMillis = averageMillis;
+            this.samples = samples;
+            this.lastFailedRun = lastFailedRun;
+        }
+    }
+}
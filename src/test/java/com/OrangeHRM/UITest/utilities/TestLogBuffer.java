@@ -0,0 +1,192 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.StringLayout;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.time.Instant;
+import org.apache.logging.log4j.core.time.MutableInstant;
+import org.apache.logging.log4j.core.time.PreciseClock;
+import org.apache.logging.log4j.core.util.Clock;
+import org.apache.logging.log4j.core.util.ClockFactory;
+
+/**
+ * TestLogBuffer - Log4j2 appender that keeps the last log events of each running test in memory
+ *
+ * Running everything at DEBUG floods the log file for passing tests; running at INFO
+ * loses the context of failures. This appender gets every event the com.OrangeHRM
+ * logger lets through (DEBUG and above - File / Console stay at -Dlog.level), but only
+ * keeps it in a bounded per-test ring buffer. The buffer is thrown away when the test
+ * passes and written to the report only when it fails.
+ *
+ * HOW IT WORKS:
+ * - begin() - Opens a ring buffer for the current test thread
+ * - append() - Called by Log4j2 (on the async logger thread) for every event; the
+ *   event is stored in the ring of the thread that logged it (LogEvent.getThreadId)
+ * - Events logged before the ring was opened are dropped: events of the previous
+ *   test on the same thread that are still queued in the async logger never end
+ *   up in the next test's buffer
+ * - discard() - Drops the buffer of a passed test
+ * - end() - Logs an end marker and waits until it arrives, so every event still
+ *   queued in the async logger is in the buffer, then returns the buffered lines
+ *
+ * CONFIGURATION (log4j2.xml):
+ * <TestLogBuffer name="TestLogBuffer" capacity="500">
+ *     <PatternLayout pattern="${logPattern}"/>
+ * </TestLogBuffer>
+ */
+@Plugin(name = "TestLogBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class TestLogBuffer extends AbstractAppender {
+
+    private static final Logger logger = LogManager.getLogger(TestLogBuffer.class);
+    private static final Marker END_MARKER = MarkerManager.getMarker("TEST_LOG_BUFFER_END");
+    private static final long END_TIMEOUT_MILLIS = 2_000;
+
+    // One ring per test thread - thread ids are captured at log time, also by async loggers
+    private static final Map<Long, Ring> RINGS = new ConcurrentHashMap<>();
+    private static final Clock CLOCK = ClockFactory.getClock(); // Same clock that timestamps the events
+    private static volatile int capacity = 500;
+
+    private TestLogBuffer(String name, Filter filter, Layout<? extends Serializable> layout) {
+        super(name, filter, layout, true, null);
+    }
+
+    @PluginFactory
+    public static TestLogBuffer createAppender(@PluginAttribute("name") String name,
+                                               @PluginAttribute(value = "capacity", defaultInt = 500) int capacity,
+                                               @PluginElement("Layout") Layout<? extends Serializable> layout,
+                                               @PluginElement("Filter") Filter filter) {
+        TestLogBuffer.capacity = Math.max(1, capacity);
+        return new TestLogBuffer(name, filter, layout);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        Ring ring = RINGS.get(event.getThreadId());
+        if (ring == null) {
+            return; // No test running on that thread (suite setup, listeners, ...)
+        }
+        if (END_MARKER.equals(event.getMarker())) {
+            ring.end.countDown();
+            return;
+        }
+        if (ring.isBefore(event.getInstant())) {
+            return; // Queued by the previous test on this thread
+        }
+        Layout<? extends Serializable> layout = getLayout();
+        String line = layout instanceof StringLayout
+                ? ((StringLayout) layout).toSerializable(event)
+                : event.getMessage().getFormattedMessage() + System.lineSeparator();
+        ring.add(line);
+    }
+
+    /**
+     * Start buffering for the test running on the current thread (no-op if already started)
+     */
+    public static void begin() {
+        RINGS.computeIfAbsent(Thread.currentThread().getId(), id -> new Ring(capacity, now()));
+    }
+
+    /**
+     * Drop the buffer of the current thread (test passed or skipped)
+     */
+    public static void discard() {
+        RINGS.remove(Thread.currentThread().getId());
+    }
+
+    /**
+     * Stop buffering for the current thread and return everything captured
+     *
+     * @param testName - Test name for the end marker message
+     * @return List<String> - Buffered log lines, oldest first (empty if begin() was not called)
+     */
+    public static List<String> end(String testName) {
+        long threadId = Thread.currentThread().getId();
+        Ring ring = RINGS.get(threadId);
+        if (ring == null) {
+            return new ArrayList<>();
+        }
+        logger.info(END_MARKER, "Collecting buffered debug log for failed test {}", testName);
+        try {
+            if (!ring.end.await(END_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                ring.add("[TestLogBuffer] timed out waiting for queued log events - buffer may be incomplete"
+                        + System.lineSeparator());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        RINGS.remove(threadId);
+        return ring.snapshot();
+    }
+
+    private static MutableInstant now() {
+        MutableInstant instant = new MutableInstant();
+        if (CLOCK instanceof PreciseClock) {
+            ((PreciseClock) CLOCK).init(instant);
+        } else {
+            instant.initFromEpochMilli(CLOCK.currentTimeMillis(), 0);
+        }
+        return instant;
+    }
+
+    /**
+     * Bounded FIFO of formatted log lines - oldest lines are dropped when full
+     */
+    private static final class Ring {
+        private final ArrayDeque<String> lines;
+        private final int capacity;
+        private final Instant start;
+        private final CountDownLatch end = new CountDownLatch(1);
+        private long dropped;
+
+        Ring(int capacity, Instant start) {
+            this.capacity = capacity;
+            this.start = start;
+            this.lines = new ArrayDeque<>(capacity);
+        }
+
+        // Event logged before this ring was opened
+        boolean isBefore(Instant event) {
+            return event.getEpochMillisecond() < start.getEpochMillisecond()
+                    || (event.getEpochMillisecond() == start.getEpochMillisecond()
+                        && event.getNanoOfMillisecond() < start.getNanoOfMillisecond());
+        }
+
+        synchronized void add(String line) {
+            if (lines.size() == capacity) {
+                lines.removeFirst();
+                dropped++;
+            }
+            lines.addLast(line);
+        }
+
+        synchronized List<String> snapshot() {
+            List<String> copy = new ArrayList<>(lines.size() + 1);
+            if (dropped > 0) {
+                copy.add("[TestLogBuffer] " + dropped + " older lines dropped" + System.lineSeparator());
+            }
+            copy.addAll(lines);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.OrangeHRM.UITest.utilities;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.OrangeHRM.UI.config.TestConfig;
+
+/**
+ * UniqueIdAllocator - Lock-free allocator for collision-free ids of generated users and employees
+ *
+ * Random suffixes (nextInt(1000), nextInt(10000)) collide after a few hundred
+ * generated users - and OrangeHRM rejects duplicate usernames / employee ids, so
+ * every collision is a spurious failure. This allocator never hands out the same
+ * id twice: not between threads, not between surefire forks or CI shards, and not
+ * between consecutive runs against the same OrangeHRM instance.
+ *
+ * ID LAYOUT (10 base36 characters - fits the OrangeHRM employee id field):
+ * [epoch 6][node 2][sequence 2]
+ * - epoch    - seconds since 2025-01-01 when the run started (36^6 seconds - wraps in 2094)
+ * - node     - testIdShard * 36 + surefire fork number, one value per JVM
+ * - sequence - 0..1295 within the epoch
+ *
+ * HOW IT WORKS:
+ * - Each thread takes a range of BLOCK_SIZE values from one AtomicLong (one CAS per
+ *   block) and then counts through it without any shared state
+ * - Value v maps to epoch = startEpoch + v / 1296 and sequence = v % 1296
+ * - An epoch is only used once the clock has reached it, so a later run (which
+ *   starts at its own current second) can never reuse an id of an earlier run
+ * - If a node allocates more than 1296 ids in one second, the allocating thread
+ *   parks until the next second instead of reusing an id
+ * - Seconds rather than minutes: two runs started in the same epoch would share it,
+ *   and a new run always starts at least a second after the previous one
+ *
+ * CONFIGURATION:
+ * - testIdShard (config.properties or -DtestIdShard) - 0..35, set per CI shard / machine
+ * - test.fork.number - set by surefire from ${surefire.forkNumber} (pom.xml)
+ *
+ * USAGE:
+ * String id = UniqueIdAllocator.nextId(); // e.g. "0xqvuy00cv"
+ */
+public final class UniqueIdAllocator {
+
+    private static final Logger logger = LogManager.getLogger(UniqueIdAllocator.class);
+
+    private static final int RADIX = 36;
+    private static final int EPOCH_CHARS = 6;
+    private static final int NODE_CHARS = 2;
+    private static final int SEQUENCE_CHARS = 2;
+    private static final long EPOCH_MODULO = pow(RADIX, EPOCH_CHARS);
+    private static final long SEQUENCES_PER_EPOCH = pow(RADIX, SEQUENCE_CHARS);
+    private static final long EPOCH_ORIGIN_SECONDS = 1_735_689_600L; // 2025-01-01T00:00:00Z
+    private static final int BLOCK_SIZE = 64;
+
+    private static final int NODE = resolveNode();
+    private static final String NODE_PREFIX = pad(Integer.toString(NODE, RADIX), NODE_CHARS);
+    private static final long START_EPOCH = currentEpoch();
+    private static final AtomicLong NEXT_BLOCK = new AtomicLong();
+
+    private static final ThreadLocal<long[]> RANGE = ThreadLocal.withInitial(() -> new long[] {0, 0}); // {next, end}
+
+    private UniqueIdAllocator() {
+    }
+
+    /**
+     * Allocate the next unique id
+     *
+     * @return String - 10 lower case base36 characters, unique across threads, forks, shards and runs
+     */
+    public static String nextId() {
+        long value = nextValue();
+        long epoch = START_EPOCH + value / SEQUENCES_PER_EPOCH;
+        awaitEpoch(epoch);
+        return pad(Long.toString(epoch % EPOCH_MODULO, RADIX), EPOCH_CHARS)
+                + NODE_PREFIX
+                + pad(Long.toString(value % SEQUENCES_PER_EPOCH, RADIX), SEQUENCE_CHARS);
+    }
+
+    /**
+     * @return int - Node number of this JVM (0..1295)
+     */
+    public static int getNode() {
+        return NODE;
+    }
+
+    private static long nextValue() {
+        long[] range = RANGE.get();
+        if (range[0] == range[1]) {
+            range[0] = NEXT_BLOCK.getAndAdd(BLOCK_SIZE);
+            range[1] = range[0] + BLOCK_SIZE;
+        }
+        return range[0]++;
+    }
+
+    // Never use an epoch (second) before the clock reaches it - keeps later runs collision-free
+    private static void awaitEpoch(long epoch) {
+        long now;
+        while ((now = currentEpoch()) < epoch) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.min(1_000, (epoch - now) * 1_000)));
+        }
+    }
+
+    private static long currentEpoch() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) - EPOCH_ORIGIN_SECONDS;
+    }
+
+    private static int resolveNode() {
+        int shard = Integer.parseInt(TestConfig.TEST_ID_SHARD.trim());
+        String forkProperty = System.getProperty("test.fork.number", "");
+        int fork = forkProperty.matches("\\d+") ? Integer.parseInt(forkProperty) : 0;
+        if (shard < 0 || shard >= RADIX || fork >= RADIX) {
+            throw new IllegalStateException("testIdShard must be 0-35 and at most 35 surefire forks are supported"
+                    + " (testIdShard=" + shard + ", fork=" + fork + ")");
+        }
+        int node = shard * RADIX + fork;
+        logger.debug("Unique id node {} (shard {}, fork {})", node, shard, fork);
+        return node;
+    }
+
+    private static String pad(String value, int length) {
+        StringBuilder padded = new StringBuilder(length);
+        for (int i = value.length(); i < length; i++) {
+            padded.append('0');
+        }
+        return padded.append(value).toString();
+    }
+
+    private static long pow(int base, int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+}